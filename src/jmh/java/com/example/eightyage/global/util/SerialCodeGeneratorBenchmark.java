@@ -0,0 +1,44 @@
+package com.example.eightyage.global.util;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시리얼 코드 생성 처리량 비교
+ * 공유 SecureRandom을 쓰는 RandomCodeGenerator와 스레드별 시퀀스 구간을 쓰는 SerialCodeGenerator를 같은 스레드 수로 측정한다.
+ * 구간 할당은 DB 시퀀스 테이블 대신 메모리 카운터로 대신한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class SerialCodeGeneratorBenchmark {
+
+    private final AtomicLong sequence = new AtomicLong(1);
+    private final SerialCodeGenerator serialCodeGenerator =
+            new SerialCodeGenerator(size -> sequence.getAndAdd(size), 1000);
+
+    @Benchmark
+    public String randomCodeGenerator() {
+        return RandomCodeGenerator.generateCouponCode(SerialCodeGenerator.CODE_LENGTH);
+    }
+
+    @Benchmark
+    public String serialCodeGenerator() {
+        return serialCodeGenerator.generate();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String randomCodeGeneratorSingleThread() {
+        return RandomCodeGenerator.generateCouponCode(SerialCodeGenerator.CODE_LENGTH);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String serialCodeGeneratorSingleThread() {
+        return serialCodeGenerator.generate();
+    }
+}
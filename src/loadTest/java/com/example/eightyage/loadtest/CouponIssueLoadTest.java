@@ -0,0 +1,207 @@
+package com.example.eightyage.loadtest;
+
+import com.example.eightyage.domain.coupon.dto.request.CouponRequestDto;
+import com.example.eightyage.domain.coupon.service.CouponService;
+import com.example.eightyage.domain.user.entity.User;
+import com.example.eightyage.domain.user.repository.UserBulkRepository;
+import com.example.eightyage.domain.user.userrole.UserRole;
+import com.example.eightyage.global.exception.ErrorMessage;
+import com.example.eightyage.global.util.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 선착순 쿠폰 발급 부하 테스트
+ * H2와 로컬 Redis(15번 DB)로 앱을 띄우고 가상 사용자들이 동시에 /api/v1/coupons/{id}/issues를 호출한다.
+ * 처리량과 응답 시간 백분위, 결과별 비율을 출력하고 발급 수량이 재고와 같고 사용자별 중복 발급이 없는지 확인한다.
+ *
+ * 설정 (-Dloadtest.*)
+ * users: 가상 사용자 수, quantity: 쿠폰 수량, concurrency: 동시 요청 수,
+ * requests-per-user: 사용자별 요청 수 (2 이상이면 중복 요청), stock-stripes: 쿠폰 재고 분할 수
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("loadtest")
+class CouponIssueLoadTest {
+
+    private static final int USERS = Integer.getInteger("loadtest.users", 1000);
+    private static final int QUANTITY = Integer.getInteger("loadtest.quantity", 100);
+    private static final int CONCURRENCY = Integer.getInteger("loadtest.concurrency", 100);
+    private static final int REQUESTS_PER_USER = Integer.getInteger("loadtest.requests-per-user", 2);
+    private static final int STOCK_STRIPES = Integer.getInteger("loadtest.stock-stripes", 1);
+
+    private static final String ISSUED = "ISSUED";
+    private static final String OUT_OF_STOCK = "OUT_OF_STOCK";
+    private static final String ALREADY_ISSUED = "ALREADY_ISSUED";
+    // 발급 사용자 적재 중이라 재시도를 안내한 요청
+    private static final String ISSUED_USERS_LOADING = "ISSUED_USERS_LOADING";
+    private static final String SERVER_ERROR = "SERVER_ERROR";
+    private static final String OTHER = "OTHER";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private CouponService couponService;
+
+    @Autowired
+    private UserBulkRepository userBulkRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private StringRedisTemplate stringRedisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        stringRedisTemplate.execute((RedisCallback<Void>) connection -> {
+            connection.serverCommands().flushDb();
+            return null;
+        });
+
+        List<User> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(User.builder()
+                    .email("loadtest" + i + "@email.com")
+                    .nickname("loadtest" + i)
+                    .password("password")
+                    .userRole(UserRole.ROLE_USER)
+                    .build());
+        }
+        userBulkRepository.bulkInsertUsers(users);
+    }
+
+    @Test
+    void 선착순_쿠폰_발급_부하_테스트() throws InterruptedException {
+        // given
+        Long couponId = createCoupon();
+        List<String> tokens = createTokens();
+
+        List<String> requests = new ArrayList<>(tokens.size() * REQUESTS_PER_USER);
+        for (int i = 0; i < REQUESTS_PER_USER; i++) {
+            requests.addAll(tokens);
+        }
+        Collections.shuffle(requests, new Random(42));
+
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        URI uri = URI.create("http://localhost:" + port + "/api/v1/coupons/" + couponId + "/issues");
+
+        LoadTestReport report = new LoadTestReport();
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY);
+        CountDownLatch ready = new CountDownLatch(1);
+
+        // when
+        for (String token : requests) {
+            executor.submit(() -> {
+                ready.await();
+                send(client, uri, token, report);
+                return null;
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        ready.countDown();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.MINUTES), "부하 테스트 시간 초과");
+        long elapsed = System.nanoTime() - startedAt;
+
+        System.out.printf("%n[쿠폰 발급 부하 테스트] 사용자 %d명, 수량 %d개, 동시 요청 %d, 사용자별 요청 %d회, 재고 분할 %d%n%s%n",
+                USERS, QUANTITY, CONCURRENCY, REQUESTS_PER_USER, STOCK_STRIPES, report.format(elapsed));
+
+        // then
+        long issuedCount = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM issued_coupon WHERE coupon_id = ?", Long.class, couponId);
+        long duplicatedUsers = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM (SELECT user_id FROM issued_coupon WHERE coupon_id = ? GROUP BY user_id HAVING COUNT(*) > 1) d",
+                Long.class, couponId);
+
+        assertEquals(Math.min(QUANTITY, USERS), issuedCount, "발급 수량이 쿠폰 수량과 다름");
+        assertEquals(0, duplicatedUsers, "중복 발급된 사용자 존재");
+        assertEquals(issuedCount, report.count(ISSUED), "발급 성공 응답 수와 저장된 쿠폰 수가 다름");
+    }
+
+    private Long createCoupon() {
+        couponService.saveCoupon(new CouponRequestDto("부하 테스트 쿠폰", "부하 테스트", QUANTITY,
+                LocalDateTime.now().minusMinutes(1), LocalDateTime.now().plusDays(1), STOCK_STRIPES, false));
+
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM coupon", Long.class);
+    }
+
+    private List<String> createTokens() {
+        List<String> tokens = new ArrayList<>(USERS);
+        jdbcTemplate.query("SELECT id, email, nickname FROM user ORDER BY id", (RowCallbackHandler) rs -> {
+            tokens.add(jwtUtil.createAccessToken(rs.getLong("id"), rs.getString("email"),
+                    rs.getString("nickname"), UserRole.ROLE_USER));
+        });
+        return tokens;
+    }
+
+    private static void send(HttpClient client, URI uri, String token, LoadTestReport report) {
+        HttpRequest request = HttpRequest.newBuilder(uri)
+                .header("Authorization", token)
+                .timeout(Duration.ofSeconds(30))
+                .POST(HttpRequest.BodyPublishers.noBody())
+                .build();
+
+        long startedAt = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            report.record(classify(response), System.nanoTime() - startedAt);
+        } catch (Exception e) {
+            report.record(SERVER_ERROR, System.nanoTime() - startedAt);
+        }
+    }
+
+    private static String classify(HttpResponse<String> response) {
+        if (response.statusCode() == 200) {
+            return ISSUED;
+        }
+        if (response.statusCode() >= 500) {
+            return SERVER_ERROR;
+        }
+
+        String body = response.body();
+        if (body.contains(ErrorMessage.COUPON_OUT_OF_STOCK.getMessage())) {
+            return OUT_OF_STOCK;
+        }
+        if (body.contains(ErrorMessage.COUPON_ALREADY_ISSUED.getMessage())) {
+            return ALREADY_ISSUED;
+        }
+        if (body.contains(ErrorMessage.COUPON_ISSUED_USERS_LOADING.getMessage())) {
+            return ISSUED_USERS_LOADING;
+        }
+        return OTHER;
+    }
+}
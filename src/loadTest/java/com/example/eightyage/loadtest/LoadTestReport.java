@@ -0,0 +1,58 @@
+package com.example.eightyage.loadtest;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 부하 테스트 결과 집계
+ * 요청별 응답 시간과 결과 분류를 모아 처리량, 응답 시간 백분위, 결과별 비율을 계산한다.
+ */
+public class LoadTestReport {
+
+    private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+    private final Map<String, LongAdder> outcomes = new ConcurrentHashMap<>();
+
+    public void record(String outcome, long latencyNanos) {
+        latencies.add(latencyNanos);
+        outcomes.computeIfAbsent(outcome, key -> new LongAdder()).increment();
+    }
+
+    public long count(String outcome) {
+        LongAdder adder = outcomes.get(outcome);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    public long total() {
+        return latencies.size();
+    }
+
+    public String format(long elapsedNanos) {
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).toArray();
+        Arrays.sort(sorted);
+        long total = sorted.length;
+
+        StringBuilder report = new StringBuilder();
+        report.append(String.format("요청 %d건, %.2f초, 처리량 %.1f req/s%n",
+                total, elapsedNanos / 1e9, total / (elapsedNanos / 1e9)));
+        report.append(String.format("응답 시간 p50 %.2fms, p95 %.2fms, p99 %.2fms, max %.2fms%n",
+                percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99),
+                total == 0 ? 0 : sorted[sorted.length - 1] / 1e6));
+
+        new TreeMap<>(outcomes).forEach((outcome, count) -> report.append(String.format("  %-20s %8d건 (%.2f%%)%n",
+                outcome, count.sum(), total == 0 ? 0 : count.sum() * 100.0 / total)));
+        return report.toString();
+    }
+
+    // nearest-rank 방식 백분위 (ms)
+    static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile * sorted.length);
+        return sorted[Math.max(rank - 1, 0)] / 1e6;
+    }
+}
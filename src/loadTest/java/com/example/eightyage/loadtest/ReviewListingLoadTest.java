@@ -0,0 +1,202 @@
+package com.example.eightyage.loadtest;
+
+import com.example.eightyage.domain.product.category.Category;
+import com.example.eightyage.domain.product.entity.Product;
+import com.example.eightyage.domain.product.repository.ProductBulkRepository;
+import com.example.eightyage.domain.product.salestate.SaleState;
+import com.example.eightyage.domain.review.dto.response.ReviewsGetResponseDto;
+import com.example.eightyage.domain.review.entity.Review;
+import com.example.eightyage.domain.review.repository.ReviewBulkRepository;
+import com.example.eightyage.domain.review.repository.ReviewRepository;
+import com.example.eightyage.domain.review.service.ReviewService;
+import com.example.eightyage.domain.user.entity.User;
+import com.example.eightyage.domain.user.repository.UserBulkRepository;
+import com.example.eightyage.domain.user.userrole.UserRole;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 리뷰 목록 조회 비교
+ * 한 제품에 리뷰를 넣고, 엔티티 조회 후 작성자를 지연 로딩하던 방식(이전)과 DTO projection 조회(이후),
+ * 앞쪽 리뷰 캐시를 거치는 서비스 조회(캐시)로 같은 페이지들을 읽는다.
+ * 페이지마다 실행된 SQL 수(Hibernate 통계)와 응답 시간 백분위를 출력한다.
+ *
+ * 설정 (-Dloadtest.*)
+ * reviews: 리뷰 수 (리뷰마다 작성자가 다름), pages: 조회할 페이지 수, page-size: 페이지 크기, rounds: 반복 횟수
+ */
+@SpringBootTest
+@ActiveProfiles("loadtest")
+class ReviewListingLoadTest {
+
+    private static final int REVIEWS = Integer.getInteger("loadtest.reviews", 5000);
+    private static final int PAGES = Integer.getInteger("loadtest.pages", 50);
+    private static final int PAGE_SIZE = Integer.getInteger("loadtest.page-size", 10);
+    private static final int ROUNDS = Integer.getInteger("loadtest.rounds", 5);
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private UserBulkRepository userBulkRepository;
+
+    @Autowired
+    private ProductBulkRepository productBulkRepository;
+
+    @Autowired
+    private ReviewBulkRepository reviewBulkRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long productId;
+
+    @BeforeEach
+    void setUp() {
+        productBulkRepository.bulkInsertProduct(List.of(
+                new Product("리뷰 조회 테스트 제품", Category.SKINCARE, null, 10000, SaleState.FOR_SALE)));
+        productId = productBulkRepository.findMaxProductId();
+
+        long firstUserId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM user", Long.class) + 1;
+        List<User> users = new ArrayList<>(REVIEWS);
+        for (int i = 0; i < REVIEWS; i++) {
+            users.add(User.builder()
+                    .email("reviewer" + firstUserId + "_" + i + "@email.com")
+                    .nickname("reviewer" + i)
+                    .password("password")
+                    .userRole(UserRole.ROLE_USER)
+                    .build());
+        }
+        userBulkRepository.bulkInsertUsers(users);
+
+        Random random = new Random(42);
+        List<Long> userIds = jdbcTemplate.queryForList("SELECT id FROM user WHERE id >= ? ORDER BY id", Long.class, firstUserId);
+        List<Review> reviews = new ArrayList<>(userIds.size());
+        for (Long userId : userIds) {
+            reviews.add(new Review(new User(userId, null, null, null, null), new Product(productId),
+                    (double) (random.nextInt(5) + 1), null));
+        }
+        reviewBulkRepository.bulkInsertReviews(reviews);
+    }
+
+    @Test
+    void 리뷰_목록_조회_SQL_수와_응답_시간_비교() {
+        // given
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+
+        // when
+        System.out.printf("%n[리뷰 목록 조회] 리뷰 %d개, 페이지 %d개 x %d회, 페이지 크기 %d%n",
+                REVIEWS, PAGES, ROUNDS, PAGE_SIZE);
+        LoadTestReport before = measure("이전 (엔티티 + 작성자 지연 로딩)", statistics, readOnly, this::findReviewsBefore);
+        LoadTestReport after = measure("이후 (DTO projection)", statistics, readOnly, this::findReviewsAfter);
+        LoadTestReport cached = measure("캐시 (앞쪽 리뷰 캐시 + 캐시된 전체 개수)", statistics, readOnly, this::findReviewsCached);
+
+        // then
+        long pages = (long) PAGES * ROUNDS;
+        assertEquals(pages, after.count(statements(2)), "DTO projection 조회가 페이지마다 목록, 개수 조회 2번이 아님");
+        assertTrue(before.count(statements(2)) < pages, "이전 방식에서 작성자 지연 로딩이 일어나지 않음");
+        assertTrue(cached.count(statements(2)) <= 1, "캐시를 채운 뒤에도 개수 조회가 실행됨");
+    }
+
+    private LoadTestReport measure(String name, Statistics statistics, TransactionTemplate readOnly, PageReader reader) {
+        LoadTestReport report = new LoadTestReport();
+        long elapsed = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int page = 0; page < PAGES; page++) {
+                PageRequest pageRequest = PageRequest.of(page, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "score"));
+
+                statistics.clear();
+                long startedAt = System.nanoTime();
+                Page<ReviewsGetResponseDto> result = readOnly.execute(status -> reader.read(pageRequest));
+                long latency = System.nanoTime() - startedAt;
+                report.record(statements(statistics.getPrepareStatementCount()), latency);
+                elapsed += latency;
+
+                assertEquals(PAGE_SIZE, result.getNumberOfElements());
+            }
+        }
+
+        System.out.printf("%s%n%s", name, report.format(elapsed));
+        return report;
+    }
+
+    // 이전 방식: 제품 삭제 여부 확인을 위한 조인만 하고 작성자는 매핑하면서 지연 로딩
+    private Page<ReviewsGetResponseDto> findReviewsBefore(PageRequest pageRequest) {
+        List<Review> reviews = entityManager.createQuery(
+                        "SELECT r FROM Review r WHERE r.product.id = :productId AND r.product.deletedAt IS NULL ORDER BY r.score DESC", Review.class)
+                .setParameter("productId", productId)
+                .setFirstResult((int) pageRequest.getOffset())
+                .setMaxResults(pageRequest.getPageSize())
+                .getResultList();
+        Long total = entityManager.createQuery(
+                        "SELECT COUNT(r) FROM Review r WHERE r.product.id = :productId AND r.product.deletedAt IS NULL", Long.class)
+                .setParameter("productId", productId)
+                .getSingleResult();
+
+        List<ReviewsGetResponseDto> content = reviews.stream()
+                .map(review -> ReviewsGetResponseDto.builder()
+                        .id(review.getId())
+                        .userId(review.getUser().getId())
+                        .nickname(review.getUser().getNickname())
+                        .score(review.getScore())
+                        .content(review.getContent())
+                        .createdAt(review.getCreatedAt())
+                        .modifiedAt(review.getModifiedAt())
+                        .build())
+                .toList();
+        return new PageImpl<>(content, pageRequest, total);
+    }
+
+    private Page<ReviewsGetResponseDto> findReviewsAfter(PageRequest pageRequest) {
+        return reviewRepository.findReviewPage(productId,
+                pageRequest.withSort(pageRequest.getSort().and(Sort.by(Sort.Direction.DESC, "id"))));
+    }
+
+    private Page<ReviewsGetResponseDto> findReviewsCached(PageRequest pageRequest) {
+        return reviewService.getReviews(productId, pageRequest);
+    }
+
+    private static String statements(long count) {
+        return "SQL " + count + "회";
+    }
+
+    @FunctionalInterface
+    private interface PageReader {
+        Page<ReviewsGetResponseDto> read(PageRequest pageRequest);
+    }
+}
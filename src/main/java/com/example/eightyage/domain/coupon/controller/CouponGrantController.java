@@ -0,0 +1,47 @@
+package com.example.eightyage.domain.coupon.controller;
+
+import com.example.eightyage.domain.coupon.dto.request.CouponGrantRequestDto;
+import com.example.eightyage.domain.coupon.dto.response.CouponGrantJobResponseDto;
+import com.example.eightyage.domain.coupon.service.CouponGrantService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class CouponGrantController {
+
+    private final CouponGrantService couponGrantService;
+
+    // 사용자 id 목록으로 일괄 지급
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/v1/coupons/{couponId}/grants")
+    public ResponseEntity<CouponGrantJobResponseDto> grant(@PathVariable Long couponId, @Valid @RequestBody CouponGrantRequestDto couponGrantRequestDto) {
+        return ResponseEntity.accepted().body(couponGrantService.grant(couponId, couponGrantRequestDto));
+    }
+
+    // CSV 파일(첫 열: 사용자 id)로 일괄 지급
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/v1/coupons/{couponId}/grants/csv")
+    public ResponseEntity<CouponGrantJobResponseDto> grantFromCsv(@PathVariable Long couponId, @RequestParam("file") MultipartFile file) {
+        return ResponseEntity.accepted().body(couponGrantService.grantFromCsv(couponId, file));
+    }
+
+    // 지급 진행 상황 조회
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/v1/coupons/grants/{jobId}")
+    public ResponseEntity<CouponGrantJobResponseDto> getJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(couponGrantService.getJob(jobId));
+    }
+
+    // 실패한 지급 작업 재개
+    @PreAuthorize("hasRole('ADMIN')")
+    @PostMapping("/v1/coupons/grants/{jobId}/resume")
+    public ResponseEntity<CouponGrantJobResponseDto> resume(@PathVariable Long jobId) {
+        return ResponseEntity.accepted().body(couponGrantService.resume(jobId));
+    }
+}
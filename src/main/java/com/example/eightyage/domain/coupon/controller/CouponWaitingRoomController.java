@@ -0,0 +1,27 @@
+package com.example.eightyage.domain.coupon.controller;
+
+import com.example.eightyage.domain.coupon.dto.response.CouponWaitingResponseDto;
+import com.example.eightyage.domain.coupon.service.CouponWaitingRoomService;
+import com.example.eightyage.global.dto.AuthUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api")
+@RequiredArgsConstructor
+public class CouponWaitingRoomController {
+
+    private final CouponWaitingRoomService couponWaitingRoomService;
+
+    @PostMapping("/v1/coupons/{couponId}/waiting")
+    public ResponseEntity<CouponWaitingResponseDto> enter(@AuthenticationPrincipal AuthUser authUser, @PathVariable Long couponId) {
+        return ResponseEntity.ok(couponWaitingRoomService.enter(authUser, couponId));
+    }
+
+    @GetMapping("/v1/coupons/{couponId}/waiting")
+    public ResponseEntity<CouponWaitingResponseDto> getStatus(@AuthenticationPrincipal AuthUser authUser, @PathVariable Long couponId) {
+        return ResponseEntity.ok(couponWaitingRoomService.getStatus(authUser, couponId));
+    }
+}
@@ -1,8 +1,10 @@
 package com.example.eightyage.domain.coupon.controller;
 
+import com.example.eightyage.domain.coupon.dto.response.CouponIssueTicketResponseDto;
 import com.example.eightyage.domain.coupon.dto.response.IssuedCouponResponseDto;
 import com.example.eightyage.domain.coupon.service.IssuedCouponService;
 import com.example.eightyage.global.dto.AuthUser;
+import com.example.eightyage.global.dto.CursorResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
@@ -21,6 +23,16 @@ public class IssuedCouponController {
         return ResponseEntity.ok(issuedCouponService.issueCoupon(authUser, couponId));
     }
 
+    @PostMapping("/v2/coupons/{couponId}/issues")
+    public ResponseEntity<CouponIssueTicketResponseDto> issueCouponAsync(@AuthenticationPrincipal AuthUser authUser, @PathVariable Long couponId) {
+        return ResponseEntity.accepted().body(issuedCouponService.issueCouponAsync(authUser, couponId));
+    }
+
+    @GetMapping("/v2/coupons/issues/{ticketId}")
+    public ResponseEntity<CouponIssueTicketResponseDto> getIssueTicket(@AuthenticationPrincipal AuthUser authUser, @PathVariable String ticketId) {
+        return ResponseEntity.ok(issuedCouponService.getIssueTicket(authUser, ticketId));
+    }
+
     @GetMapping("/v1/coupons/my")
     public ResponseEntity<Page<IssuedCouponResponseDto>> getMyCoupons(
             @AuthenticationPrincipal AuthUser authUser,
@@ -29,6 +41,14 @@ public class IssuedCouponController {
         return ResponseEntity.ok(issuedCouponService.getMyCoupons(authUser, page, size));
     }
 
+    @GetMapping("/v1/coupons/my/cursor")
+    public ResponseEntity<CursorResponse<IssuedCouponResponseDto>> getMyCouponsByCursor(
+            @AuthenticationPrincipal AuthUser authUser,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(issuedCouponService.getMyCouponsByCursor(authUser, cursor, size));
+    }
+
     @GetMapping("/v1/coupons/{issuedCouponId}")
     public ResponseEntity<IssuedCouponResponseDto> getCoupon(@AuthenticationPrincipal AuthUser authUser, @PathVariable Long issuedCouponId) {
         return ResponseEntity.ok(issuedCouponService.getCoupon(authUser, issuedCouponId));
@@ -0,0 +1,22 @@
+package com.example.eightyage.domain.coupon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class CouponIssuedCountDto {
+
+    private Long couponId;
+    private Integer quantity;
+    private Integer stockStripes;
+    private LocalDateTime endDate;
+    private Long issuedCount;
+
+    // DB 기준 남은 재고
+    public int getRemaining() {
+        return (int) Math.max(quantity - issuedCount, 0);
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.eightyage.domain.coupon.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class CouponStockDriftDto {
+
+    // 보정 전 재고 - 계산한 재고
+    private long drift;
+    // 이번 보정에서 재고를 다시 썼는지 여부
+    private boolean repaired;
+}
@@ -0,0 +1,18 @@
+package com.example.eightyage.domain.coupon.dto.request;
+
+import com.example.eightyage.global.dto.ValidationMessage;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponGrantRequestDto {
+
+    @NotEmpty(message = ValidationMessage.NOT_EMPTY_GRANT_USER_IDS)
+    private List<Long> userIds;
+}
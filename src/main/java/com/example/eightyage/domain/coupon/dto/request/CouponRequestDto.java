@@ -1,6 +1,7 @@
 package com.example.eightyage.domain.coupon.dto.request;
 
 import com.example.eightyage.global.dto.ValidationMessage;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -29,4 +30,12 @@ public class CouponRequestDto {
 
     @NotNull(message = ValidationMessage.NOT_NULL_END_DATE)
     private LocalDateTime endDate;
+
+    // 발급이 몰리는 쿠폰은 재고를 여러 Redis 키로 나눔 (생략 시 단일 재고, 생성 시에만 적용)
+    @Min(value = 1, message = ValidationMessage.INVALID_STOCK_STRIPES)
+    @Max(value = 64, message = ValidationMessage.INVALID_STOCK_STRIPES)
+    private Integer stockStripes;
+
+    // 대기열을 거쳐 입장한 사용자만 발급 (생략 시 사용하지 않음)
+    private Boolean waitingRoom;
 }
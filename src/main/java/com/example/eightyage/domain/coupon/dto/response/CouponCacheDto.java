@@ -0,0 +1,43 @@
+package com.example.eightyage.domain.coupon.dto.response;
+
+import com.example.eightyage.domain.coupon.couponstate.CouponState;
+import com.example.eightyage.domain.coupon.entity.Coupon;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CouponCacheDto {
+
+    private Long id;
+    private String name;
+    private String description;
+    private int quantity;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private CouponState state;
+    private int stockStripes;
+    private boolean waitingRoom;
+
+    public static CouponCacheDto from(Coupon coupon) {
+        return new CouponCacheDto(
+                coupon.getId(),
+                coupon.getName(),
+                coupon.getDescription(),
+                coupon.getQuantity(),
+                coupon.getStartDate(),
+                coupon.getEndDate(),
+                coupon.getState(),
+                coupon.getStockStripes(),
+                coupon.isWaitingRoom()
+        );
+    }
+
+    public Coupon toCoupon() {
+        return Coupon.of(id, name, description, quantity, startDate, endDate, state, stockStripes, waitingRoom);
+    }
+}
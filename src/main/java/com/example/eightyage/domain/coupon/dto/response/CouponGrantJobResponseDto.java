@@ -0,0 +1,30 @@
+package com.example.eightyage.domain.coupon.dto.response;
+
+import com.example.eightyage.domain.coupon.grantstatus.GrantStatus;
+import lombok.Getter;
+
+@Getter
+public class CouponGrantJobResponseDto {
+
+    private final Long jobId;
+    private final Long couponId;
+    private final GrantStatus status;
+    private final int totalCount;
+    private final int reservedCount;
+    private final int processedCount;
+    private final int grantedCount;
+    // 처리했지만 지급하지 않은 사용자 수 (이미 발급받았거나, 없는 사용자거나, 재고 부족)
+    private final int skippedCount;
+
+    public CouponGrantJobResponseDto(Long jobId, Long couponId, GrantStatus status, int totalCount,
+                                     int reservedCount, int processedCount, int grantedCount) {
+        this.jobId = jobId;
+        this.couponId = couponId;
+        this.status = status;
+        this.totalCount = totalCount;
+        this.reservedCount = reservedCount;
+        this.processedCount = processedCount;
+        this.grantedCount = grantedCount;
+        this.skippedCount = processedCount - grantedCount;
+    }
+}
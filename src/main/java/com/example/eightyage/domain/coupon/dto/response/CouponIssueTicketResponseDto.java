@@ -0,0 +1,20 @@
+package com.example.eightyage.domain.coupon.dto.response;
+
+import com.example.eightyage.domain.coupon.ticketstatus.TicketStatus;
+import lombok.Getter;
+
+@Getter
+public class CouponIssueTicketResponseDto {
+
+    private final String ticketId;
+    private final Long couponId;
+    private final TicketStatus status;
+    private final String serialCode;
+
+    public CouponIssueTicketResponseDto(String ticketId, Long couponId, TicketStatus status, String serialCode) {
+        this.ticketId = ticketId;
+        this.couponId = couponId;
+        this.status = status;
+        this.serialCode = serialCode;
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.eightyage.domain.coupon.dto.response;
+
+import com.example.eightyage.domain.coupon.waitingstatus.WaitingStatus;
+import lombok.Getter;
+
+@Getter
+public class CouponWaitingResponseDto {
+
+    private final Long couponId;
+    private final WaitingStatus status;
+    // 대기 순번 (1부터, 대기 중일 때만)
+    private final Long position;
+
+    public CouponWaitingResponseDto(Long couponId, WaitingStatus status, Long position) {
+        this.couponId = couponId;
+        this.status = status;
+        this.position = position;
+    }
+}
@@ -8,6 +8,7 @@ import java.time.LocalDateTime;
 @Getter
 public class IssuedCouponResponseDto {
 
+    private final Long id;
     private final String serialCode;
     private final Status status;
     private final String username;
@@ -16,9 +17,10 @@ public class IssuedCouponResponseDto {
     private final LocalDateTime startAt;
     private final LocalDateTime endAt;
 
-    public IssuedCouponResponseDto(String serialCode, Status status,
+    public IssuedCouponResponseDto(Long id, String serialCode, Status status,
                                    String username, String eventname,
                                    LocalDateTime startAt, LocalDateTime endAt) {
+        this.id = id;
         this.serialCode = serialCode;
         this.status = status;
         this.username = username;
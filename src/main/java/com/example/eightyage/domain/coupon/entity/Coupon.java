@@ -7,12 +7,18 @@ import com.example.eightyage.global.entity.TimeStamped;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Getter
 @NoArgsConstructor
+@Table(name = "coupon",
+        indexes = {
+                @Index(name = "index_state_endAt", columnList = "state, end_at")
+        }
+)
 public class Coupon extends TimeStamped {
 
     @Id
@@ -25,15 +31,41 @@ public class Coupon extends TimeStamped {
     private LocalDateTime startDate;
     @Column(name = "end_at")
     private LocalDateTime endDate;
+    // 상태 전환 쿼리가 (state, end_at) 인덱스를 타도록 NULL 없이 무효로 시작
     @Enumerated(EnumType.STRING)
-    private CouponState state;
+    @Column(nullable = false)
+    @ColumnDefault("'INVALID'")
+    private CouponState state = CouponState.INVALID;
+    // 재고를 나눠 담을 Redis stripe 수 (1이면 단일 재고 키)
+    @ColumnDefault("1")
+    private int stockStripes = 1;
+    // 대기열에 입장한 사용자만 발급
+    @ColumnDefault("0")
+    private boolean waitingRoom = false;
 
     public Coupon(String name, String description, int quantity, LocalDateTime startDate, LocalDateTime endDate) {
+        this(name, description, quantity, startDate, endDate, 1, false);
+    }
+
+    public Coupon(String name, String description, int quantity, LocalDateTime startDate, LocalDateTime endDate,
+                  int stockStripes, boolean waitingRoom) {
         this.name = name;
         this.description = description;
         this.quantity = quantity;
         this.startDate = startDate;
         this.endDate = endDate;
+        this.stockStripes = stockStripes;
+        this.waitingRoom = waitingRoom;
+    }
+
+    // 캐시된 쿠폰 정보로 만든 비영속 쿠폰 (발급 시 연관관계 id 참조용)
+    public static Coupon of(Long id, String name, String description, int quantity,
+                            LocalDateTime startDate, LocalDateTime endDate, CouponState state,
+                            int stockStripes, boolean waitingRoom) {
+        Coupon coupon = new Coupon(name, description, quantity, startDate, endDate, stockStripes, waitingRoom);
+        coupon.id = id;
+        coupon.state = state;
+        return coupon;
     }
 
     public CouponResponseDto toDto() {
@@ -55,6 +87,10 @@ public class Coupon extends TimeStamped {
         this.endDate = couponRequestDto.getEndDate();
     }
 
+    public boolean isStockStriped() {
+        return stockStripes > 1;
+    }
+
     public boolean isValidAt(LocalDateTime time) {
         return (startDate.isBefore(time) || startDate.isEqual(time)) && (endDate.isAfter(time) || endDate.isEqual(time));
     }
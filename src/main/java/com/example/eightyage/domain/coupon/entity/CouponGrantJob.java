@@ -0,0 +1,58 @@
+package com.example.eightyage.domain.coupon.entity;
+
+import com.example.eightyage.domain.coupon.dto.response.CouponGrantJobResponseDto;
+import com.example.eightyage.domain.coupon.grantstatus.GrantStatus;
+import com.example.eightyage.global.entity.TimeStamped;
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "coupon_grant_job")
+public class CouponGrantJob extends TimeStamped {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long couponId;
+    @Enumerated(EnumType.STRING)
+    private GrantStatus status;
+    // 중복을 제외한 대상 사용자 수
+    private int totalCount;
+    // 지급 시작 시 한 번에 차감한 재고
+    private int reservedCount;
+    private int processedCount;
+    private int grantedCount;
+    // 마지막으로 처리한 대상 사용자 id (재개 시 다음 사용자부터 처리)
+    private long lastUserId;
+
+    public CouponGrantJob(Long couponId) {
+        this.couponId = couponId;
+        this.status = GrantStatus.PREPARING;
+    }
+
+    public void start(int totalCount, int reservedCount) {
+        this.totalCount = totalCount;
+        this.reservedCount = reservedCount;
+        this.status = GrantStatus.RUNNING;
+    }
+
+    // 차감한 재고 중 아직 지급하지 않은 수량
+    public int getRemainingReservation() {
+        return reservedCount - grantedCount;
+    }
+
+    public CouponGrantJobResponseDto toDto() {
+        return new CouponGrantJobResponseDto(
+                this.id,
+                this.couponId,
+                this.status,
+                this.totalCount,
+                this.reservedCount,
+                this.processedCount,
+                this.grantedCount
+        );
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.eightyage.domain.coupon.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 쿠폰 일괄 지급 대상 사용자 (CouponGrantBulkRepository에서 JDBC로 저장, 조회)
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "coupon_grant_target",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_job_user", columnNames = {"job_id", "user_id"})
+        }
+)
+public class CouponGrantTarget {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+    private Long jobId;
+    private Long userId;
+}
@@ -0,0 +1,23 @@
+package com.example.eightyage.domain.coupon.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 쿠폰 시리얼 코드 시퀀스
+ * 시리얼 코드 생성기가 시퀀스 구간을 받아 가는 테이블 (구간 할당은 CouponSerialSequenceRepository의 JDBC 쿼리로 처리)
+ */
+@Entity
+@NoArgsConstructor
+@Getter
+@Table(name = "coupon_serial_sequence")
+public class CouponSerialSequence {
+
+    @Id
+    private String name;
+
+    // 다음에 할당할 시퀀스
+    @Column(nullable = false)
+    private Long nextValue;
+}
@@ -4,7 +4,6 @@ import com.example.eightyage.domain.coupon.dto.response.IssuedCouponResponseDto;
 import com.example.eightyage.domain.coupon.status.Status;
 import com.example.eightyage.domain.user.entity.User;
 import com.example.eightyage.global.entity.TimeStamped;
-import com.example.eightyage.global.util.RandomCodeGenerator;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,6 +15,14 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(name = "issued_coupon",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_user_coupon", columnNames = {"user_id", "coupon_id"})
+        },
+        indexes = {
+                @Index(name = "index_userId_status_id", columnList = "user_id, status, id")
+        }
+)
 public class IssuedCoupon extends TimeStamped {
 
     @Id
@@ -34,9 +41,9 @@ public class IssuedCoupon extends TimeStamped {
     @ManyToOne(fetch = FetchType.LAZY)
     private Coupon coupon;
 
-    public static IssuedCoupon create(User user, Coupon coupon) {
+    public static IssuedCoupon create(User user, Coupon coupon, String serialCode) {
         return IssuedCoupon.builder()
-                .serialCode(RandomCodeGenerator.generateCouponCode(10))
+                .serialCode(serialCode)
                 .status(Status.VALID)
                 .user(user)
                 .coupon(coupon)
@@ -45,6 +52,7 @@ public class IssuedCoupon extends TimeStamped {
 
     public IssuedCouponResponseDto toDto() {
         return new IssuedCouponResponseDto(
+                this.id,
                 this.serialCode,
                 this.status,
                 this.user.getNickname(),
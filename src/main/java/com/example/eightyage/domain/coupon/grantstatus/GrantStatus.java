@@ -0,0 +1,8 @@
+package com.example.eightyage.domain.coupon.grantstatus;
+
+public enum GrantStatus {
+    PREPARING,  // 대상 사용자 등록 중
+    RUNNING,    // 지급 중
+    COMPLETED,  // 지급 완료
+    FAILED      // 지급 중 실패 (재개 가능)
+}
@@ -0,0 +1,9 @@
+package com.example.eightyage.domain.coupon.issueresult;
+
+public enum CouponIssueResult {
+    ISSUED,
+    ALREADY_ISSUED,
+    OUT_OF_STOCK,
+    STOCK_NOT_INITIALIZED,
+    ISSUED_USERS_NOT_LOADED
+}
@@ -0,0 +1,174 @@
+package com.example.eightyage.domain.coupon.queue;
+
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
+import com.example.eightyage.domain.coupon.repository.IssuedCouponBulkRepository;
+import com.example.eightyage.domain.coupon.repository.IssuedCouponRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 비동기 쿠폰 발급 처리
+ * Stream에서 발급 요청을 묶음으로 읽어 JDBC batch insert 하고, batch의 행별 결과로 저장하지 못한 요청을 찾아 재고를 복구한다.
+ * 이미 저장된 요청을 다시 읽으면 시리얼 코드, 사용자, 쿠폰이 모두 같은 발급 내역이 있을 때만 발급 완료로 처리한다.
+ */
+@Slf4j
+@Component
+public class CouponIssueConsumer {
+
+    // 처리되지 않은 요청을 다른 consumer가 가져가기까지의 시간
+    private static final Duration STALE_IDLE = Duration.ofMinutes(1);
+    private static final long MAX_DELIVERY_COUNT = 5;
+
+    private final CouponIssueQueue couponIssueQueue;
+    private final IssuedCouponBulkRepository issuedCouponBulkRepository;
+    private final IssuedCouponRepository issuedCouponRepository;
+    private final CouponStockRedisRepository couponStockRedisRepository;
+    private final int batchSize;
+    private final Duration block;
+    private final String consumerName = "consumer-" + UUID.randomUUID();
+
+    private volatile boolean running = false;
+    private Thread worker;
+
+    public CouponIssueConsumer(CouponIssueQueue couponIssueQueue,
+                               IssuedCouponBulkRepository issuedCouponBulkRepository,
+                               IssuedCouponRepository issuedCouponRepository,
+                               CouponStockRedisRepository couponStockRedisRepository,
+                               @Value("${coupon.issue.consumer.batch-size:500}") int batchSize,
+                               @Value("${coupon.issue.consumer.block-ms:2000}") long blockMillis) {
+        this.couponIssueQueue = couponIssueQueue;
+        this.issuedCouponBulkRepository = issuedCouponBulkRepository;
+        this.issuedCouponRepository = issuedCouponRepository;
+        this.couponStockRedisRepository = couponStockRedisRepository;
+        this.batchSize = batchSize;
+        this.block = Duration.ofMillis(blockMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        couponIssueQueue.createGroupIfAbsent();
+
+        running = true;
+        worker = new Thread(this::run, "coupon-issue-consumer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        if (worker != null) {
+            worker.join(block.toMillis() * 2);
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<CouponIssueMessage> messages = couponIssueQueue.read(consumerName, batchSize, block);
+                if (messages.isEmpty()) {
+                    messages = couponIssueQueue.claimStale(consumerName, STALE_IDLE, batchSize);
+                }
+                if (!messages.isEmpty()) {
+                    process(messages);
+                }
+            } catch (Exception e) {
+                // 처리하지 못한 요청은 pending으로 남아 STALE_IDLE 뒤 다시 처리됨
+                log.error("쿠폰 발급 처리 실패", e);
+                sleepQuietly(block);
+            }
+        }
+    }
+
+    void process(List<CouponIssueMessage> messages) {
+        List<CouponIssueMessage> issued = new ArrayList<>(messages.size());
+        List<CouponIssueMessage> failed = new ArrayList<>();
+
+        List<CouponIssueMessage> toInsert = new ArrayList<>(messages.size());
+        for (CouponIssueMessage message : messages) {
+            if (message.getDeliveryCount() > MAX_DELIVERY_COUNT) {
+                compensate(message, failed);
+            } else {
+                toInsert.add(message);
+            }
+        }
+
+        Set<CouponIssueMessage> rejected = Collections.newSetFromMap(new IdentityHashMap<>());
+        if (!toInsert.isEmpty()) {
+            rejected.addAll(insert(toInsert));
+        }
+
+        for (CouponIssueMessage message : toInsert) {
+            if (rejected.contains(message)) {
+                handleRejected(message, issued, failed);
+            } else {
+                issued.add(message);
+            }
+        }
+
+        couponIssueQueue.complete(issued, failed);
+    }
+
+    // 저장하지 못한 요청 반환 (행별 결과를 알 수 없으면 한 건씩 저장해 확인)
+    private List<CouponIssueMessage> insert(List<CouponIssueMessage> messages) {
+        try {
+            return issuedCouponBulkRepository.bulkInsertIssuedCoupons(messages);
+        } catch (DataIntegrityViolationException e) {
+            List<CouponIssueMessage> rejected = new ArrayList<>();
+            for (CouponIssueMessage message : messages) {
+                try {
+                    rejected.addAll(issuedCouponBulkRepository.bulkInsertIssuedCoupons(List.of(message)));
+                } catch (DataIntegrityViolationException ex) {
+                    rejected.add(message);
+                }
+            }
+            return rejected;
+        }
+    }
+
+    private void handleRejected(CouponIssueMessage message, List<CouponIssueMessage> issued,
+                                List<CouponIssueMessage> failed) {
+        // 이전에 저장된 요청을 다시 처리한 경우 (같은 시리얼의 다른 발급 내역이면 저장 실패로 처리)
+        if (issuedCouponRepository.existsBySerialCodeAndUserIdAndCouponId(
+                message.getSerialCode(), message.getUserId(), message.getCouponId())) {
+            issued.add(message);
+            return;
+        }
+
+        // 이미 발급받은 사용자: 발급 기록은 두고 재고만 복구
+        if (issuedCouponRepository.existsByUserIdAndCouponId(message.getUserId(), message.getCouponId())) {
+            couponStockRedisRepository.restoreStock(message.getCouponId(), message.getUserId());
+            failed.add(message);
+            return;
+        }
+
+        log.warn("쿠폰 발급 저장 실패: ticketId={}", message.getTicketId());
+        compensate(message, failed);
+    }
+
+    private void compensate(CouponIssueMessage message, List<CouponIssueMessage> failed) {
+        couponStockRedisRepository.cancel(message.getCouponId(), message.getUserId());
+        failed.add(message);
+    }
+
+    private static void sleepQuietly(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.eightyage.domain.coupon.queue;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.redis.connection.stream.MapRecord;
+
+import java.util.Map;
+import java.util.UUID;
+
+@Getter
+@AllArgsConstructor
+public class CouponIssueMessage {
+
+    private final String recordId;
+    private final String ticketId;
+    private final Long couponId;
+    private final Long userId;
+    private final String serialCode;
+    private final long deliveryCount;
+
+    // 발급 예약 시 티켓 id와 시리얼 코드를 미리 만들어 재처리해도 같은 쿠폰이 저장되도록 함
+    public static CouponIssueMessage create(Long couponId, Long userId, String serialCode) {
+        return new CouponIssueMessage(null, UUID.randomUUID().toString(), couponId, userId, serialCode, 0);
+    }
+
+    public static CouponIssueMessage from(MapRecord<String, String, String> record, long deliveryCount) {
+        Map<String, String> value = record.getValue();
+        return new CouponIssueMessage(
+                record.getId().getValue(),
+                value.get("ticketId"),
+                Long.valueOf(value.get("couponId")),
+                Long.valueOf(value.get("userId")),
+                value.get("serialCode"),
+                deliveryCount
+        );
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.eightyage.domain.coupon.queue;
+
+import com.example.eightyage.domain.coupon.issueresult.CouponIssueResult;
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
+import com.example.eightyage.domain.coupon.ticketstatus.TicketStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.stream.*;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+
+/**
+ * 비동기 쿠폰 발급 Redis Stream
+ * 발급 예약(재고 차감)과 Stream 추가를 한 스크립트로 처리하고, consumer group으로 발급 요청을 나눠 읽는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CouponIssueQueue {
+
+    public static final String STREAM_KEY = "coupon:issue:stream";
+    public static final String CONSUMER_GROUP = "coupon-issue-group";
+    private static final String TICKET_PREFIX = "coupon:issue:ticket:";
+    private static final Duration TICKET_TTL = Duration.ofDays(1);
+
+    private static final RedisScript<Long> ISSUE_ASYNC_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/coupon_issue_async.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 재고를 차감하고 발급 요청을 Stream에 추가
+    public CouponIssueResult enqueue(CouponIssueMessage message, LocalDateTime couponEndAt) {
+        long expireAt = couponEndAt.plusDays(1).atZone(ZoneId.systemDefault()).toEpochSecond();
+
+        Long result = stringRedisTemplate.execute(ISSUE_ASYNC_SCRIPT,
+                List.of(
+                        CouponStockRedisRepository.EVENT_QUANTITY_PREFIX + message.getCouponId(),
+                        CouponStockRedisRepository.EVENT_ISSUED_USERS_PREFIX + message.getCouponId(),
+                        STREAM_KEY,
+                        TICKET_PREFIX + message.getTicketId(),
+                        CouponStockRedisRepository.EVENT_ISSUED_USERS_LOADED_PREFIX + message.getCouponId()
+                ),
+                String.valueOf(message.getUserId()),
+                String.valueOf(expireAt),
+                message.getTicketId(),
+                String.valueOf(message.getCouponId()),
+                message.getSerialCode(),
+                String.valueOf(TICKET_TTL.toSeconds()));
+
+        return CouponStockRedisRepository.toIssueResult(result);
+    }
+
+    // 재고를 따로 예약한 발급 요청의 티켓 생성과 Stream 추가 (분할 재고 쿠폰)
+    public void publish(CouponIssueMessage message) {
+        Map<String, String> fields = Map.of(
+                "ticketId", message.getTicketId(),
+                "couponId", String.valueOf(message.getCouponId()),
+                "userId", String.valueOf(message.getUserId()),
+                "serialCode", message.getSerialCode());
+        Map<String, String> ticket = Map.of(
+                "status", TicketStatus.PENDING.name(),
+                "userId", String.valueOf(message.getUserId()),
+                "couponId", String.valueOf(message.getCouponId()),
+                "serialCode", message.getSerialCode());
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.hMSet(TICKET_PREFIX + message.getTicketId(), ticket);
+            stringConnection.expire(TICKET_PREFIX + message.getTicketId(), TICKET_TTL.toSeconds());
+            stringConnection.xAdd(STREAM_KEY, fields);
+            return null;
+        });
+    }
+
+    public void createGroupIfAbsent() {
+        try {
+            stringRedisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                    .xGroupCreate(STREAM_KEY.getBytes(StandardCharsets.UTF_8), CONSUMER_GROUP, ReadOffset.from("0"), true));
+        } catch (DataAccessException e) {
+            String message = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            if (message == null || !message.contains("BUSYGROUP")) {
+                throw e;
+            }
+        }
+    }
+
+    // 아직 아무도 읽지 않은 발급 요청 조회
+    public List<CouponIssueMessage> read(String consumerName, int count, Duration block) {
+        // StringRedisTemplate은 연결을 StringRedisConnection으로 감싸 넘김
+        List<StringRecord> records = stringRedisTemplate.execute((RedisCallback<List<StringRecord>>) connection ->
+                ((StringRedisConnection) connection).xReadGroupAsString(
+                        Consumer.from(CONSUMER_GROUP, consumerName),
+                        StreamReadOptions.empty().count(count).block(block),
+                        StreamOffset.create(STREAM_KEY, ReadOffset.lastConsumed())));
+
+        if (records == null) {
+            return List.of();
+        }
+        return records.stream().map(record -> CouponIssueMessage.from(record, 1)).toList();
+    }
+
+    // 다른 consumer가 읽고 minIdle 동안 처리하지 못한 발급 요청을 가져옴
+    public List<CouponIssueMessage> claimStale(String consumerName, Duration minIdle, int count) {
+        PendingMessages pendingMessages = stringRedisTemplate.opsForStream()
+                .pending(STREAM_KEY, CONSUMER_GROUP, Range.unbounded(), count);
+
+        Map<String, Long> deliveryCounts = new HashMap<>();
+        for (PendingMessage pendingMessage : pendingMessages) {
+            if (pendingMessage.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0) {
+                deliveryCounts.put(pendingMessage.getIdAsString(), pendingMessage.getTotalDeliveryCount() + 1);
+            }
+        }
+        if (deliveryCounts.isEmpty()) {
+            return List.of();
+        }
+
+        RecordId[] recordIds = deliveryCounts.keySet().stream().map(RecordId::of).toArray(RecordId[]::new);
+        List<StringRecord> records = stringRedisTemplate.execute((RedisCallback<List<StringRecord>>) connection ->
+                ((StringRedisConnection) connection).xClaim(STREAM_KEY, CONSUMER_GROUP, consumerName, minIdle, recordIds));
+        if (records == null) {
+            return List.of();
+        }
+
+        return records.stream()
+                .map(record -> CouponIssueMessage.from(record, deliveryCounts.get(record.getId().getValue())))
+                .toList();
+    }
+
+    // 처리 결과를 티켓에 기록하고 Stream에서 제거
+    public void complete(List<CouponIssueMessage> issued, List<CouponIssueMessage> failed) {
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            markTickets(stringConnection, issued, TicketStatus.ISSUED);
+            markTickets(stringConnection, failed, TicketStatus.FAILED);
+
+            String[] recordIds = recordIds(issued, failed);
+            if (recordIds.length > 0) {
+                stringConnection.xAck(STREAM_KEY, CONSUMER_GROUP, recordIds);
+                stringConnection.xDel(STREAM_KEY, recordIds);
+            }
+            return null;
+        });
+    }
+
+    public Map<Object, Object> findTicket(String ticketId) {
+        return stringRedisTemplate.opsForHash().entries(TICKET_PREFIX + ticketId);
+    }
+
+    private static void markTickets(StringRedisConnection connection, List<CouponIssueMessage> messages, TicketStatus status) {
+        for (CouponIssueMessage message : messages) {
+            connection.hSet(TICKET_PREFIX + message.getTicketId(), "status", status.name());
+        }
+    }
+
+    private static String[] recordIds(List<CouponIssueMessage> issued, List<CouponIssueMessage> failed) {
+        List<String> recordIds = new ArrayList<>(issued.size() + failed.size());
+        issued.forEach(message -> recordIds.add(message.getRecordId()));
+        failed.forEach(message -> recordIds.add(message.getRecordId()));
+        return recordIds.toArray(String[]::new);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.eightyage.domain.coupon.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.function.BiConsumer;
+
+@Repository
+@RequiredArgsConstructor
+public class CouponGrantBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int BATCH_SIZE = 1000;
+
+    // 지급 대상 사용자 저장 (같은 작업에 중복된 사용자는 무시)
+    public void bulkInsertTargets(Long jobId, List<Long> userIds) {
+        String sql = "INSERT IGNORE INTO coupon_grant_target (job_id, user_id) values (?, ?)";
+
+        jdbcTemplate.batchUpdate(sql, userIds, BATCH_SIZE, (ps, argument) -> {
+            ps.setLong(1, jobId);
+            ps.setLong(2, argument);
+        });
+    }
+
+    public int countTargets(Long jobId) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM coupon_grant_target WHERE job_id = ?", Integer.class, jobId);
+        return count == null ? 0 : count;
+    }
+
+    public void deleteTargets(Long jobId) {
+        jdbcTemplate.update("DELETE FROM coupon_grant_target WHERE job_id = ?", jobId);
+    }
+
+    // 지급 대상 사용자를 id 순으로 조회 (지급 가능: 탈퇴하지 않은 사용자이고 아직 발급받지 않음)
+    public int findTargetsAfter(Long jobId, Long couponId, long afterUserId, int limit, BiConsumer<Long, Boolean> consumer) {
+        String sql = "SELECT t.user_id, " +
+                "CASE WHEN u.id IS NOT NULL AND u.deleted_at IS NULL AND ic.id IS NULL THEN 1 ELSE 0 END AS grantable " +
+                "FROM coupon_grant_target t " +
+                "LEFT JOIN user u ON u.id = t.user_id " +
+                "LEFT JOIN issued_coupon ic ON ic.user_id = t.user_id AND ic.coupon_id = ? " +
+                "WHERE t.job_id = ? AND t.user_id > ? ORDER BY t.user_id LIMIT ?";
+
+        int[] count = {0};
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            consumer.accept(rs.getLong("user_id"), rs.getInt("grantable") == 1);
+            count[0]++;
+        }, couponId, jobId, afterUserId, limit);
+        return count[0];
+    }
+}
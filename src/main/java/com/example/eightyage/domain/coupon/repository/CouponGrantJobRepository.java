@@ -0,0 +1,33 @@
+package com.example.eightyage.domain.coupon.repository;
+
+import com.example.eightyage.domain.coupon.entity.CouponGrantJob;
+import com.example.eightyage.domain.coupon.grantstatus.GrantStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface CouponGrantJobRepository extends JpaRepository<CouponGrantJob, Long> {
+
+    // 지급 진행 기록 (같은 작업을 다른 실행이 먼저 진행했으면 0)
+    @Modifying
+    @Query("UPDATE CouponGrantJob j SET j.lastUserId = :lastUserId, " +
+            "j.processedCount = j.processedCount + :processed, j.grantedCount = j.grantedCount + :granted " +
+            "WHERE j.id = :id AND j.lastUserId = :expectedLastUserId")
+    int updateProgress(@Param("id") Long id,
+                       @Param("expectedLastUserId") long expectedLastUserId,
+                       @Param("lastUserId") long lastUserId,
+                       @Param("processed") int processed,
+                       @Param("granted") int granted);
+
+    @Query("SELECT DISTINCT j.couponId FROM CouponGrantJob j WHERE j.status = :status")
+    List<Long> findCouponIdsByStatus(@Param("status") GrantStatus status);
+
+    @Modifying
+    @Query("UPDATE CouponGrantJob j SET j.status = :status WHERE j.id = :id AND j.status = :expected")
+    int updateStatus(@Param("id") Long id, @Param("expected") GrantStatus expected, @Param("status") GrantStatus status);
+}
@@ -1,9 +1,42 @@
 package com.example.eightyage.domain.coupon.repository;
 
+import com.example.eightyage.domain.coupon.dto.CouponIssuedCountDto;
 import com.example.eightyage.domain.coupon.entity.Coupon;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface CouponRepository extends JpaRepository<Coupon, Long> {
+
+    // 기간이 끝났거나 아직 시작하지 않은 유효 쿠폰을 무효로 전환
+    @Modifying
+    @Query("UPDATE Coupon c SET c.state = com.example.eightyage.domain.coupon.couponstate.CouponState.INVALID " +
+            "WHERE c.state = com.example.eightyage.domain.coupon.couponstate.CouponState.VALID " +
+            "AND (c.endDate < :now OR c.startDate > :now)")
+    int invalidateOutOfPeriod(@Param("now") LocalDateTime now);
+
+    // 기간이 시작된 무효 쿠폰을 유효로 전환 (종료되지 않은 무효 쿠폰만 탐색)
+    @Modifying
+    @Query("UPDATE Coupon c SET c.state = com.example.eightyage.domain.coupon.couponstate.CouponState.VALID " +
+            "WHERE c.state = com.example.eightyage.domain.coupon.couponstate.CouponState.INVALID " +
+            "AND c.endDate >= :now AND c.startDate <= :now")
+    int validateInPeriod(@Param("now") LocalDateTime now);
+
+    // Redis의 stripe 수 정보가 없을 때 복구용
+    @Query("SELECT c.stockStripes FROM Coupon c WHERE c.id = :couponId")
+    Optional<Integer> findStockStripesById(@Param("couponId") Long couponId);
+
+    // 재고 보정 대상: 종료되지 않은 쿠폰별 발급 수 (한 번의 GROUP BY 조회)
+    @Query("SELECT new com.example.eightyage.domain.coupon.dto.CouponIssuedCountDto(c.id, c.quantity, c.stockStripes, c.endDate, COUNT(ic.id)) " +
+            "FROM Coupon c LEFT JOIN IssuedCoupon ic ON ic.coupon = c " +
+            "WHERE c.endDate >= :now " +
+            "GROUP BY c.id, c.quantity, c.stockStripes, c.endDate")
+    List<CouponIssuedCountDto> findIssuedCountsNotEnded(@Param("now") LocalDateTime now);
 }
@@ -0,0 +1,45 @@
+package com.example.eightyage.domain.coupon.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 쿠폰 시리얼 코드 시퀀스 구간 할당
+ * 시퀀스를 DB에 두어 재시작하거나 캐시가 초기화되어도 이미 발급한 시리얼 코드를 다시 만들지 않는다.
+ * 구간 단위로 받아 가므로 DB 갱신은 구간 크기만큼의 발급마다 한 번이다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponSerialSequenceRepository {
+
+    private static final String SEQUENCE_NAME = "coupon_serial";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * size개 시퀀스 구간 할당
+     * 호출한 쪽 트랜잭션과 분리해 시퀀스 행 잠금을 바로 푼다. (LAST_INSERT_ID는 같은 트랜잭션 연결에서 읽음)
+     * 반환: 구간의 첫 시퀀스
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long allocate(long size) {
+        if (increment(size) == 0) {
+            jdbcTemplate.update("INSERT IGNORE INTO coupon_serial_sequence (name, next_value) VALUES (?, ?)",
+                    SEQUENCE_NAME, 1L);
+            if (increment(size) == 0) {
+                throw new IllegalStateException("쿠폰 시리얼 코드 시퀀스를 할당할 수 없습니다.");
+            }
+        }
+
+        Long nextValue = jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class);
+        return nextValue - size;
+    }
+
+    private int increment(long size) {
+        return jdbcTemplate.update("UPDATE coupon_serial_sequence SET next_value = LAST_INSERT_ID(next_value + ?) WHERE name = ?",
+                size, SEQUENCE_NAME);
+    }
+}
@@ -0,0 +1,453 @@
+package com.example.eightyage.domain.coupon.repository;
+
+import com.example.eightyage.domain.coupon.dto.CouponIssuedCountDto;
+import com.example.eightyage.domain.coupon.dto.CouponStockDriftDto;
+import com.example.eightyage.domain.coupon.entity.Coupon;
+import com.example.eightyage.domain.coupon.issueresult.CouponIssueResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 쿠폰 재고와 발급 사용자 Redis 저장소
+ * 발급 가능 여부 확인과 재고 차감을 Lua 스크립트로 원자적으로 처리해 분산 락 없이 초과 발급을 막는다.
+ * 분할 재고 쿠폰은 재고와 발급 사용자를 stripe별 키(hash tag로 stripe마다 다른 슬롯)에 나눠 한 키에 요청이 몰리지 않게 한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponStockRedisRepository {
+
+    public static final String EVENT_QUANTITY_PREFIX = "event:quantity:";
+    public static final String EVENT_ISSUED_USERS_PREFIX = "event:issued:";
+    public static final String EVENT_ISSUED_USERS_LOADED_PREFIX = "event:issued:loaded:";
+    private static final String EVENT_ISSUED_USERS_LOADING_PREFIX = "event:issued:loading:";
+    private static final Duration LOADING_LOCK_TTL = Duration.ofMinutes(1);
+
+    private static final String EVENT_STRIPES_PREFIX = "event:stripes:";
+    private static final String EVENT_STRIPE_PREFIX = "event:stripe:";
+    private static final String EVENT_STRIPES_REBALANCING_PREFIX = "event:stripes:rebalancing:";
+    // 재조정 대상 분할 재고 쿠폰 (ZSET, score: 쿠폰 종료 시각 epoch seconds)
+    private static final String EVENT_STRIPED_ACTIVE_KEY = "event:stripes:active";
+    private static final Duration REBALANCING_LOCK_TTL = Duration.ofSeconds(10);
+    // 일괄 지급 작업별로 차감했지만 아직 지급하지 않은 재고 (HASH, field: 작업 id)
+    private static final String EVENT_GRANT_PENDING_PREFIX = "event:grant:pending:";
+
+    private static final RedisScript<Long> ISSUE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/coupon_issue.lua"), Long.class);
+    private static final RedisScript<Long> CANCEL_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/coupon_issue_cancel.lua"), Long.class);
+    private static final RedisScript<Long> STRIPED_ISSUE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/coupon_issue_striped.lua"), Long.class);
+    private static final RedisScript<Long> TAKE_STOCK_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/coupon_stock_take.lua"), Long.class);
+    private static final RedisScript<Long> RECONCILE_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/coupon_stock_reconcile.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final CouponRepository couponRepository;
+
+    // 중복 확인, 재고 차감, 발급 사용자 기록 (발급 사용자 기록은 쿠폰 종료 하루 뒤까지 유지)
+    public CouponIssueResult issue(Coupon coupon, Long userId) {
+        long expireAt = coupon.getEndDate().plusDays(1).atZone(ZoneId.systemDefault()).toEpochSecond();
+
+        if (coupon.isStockStriped()) {
+            return issueStriped(coupon.getId(), userId, coupon.getStockStripes(), expireAt);
+        }
+
+        Long result = stringRedisTemplate.execute(ISSUE_SCRIPT,
+                List.of(EVENT_QUANTITY_PREFIX + coupon.getId(), EVENT_ISSUED_USERS_PREFIX + coupon.getId(), EVENT_ISSUED_USERS_LOADED_PREFIX + coupon.getId()),
+                String.valueOf(userId), String.valueOf(expireAt));
+
+        return toIssueResult(result);
+    }
+
+    // 담당 stripe에서 발급하고, 담당 stripe 재고가 없으면 다른 stripe 재고를 차감
+    private CouponIssueResult issueStriped(Long couponId, Long userId, int stripes, long expireAt) {
+        int home = homeStripe(userId, stripes);
+
+        Long result = stringRedisTemplate.execute(STRIPED_ISSUE_SCRIPT,
+                List.of(stockKey(couponId, home), issuedUsersKey(couponId, home), issuedUsersLoadedKey(couponId, home)),
+                String.valueOf(userId), String.valueOf(expireAt));
+
+        if (result == null || result < 0) {
+            return toIssueResult(result);
+        }
+        if (result == 1) {
+            return CouponIssueResult.ISSUED;
+        }
+
+        for (int i = 1; i < stripes; i++) {
+            if (takeStock(stockKey(couponId, (home + i) % stripes), 1) == 1) {
+                return CouponIssueResult.ISSUED;
+            }
+        }
+
+        // 모든 stripe 소진: 미리 기록한 발급 사용자 제거
+        stringRedisTemplate.opsForSet().remove(issuedUsersKey(couponId, home), String.valueOf(userId));
+        return CouponIssueResult.OUT_OF_STOCK;
+    }
+
+    // 발급(예약 포함) 여부 (발급 사용자 SET이 적재되지 않았으면 null)
+    public Boolean isIssued(Coupon coupon, Long userId) {
+        String issuedUsersKey = EVENT_ISSUED_USERS_PREFIX + coupon.getId();
+        String loadedKey = EVENT_ISSUED_USERS_LOADED_PREFIX + coupon.getId();
+        if (coupon.isStockStriped()) {
+            int home = homeStripe(userId, coupon.getStockStripes());
+            issuedUsersKey = issuedUsersKey(coupon.getId(), home);
+            loadedKey = issuedUsersLoadedKey(coupon.getId(), home);
+        }
+
+        if (!Boolean.TRUE.equals(stringRedisTemplate.hasKey(loadedKey))) {
+            return null;
+        }
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(issuedUsersKey, String.valueOf(userId)));
+    }
+
+    // 발급 스크립트 반환값 변환
+    public static CouponIssueResult toIssueResult(Long result) {
+        if (result == null || result == -3) {
+            return CouponIssueResult.STOCK_NOT_INITIALIZED;
+        }
+        if (result == -1) {
+            return CouponIssueResult.ALREADY_ISSUED;
+        }
+        if (result == -2) {
+            return CouponIssueResult.OUT_OF_STOCK;
+        }
+        if (result == -4) {
+            return CouponIssueResult.ISSUED_USERS_NOT_LOADED;
+        }
+        return CouponIssueResult.ISSUED;
+    }
+
+    // 발급 취소 (재고 복구, 분할 재고는 담당 stripe로 복구)
+    public boolean cancel(Long couponId, Long userId) {
+        int stripes = findStockStripes(couponId);
+        int home = homeStripe(userId, stripes);
+        List<String> keys = stripes > 1
+                ? List.of(stockKey(couponId, home), issuedUsersKey(couponId, home))
+                : List.of(EVENT_QUANTITY_PREFIX + couponId, EVENT_ISSUED_USERS_PREFIX + couponId);
+
+        Long result = stringRedisTemplate.execute(CANCEL_SCRIPT, keys, String.valueOf(userId));
+        return result != null && result == 1;
+    }
+
+    // 이미 발급받은 사용자의 중복 요청: 발급 기록은 두고 재고만 복구
+    public void restoreStock(Long couponId, Long userId) {
+        int stripes = findStockStripes(couponId);
+        String key = stripes > 1 ? stockKey(couponId, homeStripe(userId, stripes)) : EVENT_QUANTITY_PREFIX + couponId;
+        stringRedisTemplate.opsForValue().increment(key);
+    }
+
+    /**
+     * 일괄 지급 재고 차감
+     * 남은 재고 안에서 요청 수량까지 한 번에 차감한다. (분할 재고는 stripe 순서대로 차감)
+     * 반환: 실제 차감한 수량
+     */
+    public int reserveStock(Long couponId, int amount) {
+        int stripes = findStockStripes(couponId);
+        if (stripes <= 1) {
+            return (int) takeStock(EVENT_QUANTITY_PREFIX + couponId, amount);
+        }
+
+        long reserved = 0;
+        for (int stripe = 0; stripe < stripes && reserved < amount; stripe++) {
+            reserved += takeStock(stockKey(couponId, stripe), amount - reserved);
+        }
+        return (int) reserved;
+    }
+
+    // 차감했지만 지급하지 않은 재고 반환 (분할 재고는 첫 stripe로 돌려주고 재조정이 나눔)
+    public void releaseStock(Long couponId, int amount) {
+        if (amount <= 0) {
+            return;
+        }
+
+        int stripes = findStockStripes(couponId);
+        String key = stripes > 1 ? stockKey(couponId, 0) : EVENT_QUANTITY_PREFIX + couponId;
+        stringRedisTemplate.opsForValue().increment(key, amount);
+    }
+
+    // 재고 보정이 지급 중인 재고를 발급된 것으로 보도록 작업별 남은 차감 수량 기록
+    public void setGrantPending(Long couponId, Long jobId, int pending) {
+        stringRedisTemplate.opsForHash().put(EVENT_GRANT_PENDING_PREFIX + couponId, String.valueOf(jobId), String.valueOf(pending));
+    }
+
+    public void clearGrantPending(Long couponId, Long jobId) {
+        stringRedisTemplate.opsForHash().delete(EVENT_GRANT_PENDING_PREFIX + couponId, String.valueOf(jobId));
+    }
+
+    // 발급 사용자 적재 중복 실행 방지
+    public boolean tryLockIssuedUsersLoading(Long couponId) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(EVENT_ISSUED_USERS_LOADING_PREFIX + couponId, "1", LOADING_LOCK_TTL));
+    }
+
+    public void unlockIssuedUsersLoading(Long couponId) {
+        stringRedisTemplate.delete(EVENT_ISSUED_USERS_LOADING_PREFIX + couponId);
+    }
+
+    public void addIssuedUsers(Long couponId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        int stripes = findStockStripes(couponId);
+        if (stripes <= 1) {
+            String[] members = userIds.stream().map(String::valueOf).toArray(String[]::new);
+            stringRedisTemplate.opsForSet().add(EVENT_ISSUED_USERS_PREFIX + couponId, members);
+            return;
+        }
+
+        Map<Integer, List<String>> membersByStripe = new HashMap<>();
+        for (Long userId : userIds) {
+            membersByStripe.computeIfAbsent(homeStripe(userId, stripes), stripe -> new ArrayList<>())
+                    .add(String.valueOf(userId));
+        }
+        membersByStripe.forEach((stripe, members) ->
+                stringRedisTemplate.opsForSet().add(issuedUsersKey(couponId, stripe), members.toArray(String[]::new)));
+    }
+
+    // 발급 사용자 적재 완료 표시 (발급 사용자 SET과 같은 시각에 만료)
+    public void markIssuedUsersLoaded(Long couponId, LocalDateTime couponEndAt) {
+        Instant expireAt = couponEndAt.plusDays(1).atZone(ZoneId.systemDefault()).toInstant();
+
+        int stripes = findStockStripes(couponId);
+        if (stripes <= 1) {
+            stringRedisTemplate.opsForValue().set(EVENT_ISSUED_USERS_LOADED_PREFIX + couponId, "1");
+            stringRedisTemplate.expireAt(EVENT_ISSUED_USERS_LOADED_PREFIX + couponId, expireAt);
+            stringRedisTemplate.expireAt(EVENT_ISSUED_USERS_PREFIX + couponId, expireAt);
+            return;
+        }
+
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            stringRedisTemplate.opsForValue().set(issuedUsersLoadedKey(couponId, stripe), "1");
+            stringRedisTemplate.expireAt(issuedUsersLoadedKey(couponId, stripe), expireAt);
+            stringRedisTemplate.expireAt(issuedUsersKey(couponId, stripe), expireAt);
+        }
+    }
+
+    // 재고와 stripe 수 기록 (단일 재고 쿠폰도 stripe 수 1을 기록해 키가 없으면 유실로 판단)
+    public void initStock(Long couponId, int quantity, int stripes) {
+        if (stripes <= 1) {
+            stringRedisTemplate.opsForValue().set(EVENT_QUANTITY_PREFIX + couponId, String.valueOf(quantity));
+            stringRedisTemplate.opsForValue().set(EVENT_STRIPES_PREFIX + couponId, "1");
+            return;
+        }
+
+        long[] stocks = splitStock(quantity, stripes);
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            stringRedisTemplate.opsForValue().set(stockKey(couponId, stripe), String.valueOf(stocks[stripe]));
+        }
+        stringRedisTemplate.opsForValue().set(EVENT_STRIPES_PREFIX + couponId, String.valueOf(stripes));
+    }
+
+    // 재조정 대상 분할 재고 쿠폰 등록 (종료 시각이 바뀌면 갱신)
+    public void registerStripedCoupon(Long couponId, LocalDateTime couponEndAt) {
+        stringRedisTemplate.opsForZSet().add(EVENT_STRIPED_ACTIVE_KEY, String.valueOf(couponId),
+                couponEndAt.atZone(ZoneId.systemDefault()).toEpochSecond());
+    }
+
+    // 재조정 대상 분할 재고 쿠폰 id (종료된 쿠폰은 함께 제거)
+    public List<Long> findActiveStripedCouponIds(LocalDateTime now) {
+        long nowEpochSecond = now.atZone(ZoneId.systemDefault()).toEpochSecond();
+        stringRedisTemplate.opsForZSet().removeRangeByScore(EVENT_STRIPED_ACTIVE_KEY, Double.NEGATIVE_INFINITY, nowEpochSecond - 1);
+
+        Set<String> couponIds = stringRedisTemplate.opsForZSet().range(EVENT_STRIPED_ACTIVE_KEY, 0, -1);
+        return couponIds == null ? List.of() : couponIds.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 단일 재고 쿠폰 재고 보정
+     * 쿠폰마다 보정 스크립트를 pipeline으로 한 번에 보낸다. (pipeline 안에서는 NOSCRIPT 재시도를 할 수 없어 EVALSHA 대신 EVAL 사용)
+     * 재고 키가 없으면 항상 다시 쓰고, 차이가 있는 재고는 repairCouponIds에 든 쿠폰만 다시 쓴다.
+     * 반환: 쿠폰 순서대로 보정 전 재고 - 계산한 재고와 다시 썼는지 여부
+     */
+    public List<CouponStockDriftDto> reconcile(List<CouponIssuedCountDto> coupons, Set<Long> repairCouponIds) {
+        if (coupons.isEmpty()) {
+            return List.of();
+        }
+
+        byte[] script = bytes(RECONCILE_SCRIPT.getScriptAsString());
+        List<Object> results = stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (CouponIssuedCountDto coupon : coupons) {
+                connection.scriptingCommands().eval(script, ReturnType.MULTI, 3,
+                        bytes(EVENT_QUANTITY_PREFIX + coupon.getCouponId()),
+                        bytes(EVENT_ISSUED_USERS_PREFIX + coupon.getCouponId()),
+                        bytes(EVENT_GRANT_PENDING_PREFIX + coupon.getCouponId()),
+                        bytes(String.valueOf(coupon.getQuantity())),
+                        bytes(String.valueOf(coupon.getIssuedCount())),
+                        bytes(repairCouponIds.contains(coupon.getCouponId()) ? "1" : "0"));
+            }
+            return null;
+        });
+
+        return results.stream().map(result -> {
+            List<?> values = (List<?>) result;
+            return new CouponStockDriftDto(((Number) values.get(0)).longValue(), ((Number) values.get(1)).longValue() == 1);
+        }).toList();
+    }
+
+    /**
+     * 분할 재고 쿠폰 재고 보정
+     * stripe마다 슬롯이 달라 전체 재고를 원자적으로 다시 쓸 수 없으므로, 모든 stripe 재고가 없을 때(Redis 초기화)만 남은 재고를 다시 나눠 쓰고
+     * 그 밖에는 차이만 계산한다. (stripe 사이 재고 이동은 재조정이 맡음)
+     * 반환: 보정 전 재고 합 - 계산한 재고와 다시 썼는지 여부
+     */
+    public CouponStockDriftDto reconcileStriped(CouponIssuedCountDto coupon) {
+        Long couponId = coupon.getCouponId();
+        int stripes = coupon.getStockStripes();
+
+        long stock = 0;
+        long reserved = 0;
+        boolean initialized = false;
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            String stripeStock = stringRedisTemplate.opsForValue().get(stockKey(couponId, stripe));
+            if (stripeStock != null) {
+                stock += Long.parseLong(stripeStock);
+                initialized = true;
+            }
+            Long stripeIssued = stringRedisTemplate.opsForSet().size(issuedUsersKey(couponId, stripe));
+            reserved += stripeIssued == null ? 0 : stripeIssued;
+        }
+
+        long pending = 0;
+        for (Object jobPending : stringRedisTemplate.opsForHash().values(EVENT_GRANT_PENDING_PREFIX + couponId)) {
+            pending += Long.parseLong((String) jobPending);
+        }
+
+        int target = (int) Math.max(coupon.getQuantity() - Math.max(coupon.getIssuedCount(), reserved) - pending, 0);
+        if (!initialized) {
+            initStock(couponId, target, stripes);
+        }
+        // Redis 초기화로 재조정 대상 목록이 비어도 다음 보정에서 다시 채움
+        registerStripedCoupon(couponId, coupon.getEndDate());
+        return new CouponStockDriftDto(stock - target, !initialized);
+    }
+
+    /**
+     * 분할 재고 재조정
+     * 목표치(전체 재고 / stripe 수)를 넘는 stripe에서 남은 재고 안에서만 차감한 만큼만 부족한 stripe에 더하므로
+     * 어떤 stripe도 음수가 되지 않고 전체 재고도 늘어나지 않는다. 음수가 된 stripe가 있으면 다른 stripe 재고로 메운다.
+     * 반환: 옮긴 재고 수량
+     */
+    public long rebalance(Long couponId) {
+        int stripes = findStockStripes(couponId);
+        if (stripes <= 1) {
+            return 0;
+        }
+
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(EVENT_STRIPES_REBALANCING_PREFIX + couponId, "1", REBALANCING_LOCK_TTL))) {
+            return 0;
+        }
+
+        try {
+            long[] stocks = new long[stripes];
+            long total = 0;
+            long min = Long.MAX_VALUE;
+            for (int stripe = 0; stripe < stripes; stripe++) {
+                String stock = stringRedisTemplate.opsForValue().get(stockKey(couponId, stripe));
+                if (stock == null) {
+                    return 0;
+                }
+                stocks[stripe] = Long.parseLong(stock);
+                total += stocks[stripe];
+                min = Math.min(min, stocks[stripe]);
+            }
+
+            // 빈 stripe가 없거나 나눌 재고가 없으면 재조정하지 않음
+            if (min > 0 || total <= 0) {
+                return 0;
+            }
+
+            long target = total / stripes;
+            long taken = 0;
+            for (int stripe = 0; stripe < stripes; stripe++) {
+                if (stocks[stripe] > target) {
+                    taken += takeStock(stockKey(couponId, stripe), stocks[stripe] - target);
+                }
+            }
+
+            long moved = taken;
+            for (int stripe = 0; stripe < stripes && taken > 0; stripe++) {
+                if (stocks[stripe] < target) {
+                    long amount = Math.min(target - stocks[stripe], taken);
+                    stringRedisTemplate.opsForValue().increment(stockKey(couponId, stripe), amount);
+                    taken -= amount;
+                }
+            }
+            // 조회 이후 재고가 바뀌어 남은 수량은 첫 stripe로 되돌림
+            if (taken > 0) {
+                stringRedisTemplate.opsForValue().increment(stockKey(couponId, 0), taken);
+            }
+            return moved;
+        } finally {
+            stringRedisTemplate.delete(EVENT_STRIPES_REBALANCING_PREFIX + couponId);
+        }
+    }
+
+    // 수량을 stripe 수만큼 나누고 나머지는 앞쪽 stripe에 하나씩 배분
+    static long[] splitStock(int quantity, int stripes) {
+        long[] stocks = new long[stripes];
+        for (int stripe = 0; stripe < stripes; stripe++) {
+            stocks[stripe] = quantity / stripes + (stripe < quantity % stripes ? 1 : 0);
+        }
+        return stocks;
+    }
+
+    static int homeStripe(Long userId, int stripes) {
+        return Math.floorMod(Long.hashCode(userId), stripes);
+    }
+
+    private long takeStock(String key, long amount) {
+        Long taken = stringRedisTemplate.execute(TAKE_STOCK_SCRIPT, List.of(key), String.valueOf(amount));
+        return taken == null ? 0 : taken;
+    }
+
+    // 발급 경로 밖(취소, 복구, 적재, 재조정)에서 쓰는 stripe 수 조회
+    // 키가 없으면(Redis 초기화) 1로 가정하지 않고 DB의 쿠폰 설정으로 다시 기록
+    private int findStockStripes(Long couponId) {
+        String stripes = stringRedisTemplate.opsForValue().get(EVENT_STRIPES_PREFIX + couponId);
+        if (stripes != null) {
+            return Integer.parseInt(stripes);
+        }
+
+        int stockStripes = couponRepository.findStockStripesById(couponId)
+                .orElseThrow(() -> new IllegalStateException("쿠폰 stripe 수를 복구할 수 없습니다: couponId=" + couponId));
+        stringRedisTemplate.opsForValue().setIfAbsent(EVENT_STRIPES_PREFIX + couponId, String.valueOf(stockStripes));
+        return stockStripes;
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    // {couponId:stripe} hash tag로 같은 stripe의 키는 같은 슬롯에 두어 스크립트로 함께 다룸
+    private static String stockKey(Long couponId, int stripe) {
+        return EVENT_STRIPE_PREFIX + "{" + couponId + ":" + stripe + "}:quantity";
+    }
+
+    private static String issuedUsersKey(Long couponId, int stripe) {
+        return EVENT_STRIPE_PREFIX + "{" + couponId + ":" + stripe + "}:issued";
+    }
+
+    private static String issuedUsersLoadedKey(Long couponId, int stripe) {
+        return EVENT_STRIPE_PREFIX + "{" + couponId + ":" + stripe + "}:loaded";
+    }
+}
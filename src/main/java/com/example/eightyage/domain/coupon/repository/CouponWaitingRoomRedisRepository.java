@@ -0,0 +1,102 @@
+package com.example.eightyage.domain.coupon.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 쿠폰 발급 대기열 Redis 저장소
+ * 대기열 ZSET(score: 도착 시각)에서 먼저 온 사용자부터 입장 ZSET(score: 입장 만료 시각)으로 옮긴다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class CouponWaitingRoomRedisRepository {
+
+    private static final String WAITING_PREFIX = "coupon:waiting:";
+    private static final String ADMITTED_PREFIX = "coupon:admitted:";
+    private static final String ISSUED_COUNT_PREFIX = "coupon:waiting:issued:";
+    private static final String ADMITTING_PREFIX = "coupon:waiting:admitting:";
+    private static final String ACTIVE_KEY = "coupon:waiting:active";
+
+    private static final RedisScript<Long> ADMIT_SCRIPT =
+            RedisScript.of(new ClassPathResource("scripts/coupon_waiting_admit.lua"), Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    // 대기열 등록 (이미 대기 중이면 처음 도착 시각 유지)
+    public void enter(Long couponId, Long userId, Instant arrivedAt, Instant expireAt) {
+        stringRedisTemplate.opsForZSet().addIfAbsent(WAITING_PREFIX + couponId, String.valueOf(userId), arrivedAt.toEpochMilli());
+        stringRedisTemplate.expireAt(WAITING_PREFIX + couponId, expireAt);
+        stringRedisTemplate.opsForSet().add(ACTIVE_KEY, String.valueOf(couponId));
+    }
+
+    // 대기 순번 (0부터, 대기 중이 아니면 null)
+    public Long findRank(Long couponId, Long userId) {
+        return stringRedisTemplate.opsForZSet().rank(WAITING_PREFIX + couponId, String.valueOf(userId));
+    }
+
+    public boolean isAdmitted(Long couponId, Long userId, Instant now) {
+        Double admittedUntil = stringRedisTemplate.opsForZSet().score(ADMITTED_PREFIX + couponId, String.valueOf(userId));
+        return admittedUntil != null && admittedUntil >= now.toEpochMilli();
+    }
+
+    // 입장한 사용자의 발급 완료 (입장 해제 후 발급 수 집계)
+    public void complete(Long couponId, Long userId) {
+        stringRedisTemplate.opsForZSet().remove(ADMITTED_PREFIX + couponId, String.valueOf(userId));
+        stringRedisTemplate.opsForValue().increment(ISSUED_COUNT_PREFIX + couponId);
+    }
+
+    // 발급하지 못한 입장 해제 (발급 수에는 넣지 않아 다음 입장 인원이 줄지 않음)
+    public void release(Long couponId, Long userId) {
+        stringRedisTemplate.opsForZSet().remove(ADMITTED_PREFIX + couponId, String.valueOf(userId));
+    }
+
+    // 직전 입장 주기 동안 발급된 수를 읽고 초기화
+    public long getAndResetIssuedCount(Long couponId) {
+        String issued = stringRedisTemplate.opsForValue().getAndDelete(ISSUED_COUNT_PREFIX + couponId);
+        return issued == null ? 0 : Long.parseLong(issued);
+    }
+
+    public long admit(Long couponId, Instant now, Duration admissionTtl, long maxAdmitted) {
+        Long admitted = stringRedisTemplate.execute(ADMIT_SCRIPT,
+                List.of(WAITING_PREFIX + couponId, ADMITTED_PREFIX + couponId),
+                String.valueOf(now.toEpochMilli()),
+                String.valueOf(now.plus(admissionTtl).toEpochMilli()),
+                String.valueOf(maxAdmitted));
+        return admitted == null ? 0 : admitted;
+    }
+
+    // 입장 주기마다 한 인스턴스만 입장 처리 (락은 주기가 끝나면 만료)
+    public boolean tryLockAdmission(Long couponId, Duration interval) {
+        return Boolean.TRUE.equals(stringRedisTemplate.opsForValue()
+                .setIfAbsent(ADMITTING_PREFIX + couponId, "1", interval));
+    }
+
+    public Set<String> findActiveCouponIds() {
+        return stringRedisTemplate.opsForSet().members(ACTIVE_KEY);
+    }
+
+    // 대기열이 비었거나 만료된 쿠폰은 입장 대상에서 제외
+    public boolean deactivateIfEmpty(Long couponId) {
+        Long waiting = stringRedisTemplate.opsForZSet().zCard(WAITING_PREFIX + couponId);
+        if (waiting != null && waiting > 0) {
+            return false;
+        }
+        stringRedisTemplate.opsForSet().remove(ACTIVE_KEY, String.valueOf(couponId));
+
+        // 제외하는 사이 등록된 사용자가 있으면 다시 입장 대상에 추가
+        waiting = stringRedisTemplate.opsForZSet().zCard(WAITING_PREFIX + couponId);
+        if (waiting != null && waiting > 0) {
+            stringRedisTemplate.opsForSet().add(ACTIVE_KEY, String.valueOf(couponId));
+            return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.eightyage.domain.coupon.repository;
+
+import com.example.eightyage.domain.coupon.queue.CouponIssueMessage;
+import com.example.eightyage.domain.coupon.status.Status;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.BatchUpdateException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+@Repository
+@RequiredArgsConstructor
+public class IssuedCouponBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 번의 batch로 저장하고 저장하지 못한 요청을 반환 (행별 결과로 판단)
+    // 드라이버가 실패한 행에서 batch를 멈춰 행별 결과를 알 수 없으면 예외를 그대로 던짐
+    public List<CouponIssueMessage> bulkInsertIssuedCoupons(List<CouponIssueMessage> messages) {
+        String sql = "INSERT INTO issued_coupon (serial_code, status, user_id, coupon_id, created_at, modified_at) " +
+                "values (?, ?, ?, ?, ?, ?)";
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+                @Override
+                public void setValues(PreparedStatement ps, int i) throws SQLException {
+                    CouponIssueMessage message = messages.get(i);
+                    ps.setString(1, message.getSerialCode());
+                    ps.setString(2, Status.VALID.name());
+                    ps.setLong(3, message.getUserId());
+                    ps.setLong(4, message.getCouponId());
+                    ps.setTimestamp(5, now);
+                    ps.setTimestamp(6, now);
+                }
+
+                @Override
+                public int getBatchSize() {
+                    return messages.size();
+                }
+            });
+            return List.of();
+        } catch (DataIntegrityViolationException e) {
+            BatchUpdateException batchException = findBatchUpdateException(e);
+            if (batchException == null || batchException.getUpdateCounts().length != messages.size()) {
+                throw e;
+            }
+
+            int[] updateCounts = batchException.getUpdateCounts();
+            List<CouponIssueMessage> rejected = new ArrayList<>();
+            for (int i = 0; i < updateCounts.length; i++) {
+                if (updateCounts[i] == Statement.EXECUTE_FAILED) {
+                    rejected.add(messages.get(i));
+                }
+            }
+            return rejected;
+        }
+    }
+
+    private static BatchUpdateException findBatchUpdateException(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BatchUpdateException batchUpdateException) {
+                return batchUpdateException;
+            }
+        }
+        return null;
+    }
+
+    // 일괄 지급 (userIds와 serialCodes는 같은 순서)
+    public void bulkInsertGrantedCoupons(Long couponId, List<Long> userIds, List<String> serialCodes) {
+        String sql = "INSERT INTO issued_coupon (serial_code, status, user_id, coupon_id, created_at, modified_at) " +
+                "values (?, ?, ?, ?, ?, ?)";
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setString(1, serialCodes.get(i));
+                ps.setString(2, Status.VALID.name());
+                ps.setLong(3, userIds.get(i));
+                ps.setLong(4, couponId);
+                ps.setTimestamp(5, now);
+                ps.setTimestamp(6, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return userIds.size();
+            }
+        });
+    }
+
+    // 쿠폰의 발급 사용자 id를 발급 id 순으로 조회
+    public int findIssuedUserIdsAfter(Long couponId, long afterId, int limit, BiConsumer<Long, Long> consumer) {
+        String sql = "SELECT id, user_id FROM issued_coupon WHERE coupon_id = ? AND id > ? ORDER BY id LIMIT ?";
+
+        int[] count = {0};
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            consumer.accept(rs.getLong("id"), rs.getLong("user_id"));
+            count[0]++;
+        }, couponId, afterId, limit);
+        return count[0];
+    }
+}
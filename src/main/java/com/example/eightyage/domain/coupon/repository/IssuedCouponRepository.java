@@ -1,14 +1,55 @@
 package com.example.eightyage.domain.coupon.repository;
 
+import com.example.eightyage.domain.coupon.dto.response.IssuedCouponResponseDto;
 import com.example.eightyage.domain.coupon.entity.IssuedCoupon;
 import com.example.eightyage.domain.coupon.status.Status;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface IssuedCouponRepository extends JpaRepository<IssuedCoupon, Long> {
     boolean existsByUserIdAndCouponId(Long userId, Long couponId);
-    Page<IssuedCoupon> findAllByUserIdAndStatus(Long userId, Status status, Pageable pageable);
+    // 시리얼 코드의 발급 내역이 해당 사용자, 쿠폰의 것인지 확인
+    boolean existsBySerialCodeAndUserIdAndCouponId(String serialCode, Long userId, Long couponId);
+
+    // 내 쿠폰 목록: 사용자, 쿠폰 정보를 한 번에 조회 (index_userId_status_id로 필터와 정렬, 개수 조회 처리)
+    @Query(value = "SELECT new com.example.eightyage.domain.coupon.dto.response.IssuedCouponResponseDto(" +
+            "ic.id, ic.serialCode, ic.status, u.nickname, c.name, c.startDate, c.endDate) " +
+            "FROM IssuedCoupon ic JOIN ic.user u JOIN ic.coupon c " +
+            "WHERE ic.user.id = :userId AND ic.status = :status " +
+            "ORDER BY ic.id DESC",
+            countQuery = "SELECT COUNT(ic) FROM IssuedCoupon ic WHERE ic.user.id = :userId AND ic.status = :status")
+    Page<IssuedCouponResponseDto> findMyCoupons(
+            @Param("userId") Long userId,
+            @Param("status") Status status,
+            Pageable pageable
+    );
+
+    @Query("SELECT new com.example.eightyage.domain.coupon.dto.response.IssuedCouponResponseDto(" +
+            "ic.id, ic.serialCode, ic.status, u.nickname, c.name, c.startDate, c.endDate) " +
+            "FROM IssuedCoupon ic JOIN ic.user u JOIN ic.coupon c " +
+            "WHERE ic.user.id = :userId AND ic.status = :status " +
+            "ORDER BY ic.id DESC")
+    Slice<IssuedCouponResponseDto> findMyCouponsFirstSlice(
+            @Param("userId") Long userId,
+            @Param("status") Status status,
+            Pageable pageable
+    );
+
+    @Query("SELECT new com.example.eightyage.domain.coupon.dto.response.IssuedCouponResponseDto(" +
+            "ic.id, ic.serialCode, ic.status, u.nickname, c.name, c.startDate, c.endDate) " +
+            "FROM IssuedCoupon ic JOIN ic.user u JOIN ic.coupon c " +
+            "WHERE ic.user.id = :userId AND ic.status = :status AND ic.id < :cursorId " +
+            "ORDER BY ic.id DESC")
+    Slice<IssuedCouponResponseDto> findMyCouponsSliceAfter(
+            @Param("userId") Long userId,
+            @Param("status") Status status,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 }
@@ -0,0 +1,60 @@
+package com.example.eightyage.domain.coupon.service;
+
+import com.example.eightyage.domain.coupon.repository.CouponWaitingRoomRedisRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 쿠폰 발급 대기열 입장
+ * 직전 주기에 입장한 사용자가 실제로 발급받은 수를 처리량으로 보고, 그 두 배까지(최소/최대 범위 안에서) 동시에 입장시킨다.
+ * 발급이 밀리면 입장해 있는 인원이 줄지 않아 새 입장도 멈추므로 요청이 발급 처리량 이상으로 몰리지 않는다.
+ */
+@Slf4j
+@Component
+public class CouponAdmissionScheduler {
+
+    private final CouponWaitingRoomRedisRepository couponWaitingRoomRedisRepository;
+    private final Duration admitInterval;
+    private final Duration admissionTtl;
+    private final long minBatchSize;
+    private final long maxBatchSize;
+
+    public CouponAdmissionScheduler(CouponWaitingRoomRedisRepository couponWaitingRoomRedisRepository,
+                                    @Value("${coupon.waiting.admit-interval-ms:1000}") long admitIntervalMs,
+                                    @Value("${coupon.waiting.admission-ttl-ms:60000}") long admissionTtlMs,
+                                    @Value("${coupon.waiting.min-batch-size:100}") long minBatchSize,
+                                    @Value("${coupon.waiting.max-batch-size:5000}") long maxBatchSize) {
+        this.couponWaitingRoomRedisRepository = couponWaitingRoomRedisRepository;
+        this.admitInterval = Duration.ofMillis(admitIntervalMs);
+        this.admissionTtl = Duration.ofMillis(admissionTtlMs);
+        this.minBatchSize = minBatchSize;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.waiting.admit-interval-ms:1000}")
+    public void admit() {
+        for (String id : couponWaitingRoomRedisRepository.findActiveCouponIds()) {
+            Long couponId = Long.valueOf(id);
+            if (!couponWaitingRoomRedisRepository.tryLockAdmission(couponId, admitInterval)) {
+                continue;
+            }
+
+            long issued = couponWaitingRoomRedisRepository.getAndResetIssuedCount(couponId);
+            long admitted = couponWaitingRoomRedisRepository.admit(couponId, Instant.now(), admissionTtl, batchSize(issued));
+            if (admitted > 0) {
+                log.debug("쿠폰 대기열 입장: couponId={}, 직전 발급 {}건, 입장 {}명", couponId, issued, admitted);
+            } else {
+                couponWaitingRoomRedisRepository.deactivateIfEmpty(couponId);
+            }
+        }
+    }
+
+    long batchSize(long issuedLastInterval) {
+        return Math.max(minBatchSize, Math.min(maxBatchSize, issuedLastInterval * 2));
+    }
+}
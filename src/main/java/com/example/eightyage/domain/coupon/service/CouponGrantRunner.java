@@ -0,0 +1,161 @@
+package com.example.eightyage.domain.coupon.service;
+
+import com.example.eightyage.domain.coupon.entity.CouponGrantJob;
+import com.example.eightyage.domain.coupon.grantstatus.GrantStatus;
+import com.example.eightyage.domain.coupon.repository.CouponGrantBulkRepository;
+import com.example.eightyage.domain.coupon.repository.CouponGrantJobRepository;
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
+import com.example.eightyage.domain.coupon.repository.IssuedCouponBulkRepository;
+import com.example.eightyage.global.exception.ErrorMessage;
+import com.example.eightyage.global.exception.NotFoundException;
+import com.example.eightyage.global.util.SerialCodeGenerator;
+import com.example.eightyage.global.util.TransactionUtil;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 쿠폰 일괄 지급 실행
+ * 대상 사용자를 id 순으로 묶음마다 읽어 JDBC batch insert 하고, 같은 트랜잭션에서 마지막 처리 사용자 id를 기록한다.
+ * 중간에 실패해도 기록된 다음 사용자부터 재개하며, 진행 기록은 직전 값이 같을 때만 바뀌므로 같은 작업을 두 번 실행해도 중복 지급되지 않는다.
+ */
+@Slf4j
+@Component
+public class CouponGrantRunner {
+
+    private static final int CHUNK_SIZE = 1000;
+    // (user_id, coupon_id) 유니크 키 위반(같은 사용자의 개별 발급과 겹침) 시 같은 묶음 재시도 횟수
+    private static final int MAX_CHUNK_RETRIES = 3;
+
+    private final CouponGrantJobRepository couponGrantJobRepository;
+    private final CouponGrantBulkRepository couponGrantBulkRepository;
+    private final IssuedCouponBulkRepository issuedCouponBulkRepository;
+    private final CouponStockRedisRepository couponStockRedisRepository;
+    private final SerialCodeGenerator serialCodeGenerator;
+    private final TransactionTemplate transaction;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "coupon-grant");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public CouponGrantRunner(CouponGrantJobRepository couponGrantJobRepository,
+                             CouponGrantBulkRepository couponGrantBulkRepository,
+                             IssuedCouponBulkRepository issuedCouponBulkRepository,
+                             CouponStockRedisRepository couponStockRedisRepository,
+                             SerialCodeGenerator serialCodeGenerator,
+                             PlatformTransactionManager transactionManager) {
+        this.couponGrantJobRepository = couponGrantJobRepository;
+        this.couponGrantBulkRepository = couponGrantBulkRepository;
+        this.issuedCouponBulkRepository = issuedCouponBulkRepository;
+        this.couponStockRedisRepository = couponStockRedisRepository;
+        this.serialCodeGenerator = serialCodeGenerator;
+        this.transaction = new TransactionTemplate(transactionManager);
+    }
+
+    public void submit(Long jobId) {
+        executor.execute(() -> run(jobId));
+    }
+
+    // 진행 중인 작업은 묶음 단위로 기록돼 있으므로 멈춘 뒤 재개 가능
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void run(Long jobId) {
+        try {
+            transaction.executeWithoutResult(status ->
+                    couponGrantJobRepository.updateStatus(jobId, GrantStatus.FAILED, GrantStatus.RUNNING));
+
+            int retries = 0;
+            boolean hasNext = true;
+            while (hasNext) {
+                try {
+                    hasNext = grantChunk(jobId);
+                    retries = 0;
+                } catch (DataIntegrityViolationException e) {
+                    if (++retries > MAX_CHUNK_RETRIES) {
+                        throw e;
+                    }
+                }
+            }
+
+            complete(jobId);
+        } catch (ConcurrentGrantException e) {
+            log.info("다른 실행이 진행 중인 쿠폰 지급 작업: jobId={}", jobId);
+        } catch (Exception e) {
+            log.error("쿠폰 지급 작업 실패: jobId={}", jobId, e);
+            transaction.executeWithoutResult(status ->
+                    couponGrantJobRepository.updateStatus(jobId, GrantStatus.RUNNING, GrantStatus.FAILED));
+        }
+    }
+
+    // 한 묶음 지급 (반환: 다음 묶음이 있을 수 있으면 true)
+    private boolean grantChunk(Long jobId) {
+        return Boolean.TRUE.equals(transaction.execute(status -> {
+            CouponGrantJob job = couponGrantJobRepository.findById(jobId)
+                    .orElseThrow(() -> new NotFoundException(ErrorMessage.COUPON_GRANT_JOB_NOT_FOUND.getMessage()));
+
+            int remaining = job.getRemainingReservation();
+            long[] lastUserId = {job.getLastUserId()};
+            List<Long> userIds = new ArrayList<>();
+            int found = couponGrantBulkRepository.findTargetsAfter(jobId, job.getCouponId(), job.getLastUserId(), CHUNK_SIZE,
+                    (userId, grantable) -> {
+                        lastUserId[0] = userId;
+                        // 차감한 재고를 다 쓰면 남은 대상은 지급하지 않고 건너뜀
+                        if (grantable && userIds.size() < remaining) {
+                            userIds.add(userId);
+                        }
+                    });
+            if (found == 0) {
+                return false;
+            }
+
+            if (!userIds.isEmpty()) {
+                issuedCouponBulkRepository.bulkInsertGrantedCoupons(job.getCouponId(), userIds, serialCodeGenerator.generate(userIds.size()));
+            }
+            if (couponGrantJobRepository.updateProgress(jobId, job.getLastUserId(), lastUserId[0], found, userIds.size()) == 0) {
+                throw new ConcurrentGrantException();
+            }
+
+            int pending = remaining - userIds.size();
+            TransactionUtil.afterCommit(() -> {
+                couponStockRedisRepository.addIssuedUsers(job.getCouponId(), userIds);
+                couponStockRedisRepository.setGrantPending(job.getCouponId(), jobId, pending);
+            });
+            return found == CHUNK_SIZE;
+        }));
+    }
+
+    private void complete(Long jobId) {
+        Integer completed = transaction.execute(status ->
+                couponGrantJobRepository.updateStatus(jobId, GrantStatus.RUNNING, GrantStatus.COMPLETED));
+        if (completed == null || completed == 0) {
+            return;
+        }
+
+        CouponGrantJob job = couponGrantJobRepository.findById(jobId)
+                .orElseThrow(() -> new NotFoundException(ErrorMessage.COUPON_GRANT_JOB_NOT_FOUND.getMessage()));
+
+        // 지급 중 기록을 먼저 지우고 남은 재고를 돌려줌 (사이에 멈추면 재고가 적게 남고 재고 보정이 채움)
+        couponStockRedisRepository.clearGrantPending(job.getCouponId(), jobId);
+        couponStockRedisRepository.releaseStock(job.getCouponId(), job.getRemainingReservation());
+
+        log.info("쿠폰 지급 작업 완료: jobId={}, 대상 {}명, 지급 {}건, 반환 재고 {}개",
+                jobId, job.getTotalCount(), job.getGrantedCount(), job.getRemainingReservation());
+    }
+
+    // 같은 작업을 다른 실행이 먼저 진행한 경우
+    private static class ConcurrentGrantException extends RuntimeException {
+    }
+}
@@ -0,0 +1,178 @@
+package com.example.eightyage.domain.coupon.service;
+
+import com.example.eightyage.domain.coupon.dto.request.CouponGrantRequestDto;
+import com.example.eightyage.domain.coupon.dto.response.CouponGrantJobResponseDto;
+import com.example.eightyage.domain.coupon.entity.Coupon;
+import com.example.eightyage.domain.coupon.entity.CouponGrantJob;
+import com.example.eightyage.domain.coupon.grantstatus.GrantStatus;
+import com.example.eightyage.domain.coupon.repository.CouponGrantBulkRepository;
+import com.example.eightyage.domain.coupon.repository.CouponGrantJobRepository;
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
+import com.example.eightyage.global.exception.BadRequestException;
+import com.example.eightyage.global.exception.ErrorMessage;
+import com.example.eightyage.global.exception.NotFoundException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 쿠폰 일괄 지급
+ * 대상 사용자를 작업별로 저장하고 대상 수만큼 재고를 한 번에 차감한 뒤, 지급은 CouponGrantRunner가 백그라운드에서 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CouponGrantService {
+
+    private static final int TARGET_CHUNK_SIZE = 1000;
+
+    private final CouponService couponService;
+    private final CouponGrantJobRepository couponGrantJobRepository;
+    private final CouponGrantBulkRepository couponGrantBulkRepository;
+    private final CouponStockRedisRepository couponStockRedisRepository;
+    private final CouponGrantRunner couponGrantRunner;
+
+    public CouponGrantJobResponseDto grant(Long couponId, CouponGrantRequestDto couponGrantRequestDto) {
+        Coupon coupon = getGrantableCouponOrThrow(couponId);
+        CouponGrantJob job = couponGrantJobRepository.save(new CouponGrantJob(couponId));
+
+        List<Long> userIds = couponGrantRequestDto.getUserIds();
+        try {
+            for (int from = 0; from < userIds.size(); from += TARGET_CHUNK_SIZE) {
+                couponGrantBulkRepository.bulkInsertTargets(job.getId(),
+                        userIds.subList(from, Math.min(from + TARGET_CHUNK_SIZE, userIds.size())));
+            }
+        } catch (RuntimeException e) {
+            discard(job);
+            throw e;
+        }
+
+        return start(coupon, job);
+    }
+
+    // CSV 파일을 한 줄씩 읽어 대상 사용자 저장 (첫 열: 사용자 id, 숫자가 아닌 첫 줄은 헤더로 보고 건너뜀)
+    public CouponGrantJobResponseDto grantFromCsv(Long couponId, MultipartFile file) {
+        Coupon coupon = getGrantableCouponOrThrow(couponId);
+        CouponGrantJob job = couponGrantJobRepository.save(new CouponGrantJob(couponId));
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(file.getInputStream(), StandardCharsets.UTF_8))) {
+            List<Long> userIds = new ArrayList<>(TARGET_CHUNK_SIZE);
+            boolean firstLine = true;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String value = firstColumn(line);
+                if (value.isEmpty()) {
+                    continue;
+                }
+
+                Long userId = parseUserId(value);
+                if (userId == null) {
+                    if (firstLine) {
+                        firstLine = false;
+                        continue;
+                    }
+                    throw new BadRequestException(ErrorMessage.INVALID_COUPON_GRANT_CSV.getMessage());
+                }
+                firstLine = false;
+
+                userIds.add(userId);
+                if (userIds.size() == TARGET_CHUNK_SIZE) {
+                    couponGrantBulkRepository.bulkInsertTargets(job.getId(), userIds);
+                    userIds.clear();
+                }
+            }
+            couponGrantBulkRepository.bulkInsertTargets(job.getId(), userIds);
+        } catch (IOException e) {
+            discard(job);
+            throw new BadRequestException(ErrorMessage.INVALID_COUPON_GRANT_CSV.getMessage());
+        } catch (RuntimeException e) {
+            discard(job);
+            throw e;
+        }
+
+        return start(coupon, job);
+    }
+
+    public CouponGrantJobResponseDto getJob(Long jobId) {
+        return findJobByIdOrElseThrow(jobId).toDto();
+    }
+
+    // 실패했거나 멈춘 작업을 마지막으로 처리한 사용자 다음부터 재개
+    public CouponGrantJobResponseDto resume(Long jobId) {
+        CouponGrantJob job = findJobByIdOrElseThrow(jobId);
+
+        if (job.getStatus() == GrantStatus.PREPARING || job.getStatus() == GrantStatus.COMPLETED) {
+            throw new BadRequestException(ErrorMessage.COUPON_GRANT_JOB_NOT_RESUMABLE.getMessage());
+        }
+
+        couponGrantRunner.submit(jobId);
+        return job.toDto();
+    }
+
+    private CouponGrantJobResponseDto start(Coupon coupon, CouponGrantJob job) {
+        int total = couponGrantBulkRepository.countTargets(job.getId());
+        if (total == 0) {
+            discard(job);
+            throw new BadRequestException(ErrorMessage.COUPON_GRANT_TARGETS_EMPTY.getMessage());
+        }
+
+        // 대상 수만큼 재고를 한 번에 차감 (이미 발급받은 사용자 몫은 지급이 끝나면 돌려줌)
+        int reserved = couponStockRedisRepository.reserveStock(coupon.getId(), total);
+        try {
+            couponStockRedisRepository.setGrantPending(coupon.getId(), job.getId(), reserved);
+            job.start(total, reserved);
+            couponGrantJobRepository.save(job);
+        } catch (RuntimeException e) {
+            couponStockRedisRepository.clearGrantPending(coupon.getId(), job.getId());
+            couponStockRedisRepository.releaseStock(coupon.getId(), reserved);
+            throw e;
+        }
+
+        couponGrantRunner.submit(job.getId());
+        return job.toDto();
+    }
+
+    // 종료되지 않은 쿠폰만 지급 (시작 전 쿠폰은 미리 지급 가능)
+    private Coupon getGrantableCouponOrThrow(Long couponId) {
+        Coupon coupon = couponService.findByIdOrElseThrow(couponId);
+
+        if (coupon.getEndDate().isBefore(LocalDateTime.now())) {
+            throw new BadRequestException(ErrorMessage.INVALID_EVENT_PERIOD.getMessage());
+        }
+
+        return coupon;
+    }
+
+    private void discard(CouponGrantJob job) {
+        couponGrantBulkRepository.deleteTargets(job.getId());
+        couponGrantJobRepository.delete(job);
+    }
+
+    private CouponGrantJob findJobByIdOrElseThrow(Long jobId) {
+        return couponGrantJobRepository.findById(jobId)
+                .orElseThrow(() -> new NotFoundException(ErrorMessage.COUPON_GRANT_JOB_NOT_FOUND.getMessage()));
+    }
+
+    private static String firstColumn(String line) {
+        int comma = line.indexOf(',');
+        String value = comma < 0 ? line : line.substring(0, comma);
+        // UTF-8 BOM과 따옴표 제거
+        return value.replace("\uFEFF", "").replace("\"", "").trim();
+    }
+
+    static Long parseUserId(String value) {
+        try {
+            long userId = Long.parseLong(value);
+            return userId > 0 ? userId : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
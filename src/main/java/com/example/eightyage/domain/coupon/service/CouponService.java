@@ -1,18 +1,21 @@
 package com.example.eightyage.domain.coupon.service;
 
 import com.example.eightyage.domain.coupon.dto.request.CouponRequestDto;
+import com.example.eightyage.domain.coupon.dto.response.CouponCacheDto;
 import com.example.eightyage.domain.coupon.dto.response.CouponResponseDto;
 import com.example.eightyage.domain.coupon.entity.Coupon;
-import com.example.eightyage.domain.coupon.couponstate.CouponState;
 import com.example.eightyage.domain.coupon.repository.CouponRepository;
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
+import com.example.eightyage.global.cache.LayeredCache;
 import com.example.eightyage.global.exception.BadRequestException;
 import com.example.eightyage.global.exception.ErrorMessage;
+import com.example.eightyage.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 
@@ -21,7 +24,8 @@ import java.time.LocalDateTime;
 public class CouponService {
 
     private final CouponRepository couponRepository;
-    private final StringRedisTemplate stringRedisTemplate;
+    private final CouponStockRedisRepository couponStockRedisRepository;
+    private final LayeredCache couponCache;
 
     public CouponResponseDto saveCoupon(CouponRequestDto couponRequestDto) {
         Coupon coupon = new Coupon(
@@ -29,61 +33,66 @@ public class CouponService {
                 couponRequestDto.getDescription(),
                 couponRequestDto.getQuantity(),
                 couponRequestDto.getStartDate(),
-                couponRequestDto.getEndDate()
+                couponRequestDto.getEndDate(),
+                couponRequestDto.getStockStripes() == null ? 1 : couponRequestDto.getStockStripes(),
+                Boolean.TRUE.equals(couponRequestDto.getWaitingRoom())
         );
 
-        checkCouponState(coupon);
+        coupon.updateStateAt(LocalDateTime.now());
 
         Coupon savedCoupon = couponRepository.save(coupon);
 
-        stringRedisTemplate.opsForValue().set("event:quantity:" + savedCoupon.getId(), String.valueOf(savedCoupon.getQuantity()));
+        couponStockRedisRepository.initStock(savedCoupon.getId(), savedCoupon.getQuantity(), savedCoupon.getStockStripes());
+        if (savedCoupon.isStockStriped()) {
+            couponStockRedisRepository.registerStripedCoupon(savedCoupon.getId(), savedCoupon.getEndDate());
+        }
+        // 새 쿠폰은 발급 내역이 없으므로 바로 적재 완료 처리
+        couponStockRedisRepository.markIssuedUsersLoaded(savedCoupon.getId(), savedCoupon.getEndDate());
 
         return savedCoupon.toDto();
     }
 
+    // 쿠폰 상태는 CouponStateScheduler가 기간에 맞춰 전환하므로 조회 시에는 쓰기 없음
+    @Transactional(readOnly = true)
     public Page<CouponResponseDto> getCoupons(int page, int size) {
         Pageable pageable = PageRequest.of(page-1, size);
         Page<Coupon> events = couponRepository.findAll(pageable);
 
-        // 모든 events들 checkState로 state 상태 갱신하기
-        events.forEach(this::checkCouponState);
-
         return events.map(Coupon::toDto);
     }
 
+    @Transactional(readOnly = true)
     public CouponResponseDto getCoupon(long couponId) {
         Coupon coupon = findByIdOrElseThrow(couponId);
 
-        checkCouponState(coupon);
-
         return coupon.toDto();
     }
 
+    @Transactional
     public CouponResponseDto updateCoupon(long couponId, CouponRequestDto couponRequestDto) {
         Coupon coupon = findByIdOrElseThrow(couponId);
 
         coupon.update(couponRequestDto);
 
-        checkCouponState(coupon);
-
-        return coupon.toDto();
-    }
-
-    private void checkCouponState(Coupon coupon) {
-        CouponState prevState = coupon.getState();
         coupon.updateStateAt(LocalDateTime.now());
 
-        if(coupon.getState() != prevState) {
-            couponRepository.save(coupon);
-        }
+        // 커밋 후 모든 인스턴스의 쿠폰 캐시 무효화 (분할 재고 쿠폰은 바뀐 종료 시각으로 재조정 대상 갱신)
+        TransactionUtil.afterCommit(() -> {
+            couponCache.evict(String.valueOf(couponId));
+            if (coupon.isStockStriped()) {
+                couponStockRedisRepository.registerStripedCoupon(couponId, coupon.getEndDate());
+            }
+        });
+
+        return coupon.toDto();
     }
 
+    // 발급 가능 여부는 저장된 상태가 아닌 캐시된 기간으로 판단
     public Coupon getValidCouponOrThrow(Long couponId) {
-        Coupon coupon = findByIdOrElseThrow(couponId);
-
-        coupon.updateStateAt(LocalDateTime.now());
+        Coupon coupon = couponCache.get(String.valueOf(couponId),
+                () -> CouponCacheDto.from(findByIdOrElseThrow(couponId))).toCoupon();
 
-        if(coupon.getState() != CouponState.VALID) {
+        if(!coupon.isValidAt(LocalDateTime.now())) {
             throw new BadRequestException(ErrorMessage.INVALID_EVENT_PERIOD.getMessage());
         }
 
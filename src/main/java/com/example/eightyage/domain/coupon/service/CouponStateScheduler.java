@@ -0,0 +1,36 @@
+package com.example.eightyage.domain.coupon.service;
+
+import com.example.eightyage.domain.coupon.repository.CouponRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 상태 전환
+ * 시작/종료 시각이 지난 쿠폰의 상태를 주기적으로 DB에서 일괄 전환한다.
+ * 매번 현재 시각 기준으로 다시 계산하므로 재시작 후 밀린 전환도 처리되고, 여러 인스턴스가 동시에 실행해도 결과가 같다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponStateScheduler {
+
+    private final CouponRepository couponRepository;
+
+    @Transactional
+    @Scheduled(fixedDelayString = "${coupon.state.sweep-interval-ms:1000}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+
+        int invalidated = couponRepository.invalidateOutOfPeriod(now);
+        int validated = couponRepository.validateInPeriod(now);
+
+        if (invalidated > 0 || validated > 0) {
+            log.info("쿠폰 상태 전환: 유효 {}건, 무효 {}건", validated, invalidated);
+        }
+    }
+}
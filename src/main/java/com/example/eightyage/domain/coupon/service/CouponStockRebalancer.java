@@ -0,0 +1,33 @@
+package com.example.eightyage.domain.coupon.service;
+
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 분할 재고 재조정
+ * 발급 가능한 분할 재고 쿠폰에서 빈 stripe가 생기면 남은 재고를 stripe마다 고르게 다시 나눈다.
+ * 재고는 남은 수량 안에서만 옮기므로 재조정 중에도 전체 재고가 음수가 되거나 늘어나지 않는다.
+ * 대상 쿠폰은 DB가 아닌 Redis의 재조정 대상 목록에서 읽어 주기마다 DB를 조회하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CouponStockRebalancer {
+
+    private final CouponStockRedisRepository couponStockRedisRepository;
+
+    @Scheduled(fixedDelayString = "${coupon.stock.rebalance-interval-ms:1000}")
+    public void rebalance() {
+        for (Long couponId : couponStockRedisRepository.findActiveStripedCouponIds(LocalDateTime.now())) {
+            long moved = couponStockRedisRepository.rebalance(couponId);
+            if (moved > 0) {
+                log.debug("쿠폰 재고 재조정: couponId={}, {}개 이동", couponId, moved);
+            }
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.eightyage.domain.coupon.service;
+
+import com.example.eightyage.domain.coupon.dto.CouponIssuedCountDto;
+import com.example.eightyage.domain.coupon.dto.CouponStockDriftDto;
+import com.example.eightyage.domain.coupon.grantstatus.GrantStatus;
+import com.example.eightyage.domain.coupon.repository.CouponGrantJobRepository;
+import com.example.eightyage.domain.coupon.repository.CouponRepository;
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
+import com.example.eightyage.global.util.DriftTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Redis 쿠폰 재고 보정
+ * 종료되지 않은 쿠폰의 발급 수를 한 번의 GROUP BY 조회로 가져와 남은 재고(수량 - 발급 수)를 다시 계산하고 Redis 재고와 비교한다.
+ * 재고 키가 없으면(Redis 초기화, 장애 조치) 바로 다시 쓰고, 차이는 발급 중인 요청 때문일 수 있으므로 두 번 연속 보일 때만 다시 쓴다.
+ * 일괄 지급 중인 쿠폰은 묶음 커밋과 지급 중 기록 갱신 사이에 같은 지급을 두 번 셀 수 있으므로 차이가 있어도 다시 쓰지 않는다.
+ */
+@Slf4j
+@Component
+public class CouponStockReconciler {
+
+    private final CouponRepository couponRepository;
+    private final CouponStockRedisRepository couponStockRedisRepository;
+    private final CouponGrantJobRepository couponGrantJobRepository;
+    // 차이는 쿠폰별 차이 절댓값 합
+    private final DriftTracker<Long> driftTracker;
+
+    public CouponStockReconciler(CouponRepository couponRepository,
+                                 CouponStockRedisRepository couponStockRedisRepository,
+                                 CouponGrantJobRepository couponGrantJobRepository,
+                                 MeterRegistry meterRegistry) {
+        this.couponRepository = couponRepository;
+        this.couponStockRedisRepository = couponStockRedisRepository;
+        this.couponGrantJobRepository = couponGrantJobRepository;
+        this.driftTracker = new DriftTracker<>(meterRegistry, "coupon.stock");
+    }
+
+    // 시작 시 비어 있는 재고 복구 (실패해도 기동은 계속하고 다음 주기에 다시 보정)
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileOnStartup() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.warn("시작 시 쿠폰 재고 보정 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${coupon.stock.reconcile-interval-ms:60000}", initialDelayString = "${coupon.stock.reconcile-interval-ms:60000}")
+    public synchronized void reconcile() {
+        List<CouponIssuedCountDto> single = new ArrayList<>();
+        List<CouponIssuedCountDto> striped = new ArrayList<>();
+        for (CouponIssuedCountDto coupon : couponRepository.findIssuedCountsNotEnded(LocalDateTime.now())) {
+            (coupon.getStockStripes() > 1 ? striped : single).add(coupon);
+        }
+
+        Set<Long> granting = new HashSet<>(couponGrantJobRepository.findCouponIdsByStatus(GrantStatus.RUNNING));
+
+        // 직전 보정 뒤에 일괄 지급이 시작된 쿠폰도 다시 쓰지 않음
+        Set<Long> repairCouponIds = new HashSet<>(driftTracker.getPreviouslyDrifted());
+        repairCouponIds.removeAll(granting);
+
+        driftTracker.start();
+
+        List<CouponStockDriftDto> drifts = couponStockRedisRepository.reconcile(single, repairCouponIds);
+        for (int i = 0; i < single.size(); i++) {
+            Long couponId = single.get(i).getCouponId();
+            CouponStockDriftDto couponDrift = drifts.get(i);
+            if (couponDrift.getDrift() == 0) {
+                continue;
+            }
+            driftTracker.recordDrift(Math.abs(couponDrift.getDrift()));
+            // 재고 키가 없어 바로 다시 쓴 경우도 보정으로 셈
+            if (couponDrift.isRepaired()) {
+                driftTracker.repaired();
+                log.info("쿠폰 재고 보정: couponId={}, 차이 {}", couponId, couponDrift.getDrift());
+            } else if (!granting.contains(couponId)) {
+                driftTracker.markDrifted(couponId);
+            }
+        }
+
+        for (CouponIssuedCountDto coupon : striped) {
+            CouponStockDriftDto couponDrift = couponStockRedisRepository.reconcileStriped(coupon);
+            if (couponDrift.isRepaired()) {
+                driftTracker.repaired();
+                log.info("분할 재고 쿠폰 재고 복구: couponId={}, 차이 {}", coupon.getCouponId(), couponDrift.getDrift());
+            }
+            if (couponDrift.getDrift() != 0) {
+                driftTracker.recordDrift(Math.abs(couponDrift.getDrift()));
+                log.debug("분할 재고 쿠폰 재고 차이: couponId={}, 차이 {}", coupon.getCouponId(), couponDrift.getDrift());
+            }
+        }
+
+        driftTracker.finish();
+    }
+}
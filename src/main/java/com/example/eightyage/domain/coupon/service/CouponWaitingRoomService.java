@@ -0,0 +1,92 @@
+package com.example.eightyage.domain.coupon.service;
+
+import com.example.eightyage.domain.coupon.dto.response.CouponWaitingResponseDto;
+import com.example.eightyage.domain.coupon.entity.Coupon;
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
+import com.example.eightyage.domain.coupon.repository.CouponWaitingRoomRedisRepository;
+import com.example.eightyage.domain.coupon.repository.IssuedCouponRepository;
+import com.example.eightyage.domain.coupon.waitingstatus.WaitingStatus;
+import com.example.eightyage.global.dto.AuthUser;
+import com.example.eightyage.global.exception.BadRequestException;
+import com.example.eightyage.global.exception.ErrorMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.time.ZoneId;
+
+/**
+ * 쿠폰 발급 대기열
+ * 요청 스레드는 대기열 등록과 순번 조회만 하고, 실제 입장은 CouponAdmissionScheduler가 발급 처리량에 맞춰 처리한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CouponWaitingRoomService {
+
+    private final CouponService couponService;
+    private final CouponWaitingRoomRedisRepository couponWaitingRoomRedisRepository;
+    private final CouponStockRedisRepository couponStockRedisRepository;
+    private final IssuedCouponRepository issuedCouponRepository;
+
+    public CouponWaitingResponseDto enter(AuthUser authUser, Long couponId) {
+        Coupon coupon = couponService.getValidCouponOrThrow(couponId);
+
+        if (!coupon.isWaitingRoom()) {
+            throw new BadRequestException(ErrorMessage.COUPON_WAITING_ROOM_DISABLED.getMessage());
+        }
+
+        // 이미 발급받은 사용자가 입장 자리를 차지하지 않도록 등록 전에 확인
+        if (isIssued(coupon, authUser.getUserId())) {
+            throw new BadRequestException(ErrorMessage.COUPON_ALREADY_ISSUED.getMessage());
+        }
+
+        Instant now = Instant.now();
+        if (!couponWaitingRoomRedisRepository.isAdmitted(couponId, authUser.getUserId(), now)) {
+            Instant expireAt = coupon.getEndDate().plusDays(1).atZone(ZoneId.systemDefault()).toInstant();
+            couponWaitingRoomRedisRepository.enter(couponId, authUser.getUserId(), now, expireAt);
+        }
+
+        return getStatus(authUser, couponId);
+    }
+
+    public CouponWaitingResponseDto getStatus(AuthUser authUser, Long couponId) {
+        if (couponWaitingRoomRedisRepository.isAdmitted(couponId, authUser.getUserId(), Instant.now())) {
+            return new CouponWaitingResponseDto(couponId, WaitingStatus.ADMITTED, null);
+        }
+
+        Long rank = couponWaitingRoomRedisRepository.findRank(couponId, authUser.getUserId());
+        if (rank == null) {
+            return new CouponWaitingResponseDto(couponId, WaitingStatus.NOT_IN_QUEUE, null);
+        }
+        return new CouponWaitingResponseDto(couponId, WaitingStatus.WAITING, rank + 1);
+    }
+
+    // 대기열 쿠폰은 입장한 사용자만 발급
+    public void validateAdmitted(Coupon coupon, Long userId) {
+        if (coupon.isWaitingRoom() && !couponWaitingRoomRedisRepository.isAdmitted(coupon.getId(), userId, Instant.now())) {
+            throw new BadRequestException(ErrorMessage.COUPON_NOT_ADMITTED.getMessage());
+        }
+    }
+
+    public void complete(Coupon coupon, Long userId) {
+        if (coupon.isWaitingRoom()) {
+            couponWaitingRoomRedisRepository.complete(coupon.getId(), userId);
+        }
+    }
+
+    // 발급하지 못한 사용자의 입장 해제 (입장 자리를 만료까지 차지하지 않도록)
+    public void release(Coupon coupon, Long userId) {
+        if (coupon.isWaitingRoom()) {
+            couponWaitingRoomRedisRepository.release(coupon.getId(), userId);
+        }
+    }
+
+    // 발급 사용자 SET으로 확인하고, 적재 전이면 DB로 확인
+    private boolean isIssued(Coupon coupon, Long userId) {
+        Boolean issued = couponStockRedisRepository.isIssued(coupon, userId);
+        if (issued != null) {
+            return issued;
+        }
+        return issuedCouponRepository.existsByUserIdAndCouponId(userId, coupon.getId());
+    }
+}
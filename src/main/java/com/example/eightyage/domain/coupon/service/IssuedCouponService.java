@@ -1,26 +1,37 @@
 package com.example.eightyage.domain.coupon.service;
 
+import com.example.eightyage.domain.coupon.dto.response.CouponIssueTicketResponseDto;
 import com.example.eightyage.domain.coupon.dto.response.IssuedCouponResponseDto;
 import com.example.eightyage.domain.coupon.entity.IssuedCoupon;
+import com.example.eightyage.domain.coupon.issueresult.CouponIssueResult;
+import com.example.eightyage.domain.coupon.queue.CouponIssueMessage;
+import com.example.eightyage.domain.coupon.queue.CouponIssueQueue;
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
 import com.example.eightyage.domain.coupon.repository.IssuedCouponRepository;
 import com.example.eightyage.domain.coupon.entity.Coupon;
 import com.example.eightyage.domain.coupon.status.Status;
+import com.example.eightyage.domain.coupon.ticketstatus.TicketStatus;
 import com.example.eightyage.domain.user.entity.User;
 import com.example.eightyage.global.dto.AuthUser;
+import com.example.eightyage.global.dto.CursorResponse;
 import com.example.eightyage.global.exception.BadRequestException;
 import com.example.eightyage.global.exception.ErrorMessage;
 import com.example.eightyage.global.exception.ForbiddenException;
 import com.example.eightyage.global.exception.NotFoundException;
+import com.example.eightyage.global.util.CursorCodec;
+import com.example.eightyage.global.util.SerialCodeGenerator;
 import lombok.RequiredArgsConstructor;
-import org.redisson.api.RLock;
-import org.redisson.api.RedissonClient;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
-import java.util.concurrent.TimeUnit;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
@@ -28,57 +39,124 @@ public class IssuedCouponService {
 
     private final IssuedCouponRepository issuedCouponRepository;
     private final CouponService couponService;
-    private final StringRedisTemplate stringRedisTemplate;
-
-    private static final String EVENT_QUANTITIY_PREFIX = "event:quantity:";
-    private static final String EVENT_LOCK_PREFIX = "event:lock:";
-    private final RedissonClient redissonClient;
+    private final CouponStockRedisRepository couponStockRedisRepository;
+    private final CouponIssueQueue couponIssueQueue;
+    private final IssuedCouponUserLoader issuedCouponUserLoader;
+    private final CouponWaitingRoomService couponWaitingRoomService;
+    private final SerialCodeGenerator serialCodeGenerator;
 
     public IssuedCouponResponseDto issueCoupon(AuthUser authUser, Long couponId) {
+        Coupon coupon = couponService.getValidCouponOrThrow(couponId);
+        couponWaitingRoomService.validateAdmitted(coupon, authUser.getUserId());
 
-        RLock rLock = redissonClient.getLock(EVENT_LOCK_PREFIX + couponId);
-        boolean isLocked = false;
-
+        boolean issued = false;
         try {
-            isLocked = rLock.tryLock(3, 10, TimeUnit.SECONDS);  // 3초 안에 락을 획득, 10초 뒤에는 자동 해제
-
-            if (!isLocked) {
-                throw new BadRequestException(ErrorMessage.CAN_NOT_ACCESS.getMessage()); // 락 획득 실패
+            // 중복 확인과 재고 차감을 Redis에서 원자적으로 처리
+            reserveStock(couponId, coupon.getEndDate(), () -> couponStockRedisRepository.issue(coupon, authUser.getUserId()));
+
+            // 쿠폰 발급 및 저장 (실패 시 차감한 재고 복구)
+            IssuedCoupon issuedCoupon = IssuedCoupon.create(User.fromAuthUser(authUser), coupon, serialCodeGenerator.generate());
+            try {
+                issuedCouponRepository.save(issuedCoupon);
+            } catch (DataIntegrityViolationException e) {
+                // (user_id, coupon_id) 유니크 키 위반이면 이미 발급받은 사용자
+                if (issuedCouponRepository.existsByUserIdAndCouponId(authUser.getUserId(), couponId)) {
+                    couponStockRedisRepository.restoreStock(couponId, authUser.getUserId());
+                    throw new BadRequestException(ErrorMessage.COUPON_ALREADY_ISSUED.getMessage());
+                }
+                couponStockRedisRepository.cancel(couponId, authUser.getUserId());
+                throw e;
+            } catch (RuntimeException e) {
+                couponStockRedisRepository.cancel(couponId, authUser.getUserId());
+                throw e;
             }
 
-            Coupon coupon = couponService.getValidCouponOrThrow(couponId);
+            issued = true;
+            return issuedCoupon.toDto();
+        } finally {
+            finishAdmission(coupon, authUser.getUserId(), issued);
+        }
+    }
 
-            if (issuedCouponRepository.existsByUserIdAndCouponId(authUser.getUserId(), couponId)) {
-                throw new BadRequestException(ErrorMessage.COUPON_ALREADY_ISSUED.getMessage());
-            }
+    // 비동기 쿠폰 발급 (재고만 차감하고 저장은 consumer가 처리)
+    public CouponIssueTicketResponseDto issueCouponAsync(AuthUser authUser, Long couponId) {
+        Coupon coupon = couponService.getValidCouponOrThrow(couponId);
+        couponWaitingRoomService.validateAdmitted(coupon, authUser.getUserId());
 
-            Long remain = Long.parseLong(stringRedisTemplate.opsForValue().get(EVENT_QUANTITIY_PREFIX + couponId));
-            if (remain == 0 || remain < 0) {
-                throw new BadRequestException(ErrorMessage.COUPON_OUT_OF_STOCK.getMessage());
+        boolean issued = false;
+        try {
+            CouponIssueMessage message = CouponIssueMessage.create(couponId, authUser.getUserId(), serialCodeGenerator.generate());
+            if (coupon.isStockStriped()) {
+                // 분할 재고는 stripe마다 슬롯이 달라 Stream 추가와 한 스크립트로 묶을 수 없으므로 예약 후 따로 추가
+                reserveStock(couponId, coupon.getEndDate(), () -> couponStockRedisRepository.issue(coupon, authUser.getUserId()));
+                try {
+                    couponIssueQueue.publish(message);
+                } catch (RuntimeException e) {
+                    couponStockRedisRepository.cancel(couponId, authUser.getUserId());
+                    throw e;
+                }
+            } else {
+                reserveStock(couponId, coupon.getEndDate(), () -> couponIssueQueue.enqueue(message, coupon.getEndDate()));
             }
-            stringRedisTemplate.opsForValue().decrement(EVENT_QUANTITIY_PREFIX + couponId);
 
-            // 쿠폰 발급 및 저장
-            IssuedCoupon issuedCoupon = IssuedCoupon.create(User.fromAuthUser(authUser), coupon);
-            issuedCouponRepository.save(issuedCoupon);
+            issued = true;
+            return new CouponIssueTicketResponseDto(message.getTicketId(), couponId, TicketStatus.PENDING, null);
+        } finally {
+            finishAdmission(coupon, authUser.getUserId(), issued);
+        }
+    }
 
-            return issuedCoupon.toDto();
+    // 발급하면 입장 완료, 그 밖의 모든 경우(재고 소진, 중복, 오류)는 입장 해제
+    private void finishAdmission(Coupon coupon, Long userId, boolean issued) {
+        if (issued) {
+            couponWaitingRoomService.complete(coupon, userId);
+        } else {
+            couponWaitingRoomService.release(coupon, userId);
+        }
+    }
 
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-            throw new BadRequestException(ErrorMessage.INTERNAL_SERVER_ERROR.getMessage());
-        } finally {
-            if (isLocked) {
-                rLock.unlock();
-            }
+    // 비동기 쿠폰 발급 결과 조회
+    public CouponIssueTicketResponseDto getIssueTicket(AuthUser authUser, String ticketId) {
+        Map<Object, Object> ticket = couponIssueQueue.findTicket(ticketId);
+
+        if (ticket.isEmpty()) {
+            throw new NotFoundException(ErrorMessage.COUPON_ISSUE_TICKET_NOT_FOUND.getMessage());
         }
+
+        if (!String.valueOf(authUser.getUserId()).equals(ticket.get("userId"))) {
+            throw new ForbiddenException(ErrorMessage.COUPON_FORBIDDEN.getMessage());
+        }
+
+        TicketStatus status = TicketStatus.valueOf((String) ticket.get("status"));
+        String serialCode = status == TicketStatus.ISSUED ? (String) ticket.get("serialCode") : null;
+
+        return new CouponIssueTicketResponseDto(ticketId, Long.valueOf((String) ticket.get("couponId")), status, serialCode);
     }
 
+    @Transactional(readOnly = true)
     public Page<IssuedCouponResponseDto> getMyCoupons(AuthUser authUser, int page, int size) {
         Pageable pageable = PageRequest.of(page-1, size);
-        Page<IssuedCoupon> coupons = issuedCouponRepository.findAllByUserIdAndStatus(authUser.getUserId(), Status.VALID, pageable);
 
-        return coupons.map(IssuedCoupon::toDto);
+        return issuedCouponRepository.findMyCoupons(authUser.getUserId(), Status.VALID, pageable);
+    }
+
+    // 내 쿠폰 커서 조회 (커서: 마지막 발급 쿠폰 id, 최근 발급 순)
+    @Transactional(readOnly = true)
+    public CursorResponse<IssuedCouponResponseDto> getMyCouponsByCursor(AuthUser authUser, String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<IssuedCouponResponseDto> slice;
+
+        if (cursor == null) {
+            slice = issuedCouponRepository.findMyCouponsFirstSlice(authUser.getUserId(), Status.VALID, pageable);
+        } else {
+            Long cursorId = CursorCodec.parseLong(CursorCodec.decode(cursor, 1)[0]);
+            if (cursorId == null) {
+                throw new BadRequestException(ErrorMessage.INVALID_CURSOR.getMessage());
+            }
+            slice = issuedCouponRepository.findMyCouponsSliceAfter(authUser.getUserId(), Status.VALID, cursorId, pageable);
+        }
+
+        return CursorResponse.of(slice, coupon -> CursorCodec.encode(coupon.getId()));
     }
 
     public IssuedCouponResponseDto getCoupon(AuthUser authUser, Long issuedCouponId) {
@@ -95,6 +173,31 @@ public class IssuedCouponService {
         return issuedCoupon.toDto();
     }
 
+    // 발급 예약 (발급 사용자 SET이 없으면 DB에서 적재 후 재시도)
+    private void reserveStock(Long couponId, LocalDateTime couponEndAt, Supplier<CouponIssueResult> reservation) {
+        CouponIssueResult result = reservation.get();
+        if (result == CouponIssueResult.ISSUED_USERS_NOT_LOADED) {
+            issuedCouponUserLoader.load(couponId, couponEndAt);
+            result = reservation.get();
+        }
+        validateIssueResult(result);
+    }
+
+    private void validateIssueResult(CouponIssueResult result) {
+        if (result == CouponIssueResult.ALREADY_ISSUED) {
+            throw new BadRequestException(ErrorMessage.COUPON_ALREADY_ISSUED.getMessage());
+        }
+        if (result == CouponIssueResult.OUT_OF_STOCK) {
+            throw new BadRequestException(ErrorMessage.COUPON_OUT_OF_STOCK.getMessage());
+        }
+        if (result == CouponIssueResult.STOCK_NOT_INITIALIZED) {
+            throw new BadRequestException(ErrorMessage.COUPON_STOCK_NOT_INITIALIZED.getMessage());
+        }
+        if (result == CouponIssueResult.ISSUED_USERS_NOT_LOADED) {
+            throw new BadRequestException(ErrorMessage.COUPON_ISSUED_USERS_LOADING.getMessage());
+        }
+    }
+
     public IssuedCoupon findByIdOrElseThrow(Long issuedCouponId) {
         return issuedCouponRepository.findById(issuedCouponId)
                 .orElseThrow(() -> new NotFoundException(ErrorMessage.COUPON_NOT_FOUND.getMessage()));
@@ -0,0 +1,54 @@
+package com.example.eightyage.domain.coupon.service;
+
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
+import com.example.eightyage.domain.coupon.repository.IssuedCouponBulkRepository;
+import com.example.eightyage.global.exception.BadRequestException;
+import com.example.eightyage.global.exception.ErrorMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 쿠폰 발급 사용자 Redis SET 적재
+ * 쿠폰 생성 시나 Redis 데이터가 유실됐을 때 DB의 발급 내역으로 중복 발급 확인용 SET을 다시 채운다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IssuedCouponUserLoader {
+
+    private final IssuedCouponBulkRepository issuedCouponBulkRepository;
+    private final CouponStockRedisRepository couponStockRedisRepository;
+    private static final int LOAD_CHUNK_SIZE = 10000;
+
+    public void load(Long couponId, LocalDateTime couponEndAt) {
+        // 다른 요청이 적재 중이면 잠시 후 다시 시도
+        if (!couponStockRedisRepository.tryLockIssuedUsersLoading(couponId)) {
+            throw new BadRequestException(ErrorMessage.COUPON_ISSUED_USERS_LOADING.getMessage());
+        }
+
+        try {
+            long[] lastId = {0};
+            long total = 0;
+            int loaded;
+            do {
+                List<Long> userIds = new ArrayList<>(LOAD_CHUNK_SIZE);
+                loaded = issuedCouponBulkRepository.findIssuedUserIdsAfter(couponId, lastId[0], LOAD_CHUNK_SIZE, (id, userId) -> {
+                    userIds.add(userId);
+                    lastId[0] = id;
+                });
+                couponStockRedisRepository.addIssuedUsers(couponId, userIds);
+                total += loaded;
+            } while (loaded == LOAD_CHUNK_SIZE);
+
+            couponStockRedisRepository.markIssuedUsersLoaded(couponId, couponEndAt);
+            log.info("쿠폰 발급 사용자 적재 완료: couponId={}, {}건", couponId, total);
+        } finally {
+            couponStockRedisRepository.unlockIssuedUsersLoading(couponId);
+        }
+    }
+}
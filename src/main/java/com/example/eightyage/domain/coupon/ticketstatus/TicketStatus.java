@@ -0,0 +1,7 @@
+package com.example.eightyage.domain.coupon.ticketstatus;
+
+public enum TicketStatus {
+    PENDING,
+    ISSUED,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.example.eightyage.domain.coupon.waitingstatus;
+
+public enum WaitingStatus {
+    WAITING,
+    ADMITTED,
+    NOT_IN_QUEUE
+}
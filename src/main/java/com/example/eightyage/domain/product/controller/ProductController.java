@@ -3,11 +3,15 @@ package com.example.eightyage.domain.product.controller;
 import com.example.eightyage.domain.product.dto.request.ProductSaveRequestDto;
 import com.example.eightyage.domain.product.dto.request.ProductUpdateRequestDto;
 import com.example.eightyage.domain.product.dto.response.ProductGetResponseDto;
+import com.example.eightyage.domain.product.dto.response.ProductReviewCleanupResponseDto;
+import com.example.eightyage.domain.product.dto.response.ProductReviewStatsResponseDto;
 import com.example.eightyage.domain.product.dto.response.ProductSaveResponseDto;
 import com.example.eightyage.domain.product.dto.response.ProductSearchResponseDto;
 import com.example.eightyage.domain.product.dto.response.ProductUpdateResponseDto;
 import com.example.eightyage.domain.product.category.Category;
+import com.example.eightyage.domain.product.service.ProductReviewStatsService;
 import com.example.eightyage.domain.product.service.ProductService;
+import com.example.eightyage.global.dto.CursorResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -22,6 +26,7 @@ import org.springframework.web.bind.annotation.*;
 public class ProductController {
 
     private final ProductService productService;
+    private final ProductReviewStatsService productReviewStatsService;
 
     // 제품 생성
     @Secured("ROLE_ADMIN")
@@ -52,6 +57,12 @@ public class ProductController {
         return ResponseEntity.ok(responseDto);
     }
 
+    // 제품 별점 분포 조회
+    @GetMapping("/v1/products/{productId}/review-stats")
+    public ResponseEntity<ProductReviewStatsResponseDto> findProductReviewStats(@PathVariable Long productId){
+        return ResponseEntity.ok(productReviewStatsService.getReviewStats(productId));
+    }
+
     // 제품 다건 조회 version 1
     @GetMapping("/v1/products")
     public ResponseEntity<Page<ProductSearchResponseDto>> searchProductV1(
@@ -85,6 +96,64 @@ public class ProductController {
         return ResponseEntity.ok(productService.getProductsV3(name, category, size, page));
     }
 
+    // 제품 커서 조회 version 1
+    @GetMapping("/v1/products/cursor")
+    public ResponseEntity<CursorResponse<ProductSearchResponseDto>> searchProductByCursorV1(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) Category category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(productService.getProductsByCursorV1(name, category, cursor, size));
+    }
+
+    // 제품 커서 조회 version 2
+    @GetMapping("/v2/products/cursor")
+    public ResponseEntity<CursorResponse<ProductSearchResponseDto>> searchProductByCursorV2(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) Category category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(productService.getProductsByCursorV2(name, category, cursor, size));
+    }
+
+    // 제품 커서 조회 version 3
+    @GetMapping("/v3/products/cursor")
+    public ResponseEntity<CursorResponse<ProductSearchResponseDto>> searchProductByCursorV3(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) Category category,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        return ResponseEntity.ok(productService.getProductsByCursorV3(name, category, cursor, size));
+    }
+
+    // 제품 다건 조회 version 4
+    @GetMapping("/v4/products")
+    public ResponseEntity<Page<ProductSearchResponseDto>> searchProductV4(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) Category category,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "1") int page
+    ) {
+        return ResponseEntity.ok(productService.getProductsV4(name, category, size, page));
+    }
+
+    // 제품 리뷰 집계 보정
+    @Secured("ROLE_ADMIN")
+    @PostMapping("/v1/products/review-stats/backfill")
+    public ResponseEntity<Long> backfillReviewStats(){
+        return ResponseEntity.ok(productReviewStatsService.backfillReviewStats());
+    }
+
+    // 삭제된 제품의 리뷰 정리 진행 상황
+    @Secured("ROLE_ADMIN")
+    @GetMapping("/v1/products/{productId}/review-cleanup")
+    public ResponseEntity<ProductReviewCleanupResponseDto> findReviewCleanupProgress(@PathVariable Long productId){
+        return ResponseEntity.ok(productService.getReviewCleanupProgress(productId));
+    }
+
     // 제품 삭제
     @Secured("ROLE_ADMIN")
     @DeleteMapping("/v1/products/{productId}")
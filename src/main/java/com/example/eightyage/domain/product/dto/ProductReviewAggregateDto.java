@@ -0,0 +1,29 @@
+package com.example.eightyage.domain.product.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class ProductReviewAggregateDto {
+
+    public static final ProductReviewAggregateDto EMPTY = new ProductReviewAggregateDto(List.of(0L, 0L, 0L, 0L, 0L), 0, 0.0);
+
+    // 점수 합계는 증감을 누적한 실수라 이 오차 안이면 같은 값으로 봄
+    private static final double SCORE_SUM_TOLERANCE = 1e-6;
+
+    // 별점 구간별 개수
+    private List<Long> starCounts;
+    private long reviewCount;
+    private double scoreSum;
+
+    public boolean hasSameStarCounts(ProductReviewAggregateDto other) {
+        return starCounts.equals(other.starCounts);
+    }
+
+    public boolean hasSameTotals(ProductReviewAggregateDto other) {
+        return reviewCount == other.reviewCount && Math.abs(scoreSum - other.scoreSum) < SCORE_SUM_TOLERANCE;
+    }
+}
@@ -20,6 +20,7 @@ public class ProductGetResponseDto {
     private final Integer price;
     private final SaleState saleState;
     private final List<String> productImageList;
+    private final ProductReviewStatsResponseDto reviewStats;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
 }
@@ -0,0 +1,14 @@
+package com.example.eightyage.domain.product.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ProductReviewCleanupResponseDto {
+    private final Long productId;
+    private final boolean running;
+    // 이 인스턴스에서 삭제한 리뷰 수
+    private final long deletedCount;
+    private final long remainingCount;
+}
@@ -0,0 +1,28 @@
+package com.example.eightyage.domain.product.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Redis 캐시에 남은 이전 형식(scoreSum 포함) 값도 읽을 수 있도록 모르는 필드는 무시
+@JsonIgnoreProperties(ignoreUnknown = true)
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductReviewStatsResponseDto {
+
+    private Long productId;
+    // 1점부터 5점까지 별점 구간별 리뷰 수
+    private List<Long> starCounts;
+    // 리뷰 수와 평균 별점은 제품의 리뷰 집계 컬럼 값
+    private long reviewCount;
+    private Double scoreAvg;
+
+    public static ProductReviewStatsResponseDto of(Long productId, List<Long> starCounts, long reviewCount, Double scoreAvg) {
+        return new ProductReviewStatsResponseDto(productId, new ArrayList<>(starCounts), reviewCount, scoreAvg);
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.eightyage.domain.product.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSearchPageCacheDto {
+
+    private List<ProductSearchResponseDto> content;
+    private long totalElements;
+
+    public static ProductSearchPageCacheDto from(Page<ProductSearchResponseDto> page) {
+        return new ProductSearchPageCacheDto(new ArrayList<>(page.getContent()), page.getTotalElements());
+    }
+}
@@ -2,6 +2,7 @@ package com.example.eightyage.domain.product.dto.response;
 
 import com.example.eightyage.domain.product.category.Category;
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -10,6 +11,9 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor
 public class ProductSearchResponseDto {
+    @JsonIgnore
+    private Long id;
+
     private String name;
     private Category category;
     private Integer price;
@@ -23,4 +27,10 @@ public class ProductSearchResponseDto {
         this.price = price;
         this.scoreAvg = scoreAvg;
     }
+
+    // 커서 조회용 (id 포함)
+    public ProductSearchResponseDto(Long id, String name, Category category, Integer price, Double scoreAvg) {
+        this(name, category, price, scoreAvg);
+        this.id = id;
+    }
 }
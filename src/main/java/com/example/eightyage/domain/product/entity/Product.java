@@ -9,6 +9,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -19,7 +20,11 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @Table(name = "product",
-        indexes = @Index(name = "index_saleState_category_name", columnList = "saleState, category, name")
+        indexes = {
+                @Index(name = "index_saleState_category_name", columnList = "saleState, category, name"),
+                @Index(name = "index_saleState_scoreAvg", columnList = "saleState, scoreAvg, id"),
+                @Index(name = "index_saleState_category_scoreAvg", columnList = "saleState, category, scoreAvg, id")
+        }
 )
 public class Product extends TimeStamped {
 
@@ -39,6 +44,17 @@ public class Product extends TimeStamped {
     @Enumerated(EnumType.STRING)
     private SaleState saleState;
 
+    // 리뷰 집계 (검색 정렬용 비정규화 컬럼)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long reviewCount = 0L;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Double scoreSum = 0.0;
+
+    private Double scoreAvg;
+
     @OneToMany(mappedBy = "product")
     private List<Review> reviews = new ArrayList<>();
 
@@ -0,0 +1,58 @@
+package com.example.eightyage.domain.product.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+/**
+ * 제품별 리뷰 별점 분포
+ * 리뷰 작성/수정/삭제 시 한 번의 upsert로 별점 구간별 개수를 증감한다.
+ * 소수점 점수는 반올림한 별점 구간(1~5)에 포함하며, 전체 리뷰 수와 점수 합계는 제품(Product)의 리뷰 집계 컬럼에만 둔다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor
+@Table(name = "product_review_stats")
+public class ProductReviewStats {
+
+    @Id
+    private Long productId;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long star1Count = 0L;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long star2Count = 0L;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long star3Count = 0L;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long star4Count = 0L;
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private Long star5Count = 0L;
+
+    // 점수가 속하는 별점 구간 (SQL 집계의 구간 경계와 같아야 함)
+    public static int starOf(double score) {
+        if (score < 1.5) {
+            return 1;
+        }
+        if (score < 2.5) {
+            return 2;
+        }
+        if (score < 3.5) {
+            return 3;
+        }
+        if (score < 4.5) {
+            return 4;
+        }
+        return 5;
+    }
+}
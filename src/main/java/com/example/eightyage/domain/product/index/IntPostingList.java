@@ -0,0 +1,84 @@
+package com.example.eightyage.domain.product.index;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 int 배열 기반 posting list
+ * 제품 id를 오름차순으로 중복 없이 보관한다.
+ */
+public class IntPostingList {
+
+    private static final int INITIAL_CAPACITY = 4;
+
+    private int[] ids = new int[INITIAL_CAPACITY];
+    private int size;
+
+    public void add(int id) {
+        // 대부분 id 순서대로 들어오므로 끝에 붙이는 경우를 먼저 처리
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity(size + 1);
+            ids[size++] = id;
+            return;
+        }
+
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos >= 0) {
+            return;
+        }
+
+        int insertAt = -pos - 1;
+        ensureCapacity(size + 1);
+        System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+        ids[insertAt] = id;
+        size++;
+    }
+
+    public void remove(int id) {
+        int pos = Arrays.binarySearch(ids, 0, size, id);
+        if (pos < 0) {
+            return;
+        }
+
+        System.arraycopy(ids, pos + 1, ids, pos, size - pos - 1);
+        size--;
+    }
+
+    public boolean contains(int id) {
+        return Arrays.binarySearch(ids, 0, size, id) >= 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int[] toArray() {
+        return Arrays.copyOf(ids, size);
+    }
+
+    // candidates 앞쪽 length개 중 이 목록에 있는 id만 남기고, 남은 개수를 반환
+    public int retainIn(int[] candidates, int length) {
+        int kept = 0;
+        for (int i = 0; i < length; i++) {
+            if (contains(candidates[i])) {
+                candidates[kept++] = candidates[i];
+            }
+        }
+        return kept;
+    }
+
+    public void trimToSize() {
+        if (ids.length != size) {
+            ids = Arrays.copyOf(ids, Math.max(size, 1));
+        }
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (ids.length < minCapacity) {
+            ids = Arrays.copyOf(ids, Math.max(minCapacity, ids.length + (ids.length >> 1)));
+        }
+    }
+}
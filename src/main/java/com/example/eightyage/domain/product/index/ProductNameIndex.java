@@ -0,0 +1,227 @@
+package com.example.eightyage.domain.product.index;
+
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * 제품명 n-gram 역색인
+ * LIKE '%name%' 검색의 후보 제품 id를 메모리에서 찾는다.
+ * 이름의 bigram과 trigram을 모두 색인해 3자 이상 키워드는 trigram으로, 2자 키워드(예: 주름)는 bigram으로 찾는다.
+ * 최종 일치 여부는 DB의 LIKE 조건으로 다시 확인하므로 후보는 실제 결과의 상위 집합이면 된다.
+ */
+@Component
+public class ProductNameIndex {
+
+    private static final int MIN_GRAM_SIZE = 2;
+    private static final int MAX_GRAM_SIZE = 3;
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    // collation이 무시하는 제어/서식 문자 (soft hyphen, zero width joiner 등, 공백류 제어 문자는 무시되지 않음)
+    private static final Pattern IGNORABLE_CHARACTERS = Pattern.compile("[\\p{Cc}\\p{Cf}&&[^\\t\\n\\u000B\\f\\r\\u0085]]+");
+    private static final String LIKE_SPECIAL_CHARACTERS = "%_\\";
+    private static final Map<Character, String> FOLDED_LETTERS = Map.of(
+            'ß', "ss", 'æ', "ae", 'œ', "oe", 'ø', "o", 'đ', "d", 'ł', "l", 'ı', "i"
+    );
+    private static final char KATAKANA_START = '\u30A1';
+    private static final char KATAKANA_END = '\u30F6';
+    private static final int KATAKANA_TO_HIRAGANA = 0x60;
+    private static final char HIRAGANA_START = '\u3041';
+    private static final char HIRAGANA_END = '\u3096';
+    private static final char HANGUL_START = '\uAC00';
+    private static final char HANGUL_END = '\uD7A3';
+    private static final char CJK_START = '\u4E00';
+    private static final char CJK_END = '\u9FFF';
+
+    private final Map<String, IntPostingList> postings = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private volatile boolean ready = false;
+
+    public void add(Long productId, String name) {
+        if (productId == null || name == null) {
+            return;
+        }
+
+        int id = Math.toIntExact(productId);
+        Set<String> grams = extractGrams(normalize(name));
+
+        lock.writeLock().lock();
+        try {
+            for (String gram : grams) {
+                postings.computeIfAbsent(gram, key -> new IntPostingList()).add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(Long productId, String name) {
+        replace(productId, name, null);
+    }
+
+    // 이름 변경: 새 이름에 없는 이전 이름의 gram만 제거
+    public void replace(Long productId, String prevName, String newName) {
+        if (productId == null || prevName == null) {
+            return;
+        }
+
+        int id = Math.toIntExact(productId);
+        Set<String> removedGrams = extractGrams(normalize(prevName));
+        Set<String> addedGrams = newName == null ? Set.of() : extractGrams(normalize(newName));
+        removedGrams.removeAll(addedGrams);
+
+        lock.writeLock().lock();
+        try {
+            for (String gram : addedGrams) {
+                postings.computeIfAbsent(gram, key -> new IntPostingList()).add(id);
+            }
+            for (String gram : removedGrams) {
+                IntPostingList postingList = postings.get(gram);
+                if (postingList == null) {
+                    continue;
+                }
+                postingList.remove(id);
+                if (postingList.isEmpty()) {
+                    postings.remove(gram);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 키워드를 포함할 수 있는 제품 id 후보 조회
+     * 색인을 쓸 수 없거나(준비 전, 1자 키워드, LIKE 특수문자, 정규화가 다루지 않는 문자) 후보가 maxCandidates를 넘으면 empty
+     */
+    public Optional<List<Long>> findCandidateIds(String keyword, int maxCandidates) {
+        if (!ready || keyword == null || containsLikeSpecialCharacter(keyword)) {
+            return Optional.empty();
+        }
+
+        String normalized = normalize(keyword);
+        if (normalized.length() < MIN_GRAM_SIZE || !isFoldingSupported(normalized)) {
+            return Optional.empty();
+        }
+
+        Set<String> grams = extractGrams(normalized, Math.min(normalized.length(), MAX_GRAM_SIZE));
+
+        lock.readLock().lock();
+        try {
+            List<IntPostingList> lists = new ArrayList<>(grams.size());
+            for (String gram : grams) {
+                IntPostingList postingList = postings.get(gram);
+                if (postingList == null) {
+                    return Optional.of(List.of());
+                }
+                lists.add(postingList);
+            }
+
+            // 가장 짧은 목록부터 교집합
+            lists.sort(Comparator.comparingInt(IntPostingList::size));
+
+            int[] candidates = lists.get(0).toArray();
+            int length = candidates.length;
+            for (int i = 1; i < lists.size() && length > 0; i++) {
+                length = lists.get(i).retainIn(candidates, length);
+            }
+
+            if (length > maxCandidates) {
+                return Optional.empty();
+            }
+
+            List<Long> candidateIds = new ArrayList<>(length);
+            for (int i = 0; i < length; i++) {
+                candidateIds.add((long) candidates[i]);
+            }
+            return Optional.of(candidateIds);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void markReady() {
+        lock.writeLock().lock();
+        try {
+            postings.values().forEach(IntPostingList::trimToSize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        ready = true;
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * DB collation(utf8mb4_0900_ai_ci)이 같게 보는 문자를 같은 문자열로 정규화
+     * NFKD로 전각/반각과 합자를 풀고 결합 악센트와 무시되는 제어/서식 문자를 제거한 뒤 소문자로 바꾼다.
+     * 분해되지 않는 라틴 문자(ß, æ, ø 등)와 가타카나는 collation 기준에 맞춰 따로 접는다.
+     * collation과 같게 접는다고 보장하는 문자는 isFoldingSupported의 범위뿐이며, 그 밖의 문자(그리스 문자 ς/σ,
+     * 장음 부호 ー 등)가 든 키워드는 색인을 쓰지 않고 LIKE로 찾는다.
+     */
+    public static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFKD);
+        String stripped = IGNORABLE_CHARACTERS.matcher(COMBINING_MARKS.matcher(decomposed).replaceAll("")).replaceAll("");
+        String lowered = Normalizer.normalize(stripped, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+
+        StringBuilder folded = new StringBuilder(lowered.length());
+        for (int i = 0; i < lowered.length(); i++) {
+            char c = lowered.charAt(i);
+            String letter = FOLDED_LETTERS.get(c);
+            if (letter != null) {
+                folded.append(letter);
+            } else if (c >= KATAKANA_START && c <= KATAKANA_END) {
+                // 가타카나 → 히라가나 (ai_ci는 가나 종류를 구분하지 않음)
+                folded.append((char) (c - KATAKANA_TO_HIRAGANA));
+            } else {
+                folded.append(c);
+            }
+        }
+        return folded.toString();
+    }
+
+    // 정규화한 문자열이 ASCII 출력 문자, 한글 음절, 히라가나, CJK 통합 한자로만 이루어졌는지 여부
+    public static boolean isFoldingSupported(String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            boolean supported = (c >= ' ' && c <= '~')
+                    || (c >= HANGUL_START && c <= HANGUL_END)
+                    || (c >= HIRAGANA_START && c <= HIRAGANA_END)
+                    || (c >= CJK_START && c <= CJK_END);
+            if (!supported) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 색인할 gram (bigram과 trigram)
+    static Set<String> extractGrams(String normalized) {
+        Set<String> grams = new HashSet<>();
+        for (int size = MIN_GRAM_SIZE; size <= MAX_GRAM_SIZE; size++) {
+            grams.addAll(extractGrams(normalized, size));
+        }
+        return grams;
+    }
+
+    static Set<String> extractGrams(String normalized, int size) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + size <= normalized.length(); i++) {
+            grams.add(normalized.substring(i, i + size));
+        }
+        return grams;
+    }
+
+    private static boolean containsLikeSpecialCharacter(String keyword) {
+        for (int i = 0; i < keyword.length(); i++) {
+            if (LIKE_SPECIAL_CHARACTERS.indexOf(keyword.charAt(i)) >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.eightyage.domain.product.index;
+
+import com.example.eightyage.domain.product.repository.ProductBulkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ProductNameIndexInitializer {
+
+    private final ProductBulkRepository productBulkRepository;
+    private final ProductNameIndex productNameIndex;
+    private static final int LOAD_CHUNK_SIZE = 10000;
+
+    // 서버 시작 시 DB의 제품명으로 색인 구축 (구축 전에는 LIKE 검색으로 동작)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Thread loader = new Thread(this::load, "product-name-index-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    void load() {
+        long startedAt = System.currentTimeMillis();
+        long[] lastId = {0};
+        long total = 0;
+
+        try {
+            int loaded;
+            do {
+                loaded = productBulkRepository.findProductNamesAfter(lastId[0], LOAD_CHUNK_SIZE, (id, name) -> {
+                    productNameIndex.add(id, name);
+                    lastId[0] = id;
+                });
+                total += loaded;
+            } while (loaded == LOAD_CHUNK_SIZE);
+
+            productNameIndex.markReady();
+            log.info("제품명 색인 구축 완료: {}건, {}ms", total, System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            log.error("제품명 색인 구축 실패, LIKE 검색으로 동작합니다.", e);
+        }
+    }
+}
@@ -5,9 +5,11 @@ import com.example.eightyage.domain.product.entity.Product;
 import com.example.eightyage.domain.product.salestate.SaleState;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.Random;
 
 @Repository
@@ -26,4 +28,46 @@ public class ProductBulkRepository {
             ps.setString(3, argument.getSaleState().name());
         });
     }
+
+    // id 이후의 삭제되지 않은 제품명을 limit개씩 읽어 전달하고, 읽은 개수를 반환
+    public int findProductNamesAfter(long afterId, int limit, BiConsumer<Long, String> consumer) {
+        String sql = "SELECT id, name FROM product WHERE deleted_at IS NULL AND id > ? ORDER BY id LIMIT ?";
+
+        int[] count = {0};
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> {
+            consumer.accept(rs.getLong("id"), rs.getString("name"));
+            count[0]++;
+        }, afterId, limit);
+        return count[0];
+    }
+
+    public Long findMinProductId() {
+        return jdbcTemplate.queryForObject("SELECT MIN(id) FROM product", Long.class);
+    }
+
+    public Long findMaxProductId() {
+        return jdbcTemplate.queryForObject("SELECT MAX(id) FROM product", Long.class);
+    }
+
+    // 삭제됐지만 리뷰가 남아 있는 제품 (리뷰 정리가 중단된 제품)
+    public List<Long> findDeletedProductIdsWithReviews() {
+        String sql = "SELECT p.id FROM product p " +
+                "WHERE p.deleted_at IS NOT NULL AND EXISTS (SELECT 1 FROM review r WHERE r.product_id = p.id)";
+
+        return jdbcTemplate.queryForList(sql, Long.class);
+    }
+
+    // id 구간 단위로 리뷰 집계 컬럼을 review 테이블 기준으로 다시 계산
+    public int backfillReviewStats(long fromId, long toId) {
+        String sql = "UPDATE product p " +
+                "LEFT JOIN (SELECT product_id, COUNT(*) AS cnt, SUM(score) AS total " +
+                "           FROM review WHERE product_id BETWEEN ? AND ? GROUP BY product_id) r " +
+                "ON r.product_id = p.id " +
+                "SET p.review_count = COALESCE(r.cnt, 0), " +
+                "    p.score_sum = COALESCE(r.total, 0), " +
+                "    p.score_avg = r.total / r.cnt " +
+                "WHERE p.id BETWEEN ? AND ?";
+
+        return jdbcTemplate.update(sql, fromId, toId, fromId, toId);
+    }
 }
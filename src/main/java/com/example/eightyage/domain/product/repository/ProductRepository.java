@@ -5,11 +5,14 @@ import com.example.eightyage.domain.product.category.Category;
 import com.example.eightyage.domain.product.entity.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -18,16 +21,92 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p WHERE p.id = :productId AND p.deletedAt IS NULL")
     Optional<Product> findById(@Param("productId") Long productId);
 
-    @Query("SELECT new com.example.eightyage.domain.product.dto.response.ProductSearchResponseDto(p.name, p.category, p.price, AVG(r.score)) " +
-            "FROM Product p LEFT JOIN p.reviews r " +
+    @Query("SELECT new com.example.eightyage.domain.product.dto.response.ProductSearchResponseDto(p.name, p.category, p.price, p.scoreAvg) " +
+            "FROM Product p " +
             "WHERE p.saleState = 'FOR_SALE' " +
             "AND (:category IS NULL OR p.category = :category) " +
             "AND (:name IS NULL OR p.name LIKE CONCAT('%', :name, '%')) " +
-            "GROUP BY p.name, p.category, p.price " +
-            "ORDER BY AVG(r.score)")
+            "ORDER BY p.scoreAvg, p.id")
     Page<ProductSearchResponseDto> findProductsOrderByReviewScore(
             @Param("name") String name,
             @Param("category") Category category,
             Pageable pageable
     );
+
+    // 제품명 색인으로 좁힌 후보 id 안에서 검색
+    @Query("SELECT new com.example.eightyage.domain.product.dto.response.ProductSearchResponseDto(p.name, p.category, p.price, p.scoreAvg) " +
+            "FROM Product p " +
+            "WHERE p.id IN :ids " +
+            "AND p.saleState = 'FOR_SALE' " +
+            "AND (:category IS NULL OR p.category = :category) " +
+            "AND p.name LIKE CONCAT('%', :name, '%') " +
+            "ORDER BY p.scoreAvg, p.id")
+    Page<ProductSearchResponseDto> findProductsByIdsOrderByReviewScore(
+            @Param("ids") List<Long> ids,
+            @Param("name") String name,
+            @Param("category") Category category,
+            Pageable pageable
+    );
+
+    // 커서 조회 첫 페이지 (count 쿼리 없음)
+    @Query("SELECT new com.example.eightyage.domain.product.dto.response.ProductSearchResponseDto(p.id, p.name, p.category, p.price, p.scoreAvg) " +
+            "FROM Product p " +
+            "WHERE p.saleState = 'FOR_SALE' " +
+            "AND (:category IS NULL OR p.category = :category) " +
+            "AND (:name IS NULL OR p.name LIKE CONCAT('%', :name, '%')) " +
+            "ORDER BY p.scoreAvg, p.id")
+    Slice<ProductSearchResponseDto> findProductsFirstSlice(
+            @Param("name") String name,
+            @Param("category") Category category,
+            Pageable pageable
+    );
+
+    // 커서 조회 - 마지막 제품의 평균 점수가 null인 경우 (null이 가장 앞에 정렬됨)
+    @Query("SELECT new com.example.eightyage.domain.product.dto.response.ProductSearchResponseDto(p.id, p.name, p.category, p.price, p.scoreAvg) " +
+            "FROM Product p " +
+            "WHERE p.saleState = 'FOR_SALE' " +
+            "AND (:category IS NULL OR p.category = :category) " +
+            "AND (:name IS NULL OR p.name LIKE CONCAT('%', :name, '%')) " +
+            "AND ((p.scoreAvg IS NULL AND p.id > :cursorId) OR p.scoreAvg IS NOT NULL) " +
+            "ORDER BY p.scoreAvg, p.id")
+    Slice<ProductSearchResponseDto> findProductsSliceAfterUnscored(
+            @Param("name") String name,
+            @Param("category") Category category,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    // 커서 조회 - (평균 점수, id) 이후
+    @Query("SELECT new com.example.eightyage.domain.product.dto.response.ProductSearchResponseDto(p.id, p.name, p.category, p.price, p.scoreAvg) " +
+            "FROM Product p " +
+            "WHERE p.saleState = 'FOR_SALE' " +
+            "AND (:category IS NULL OR p.category = :category) " +
+            "AND (:name IS NULL OR p.name LIKE CONCAT('%', :name, '%')) " +
+            "AND (p.scoreAvg > :cursorScore OR (p.scoreAvg = :cursorScore AND p.id > :cursorId)) " +
+            "ORDER BY p.scoreAvg, p.id")
+    Slice<ProductSearchResponseDto> findProductsSliceAfter(
+            @Param("name") String name,
+            @Param("category") Category category,
+            @Param("cursorScore") Double cursorScore,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    // 리뷰 개수, 점수 합계를 원자적으로 증감
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Product p " +
+            "SET p.reviewCount = p.reviewCount + :countDelta, p.scoreSum = p.scoreSum + :scoreDelta " +
+            "WHERE p.id = :productId")
+    int increaseReviewStats(
+            @Param("productId") Long productId,
+            @Param("countDelta") long countDelta,
+            @Param("scoreDelta") double scoreDelta
+    );
+
+    // 갱신된 개수, 합계로 평균 점수 재계산 (영속성 컨텍스트의 Product가 이전 집계 값을 들고 있지 않도록 비움)
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Product p " +
+            "SET p.scoreAvg = CASE WHEN p.reviewCount > 0 THEN p.scoreSum / p.reviewCount ELSE NULL END " +
+            "WHERE p.id = :productId")
+    int refreshScoreAvg(@Param("productId") Long productId);
 }
@@ -0,0 +1,118 @@
+package com.example.eightyage.domain.product.repository;
+
+import com.example.eightyage.domain.product.dto.ProductReviewAggregateDto;
+import com.example.eightyage.domain.product.dto.response.ProductReviewStatsResponseDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductReviewStatsBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private static final String STATS_COLUMNS =
+            "product_id, star1_count, star2_count, star3_count, star4_count, star5_count";
+
+    // review 테이블 기준 별점 구간별 집계 (구간 경계는 ProductReviewStats.starOf와 같음)
+    private static final String AGGREGATE_COLUMNS =
+            "COALESCE(SUM(CASE WHEN score < 1.5 THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN score >= 1.5 AND score < 2.5 THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN score >= 2.5 AND score < 3.5 THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN score >= 3.5 AND score < 4.5 THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN score >= 4.5 THEN 1 ELSE 0 END), 0)";
+
+    private static final String OVERWRITE_COLUMNS =
+            "star1_count = VALUES(star1_count), star2_count = VALUES(star2_count), star3_count = VALUES(star3_count), " +
+            "star4_count = VALUES(star4_count), star5_count = VALUES(star5_count)";
+
+    // 별점 구간별 개수를 한 문장으로 증감 (행이 없으면 생성)
+    public int applyDelta(Long productId, long[] starDeltas) {
+        String sql = "INSERT INTO product_review_stats (" + STATS_COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?) " +
+                "ON DUPLICATE KEY UPDATE " +
+                "star1_count = star1_count + VALUES(star1_count), " +
+                "star2_count = star2_count + VALUES(star2_count), " +
+                "star3_count = star3_count + VALUES(star3_count), " +
+                "star4_count = star4_count + VALUES(star4_count), " +
+                "star5_count = star5_count + VALUES(star5_count)";
+
+        return jdbcTemplate.update(sql, productId, starDeltas[0], starDeltas[1], starDeltas[2], starDeltas[3], starDeltas[4]);
+    }
+
+    // 제품의 별점 분포와 리뷰 집계 (제품이 없으면 empty, 분포 행이 없으면 모든 구간 0)
+    public Optional<ProductReviewStatsResponseDto> findReviewStats(Long productId) {
+        String sql = "SELECT p.id, COALESCE(s.star1_count, 0), COALESCE(s.star2_count, 0), COALESCE(s.star3_count, 0), " +
+                "COALESCE(s.star4_count, 0), COALESCE(s.star5_count, 0), p.review_count, p.score_avg " +
+                "FROM product p LEFT JOIN product_review_stats s ON s.product_id = p.id WHERE p.id = ?";
+
+        List<ProductReviewStatsResponseDto> stats = jdbcTemplate.query(sql, (rs, rowNum) ->
+                ProductReviewStatsResponseDto.of(rs.getLong(1), starCounts(rs), rs.getLong(7), rs.getObject(8, Double.class)),
+                productId);
+        return stats.stream().findFirst();
+    }
+
+    // 제품 id 구간의 저장된 별점 구간별 개수와 제품의 리뷰 개수, 점수 합계 (분포 행이 없으면 모든 구간 0)
+    public Map<Long, ProductReviewAggregateDto> findStoredAggregates(long fromId, long toId) {
+        String sql = "SELECT p.id, COALESCE(s.star1_count, 0), COALESCE(s.star2_count, 0), COALESCE(s.star3_count, 0), " +
+                "COALESCE(s.star4_count, 0), COALESCE(s.star5_count, 0), p.review_count, p.score_sum " +
+                "FROM product p LEFT JOIN product_review_stats s ON s.product_id = p.id WHERE p.id BETWEEN ? AND ?";
+
+        Map<Long, ProductReviewAggregateDto> aggregates = new HashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> aggregates.put(rs.getLong(1), aggregate(rs)), fromId, toId);
+        return aggregates;
+    }
+
+    // 제품 id 구간의 리뷰로 다시 계산한 별점 구간별 개수와 리뷰 개수, 점수 합계 (리뷰가 있는 제품만)
+    // 리뷰 개수, 점수 합계는 ProductBulkRepository.backfillReviewStats와 같은 기준으로 센다.
+    public Map<Long, ProductReviewAggregateDto> aggregateFromReviews(long fromId, long toId) {
+        String sql = "SELECT product_id, " + AGGREGATE_COLUMNS + ", COUNT(*), COALESCE(SUM(score), 0) FROM review " +
+                "WHERE product_id BETWEEN ? AND ? GROUP BY product_id";
+
+        Map<Long, ProductReviewAggregateDto> aggregates = new HashMap<>();
+        jdbcTemplate.query(sql, (RowCallbackHandler) rs -> aggregates.put(rs.getLong(1), aggregate(rs)), fromId, toId);
+        return aggregates;
+    }
+
+    // 한 제품의 분포를 리뷰 기준으로 다시 계산해 덮어씀 (집계와 쓰기를 한 문장으로 처리)
+    public int rebuild(Long productId) {
+        String sql = "INSERT INTO product_review_stats (" + STATS_COLUMNS + ") " +
+                "SELECT ?, " + AGGREGATE_COLUMNS + " FROM review WHERE product_id = ? AND score IS NOT NULL " +
+                "ON DUPLICATE KEY UPDATE " + OVERWRITE_COLUMNS;
+
+        return jdbcTemplate.update(sql, productId, productId);
+    }
+
+    // 제품 id 구간의 분포를 리뷰 기준으로 다시 계산 (리뷰가 없는 제품의 행은 0으로 초기화)
+    public int rebuild(long fromId, long toId) {
+        String sql = "INSERT INTO product_review_stats (" + STATS_COLUMNS + ") " +
+                "SELECT product_id, " + AGGREGATE_COLUMNS + " FROM review " +
+                "WHERE product_id BETWEEN ? AND ? AND score IS NOT NULL GROUP BY product_id " +
+                "ON DUPLICATE KEY UPDATE " + OVERWRITE_COLUMNS;
+        int updated = jdbcTemplate.update(sql, fromId, toId);
+
+        String resetSql = "UPDATE product_review_stats s " +
+                "SET s.star1_count = 0, s.star2_count = 0, s.star3_count = 0, s.star4_count = 0, s.star5_count = 0 " +
+                "WHERE s.product_id BETWEEN ? AND ? " +
+                "AND NOT EXISTS (SELECT 1 FROM review r WHERE r.product_id = s.product_id AND r.score IS NOT NULL)";
+        return updated + jdbcTemplate.update(resetSql, fromId, toId);
+    }
+
+    // 2~6번째 열의 별점 구간별 개수
+    private static List<Long> starCounts(ResultSet rs) throws SQLException {
+        return List.of(rs.getLong(2), rs.getLong(3), rs.getLong(4), rs.getLong(5), rs.getLong(6));
+    }
+
+    // 2~6번째 열의 별점 구간별 개수, 7번째 열의 리뷰 개수, 8번째 열의 점수 합계
+    private static ProductReviewAggregateDto aggregate(ResultSet rs) throws SQLException {
+        return new ProductReviewAggregateDto(starCounts(rs), rs.getLong(7), rs.getDouble(8));
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.eightyage.domain.product.service;
+
+import com.example.eightyage.domain.product.dto.response.ProductReviewCleanupResponseDto;
+import com.example.eightyage.domain.product.repository.ProductBulkRepository;
+import com.example.eightyage.domain.review.repository.ReviewBulkRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 삭제된 제품의 리뷰 정리
+ * 제품 삭제 요청은 제품만 soft delete 하고 바로 응답하며, 리뷰는 이 작업이 DELETE ... LIMIT로 묶음마다 나눠 지운다.
+ * 묶음마다 따로 커밋하고 묶음 사이에 쉬어 잠금과 복제 지연을 짧게 유지한다.
+ * 진행 상황은 남은 리뷰 수(DB)로 확인하며, 중단되거나 실패해도 시작 시와 주기마다 리뷰가 남은 삭제 제품을 찾아 다시 정리한다.
+ */
+@Slf4j
+@Component
+public class ProductReviewCleanupRunner {
+
+    private final ReviewBulkRepository reviewBulkRepository;
+    private final ProductBulkRepository productBulkRepository;
+    private final ProductReviewStatsService productReviewStatsService;
+    private final int chunkSize;
+    private final long throttleMs;
+
+    // 제품별 이 인스턴스에서 삭제한 리뷰 수 (정리가 끝나면 지움)
+    private final Map<Long, AtomicLong> deletedCounts = new ConcurrentHashMap<>();
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+    private final Counter deletedCounter;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "product-review-cleanup");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ProductReviewCleanupRunner(ReviewBulkRepository reviewBulkRepository,
+                                      ProductBulkRepository productBulkRepository,
+                                      ProductReviewStatsService productReviewStatsService,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${product.review-cleanup.chunk-size:1000}") int chunkSize,
+                                      @Value("${product.review-cleanup.throttle-ms:100}") long throttleMs) {
+        this.reviewBulkRepository = reviewBulkRepository;
+        this.productBulkRepository = productBulkRepository;
+        this.productReviewStatsService = productReviewStatsService;
+        this.chunkSize = chunkSize;
+        this.throttleMs = throttleMs;
+
+        Gauge.builder("product.review-cleanup.running", running, Set::size).register(meterRegistry);
+        this.deletedCounter = Counter.builder("product.review-cleanup.deleted").register(meterRegistry);
+    }
+
+    // 시작 시 중단된 정리 재개 (실패해도 기동은 계속하고 다음 주기에 다시 재개)
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        try {
+            resume();
+        } catch (Exception e) {
+            log.warn("시작 시 삭제된 제품의 리뷰 정리 재개 실패", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${product.review-cleanup.resume-interval-ms:600000}", initialDelayString = "${product.review-cleanup.resume-interval-ms:600000}")
+    public void resume() {
+        productBulkRepository.findDeletedProductIdsWithReviews().forEach(this::submit);
+    }
+
+    // 이미 정리 중인 제품은 다시 등록하지 않음
+    public void submit(Long productId) {
+        if (running.add(productId)) {
+            executor.execute(() -> run(productId));
+        }
+    }
+
+    // 정리가 끝난 제품은 남은 리뷰 수 0으로 확인 (삭제한 수 기록은 남기지 않음)
+    public ProductReviewCleanupResponseDto getProgress(Long productId) {
+        AtomicLong deleted = deletedCounts.get(productId);
+        return new ProductReviewCleanupResponseDto(productId, running.contains(productId),
+                deleted == null ? 0 : deleted.get(), reviewBulkRepository.countReviewsByProductId(productId));
+    }
+
+    // 지운 리뷰는 다시 지우지 않으므로 멈춘 뒤 재개 가능
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void run(Long productId) {
+        AtomicLong deletedCount = deletedCounts.computeIfAbsent(productId, id -> new AtomicLong());
+        try {
+            int deleted;
+            do {
+                deleted = reviewBulkRepository.deleteReviewsByProductId(productId, chunkSize);
+                deletedCount.addAndGet(deleted);
+                deletedCounter.increment(deleted);
+
+                if (deleted == chunkSize && throttleMs > 0) {
+                    Thread.sleep(throttleMs);
+                }
+            } while (deleted == chunkSize);
+
+            productReviewStatsService.rebuildReviewStats(productId);
+            deletedCounts.remove(productId);
+            log.info("삭제된 제품의 리뷰 정리 완료: productId={}, {}건", productId, deletedCount.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.info("삭제된 제품의 리뷰 정리 중단: productId={}, {}건 삭제", productId, deletedCount.get());
+        } catch (RuntimeException e) {
+            log.warn("삭제된 제품의 리뷰 정리 실패: productId={}, {}건 삭제", productId, deletedCount.get(), e);
+        } finally {
+            running.remove(productId);
+        }
+    }
+}
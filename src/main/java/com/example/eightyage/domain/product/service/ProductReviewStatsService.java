@@ -0,0 +1,74 @@
+package com.example.eightyage.domain.product.service;
+
+import com.example.eightyage.domain.product.dto.response.ProductReviewStatsResponseDto;
+import com.example.eightyage.domain.product.entity.ProductReviewStats;
+import com.example.eightyage.domain.product.repository.ProductBulkRepository;
+import com.example.eightyage.domain.product.repository.ProductReviewStatsBulkRepository;
+import com.example.eightyage.global.cache.LayeredCache;
+import com.example.eightyage.global.exception.NotFoundException;
+import com.example.eightyage.global.util.TransactionUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductReviewStatsService {
+
+    private final ProductBulkRepository productBulkRepository;
+    private final ProductReviewStatsBulkRepository productReviewStatsBulkRepository;
+    private final LayeredCache productReviewStatsCache;
+    private static final long CHUNK_SIZE = 1000;
+
+    // 기존 제품의 리뷰 집계 컬럼과 별점 분포 일괄 보정 (id 구간별로 나눠 커밋)
+    public long backfillReviewStats() {
+        Long minId = productBulkRepository.findMinProductId();
+        Long maxId = productBulkRepository.findMaxProductId();
+
+        if (minId == null || maxId == null) {
+            return 0;
+        }
+
+        long updated = 0;
+        for (long fromId = minId; fromId <= maxId; fromId += CHUNK_SIZE) {
+            long toId = Math.min(fromId + CHUNK_SIZE - 1, maxId);
+            updated += productBulkRepository.backfillReviewStats(fromId, toId);
+            productReviewStatsBulkRepository.rebuild(fromId, toId);
+        }
+        productReviewStatsCache.clear();
+
+        log.info("리뷰 집계 보정 완료: {}건", updated);
+        return updated;
+    }
+
+    // 제품 별점 분포 조회 (L1 Caffeine → L2 Redis → 기본 키 조회, 제품 존재 여부는 캐시에 없을 때만 확인)
+    @Transactional(readOnly = true)
+    public ProductReviewStatsResponseDto getReviewStats(Long productId) {
+        return productReviewStatsCache.get(String.valueOf(productId), () -> productReviewStatsBulkRepository.findReviewStats(productId)
+                .orElseThrow(() -> new NotFoundException("해당 제품이 존재하지 않습니다.")));
+    }
+
+    // 한 제품의 별점 분포를 리뷰 기준으로 다시 계산 (삭제된 제품의 리뷰 정리 후 0으로 맞춤)
+    public void rebuildReviewStats(Long productId) {
+        productReviewStatsBulkRepository.rebuild(productId);
+        productReviewStatsCache.evict(String.valueOf(productId));
+    }
+
+    // 리뷰 작성(prevScore null)/수정/삭제(newScore null) 시 별점 분포 반영 (수정은 이전 구간에서 새 구간으로 개수 이동)
+    @Transactional
+    public void applyReviewScore(Long productId, Double prevScore, Double newScore) {
+        long[] starDeltas = new long[5];
+
+        if (prevScore != null) {
+            starDeltas[ProductReviewStats.starOf(prevScore) - 1]--;
+        }
+        if (newScore != null) {
+            starDeltas[ProductReviewStats.starOf(newScore) - 1]++;
+        }
+
+        productReviewStatsBulkRepository.applyDelta(productId, starDeltas);
+        TransactionUtil.afterCommit(() -> productReviewStatsCache.evict(String.valueOf(productId)));
+    }
+}
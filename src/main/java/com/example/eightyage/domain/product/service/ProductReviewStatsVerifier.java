@@ -0,0 +1,106 @@
+package com.example.eightyage.domain.product.service;
+
+import com.example.eightyage.domain.product.dto.ProductReviewAggregateDto;
+import com.example.eightyage.domain.product.repository.ProductBulkRepository;
+import com.example.eightyage.domain.product.repository.ProductReviewStatsBulkRepository;
+import com.example.eightyage.global.cache.LayeredCache;
+import com.example.eightyage.global.util.DriftTracker;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 제품 리뷰 집계 검증
+ * 제품 id 구간마다 리뷰를 GROUP BY로 다시 집계해 저장된 별점 구간별 개수, 제품의 리뷰 개수와 점수 합계를 비교하고,
+ * 두 번 연속 다른 제품만 리뷰 기준으로 다시 계산한다.
+ */
+@Slf4j
+@Component
+public class ProductReviewStatsVerifier {
+
+    private static final long CHUNK_SIZE = 1000;
+
+    private final ProductBulkRepository productBulkRepository;
+    private final ProductReviewStatsBulkRepository productReviewStatsBulkRepository;
+    private final LayeredCache productReviewStatsCache;
+    private final LayeredCache productSearchCache;
+    // 차이는 집계가 다른 제품 수
+    private final DriftTracker<Long> driftTracker;
+
+    public ProductReviewStatsVerifier(ProductBulkRepository productBulkRepository,
+                                      ProductReviewStatsBulkRepository productReviewStatsBulkRepository,
+                                      LayeredCache productReviewStatsCache,
+                                      LayeredCache productSearchCache,
+                                      MeterRegistry meterRegistry) {
+        this.productBulkRepository = productBulkRepository;
+        this.productReviewStatsBulkRepository = productReviewStatsBulkRepository;
+        this.productReviewStatsCache = productReviewStatsCache;
+        this.productSearchCache = productSearchCache;
+        this.driftTracker = new DriftTracker<>(meterRegistry, "product.review-stats");
+    }
+
+    @Scheduled(fixedDelayString = "${product.review-stats.verify-interval-ms:600000}", initialDelayString = "${product.review-stats.verify-interval-ms:600000}")
+    public synchronized void verify() {
+        Long minId = productBulkRepository.findMinProductId();
+        Long maxId = productBulkRepository.findMaxProductId();
+
+        driftTracker.start();
+        boolean totalsRepaired = false;
+        if (minId != null && maxId != null) {
+            for (long fromId = minId; fromId <= maxId; fromId += CHUNK_SIZE) {
+                totalsRepaired |= verifyChunk(fromId, Math.min(fromId + CHUNK_SIZE - 1, maxId));
+            }
+        }
+        driftTracker.finish();
+
+        // 평균 점수가 바뀐 제품이 검색 결과에 남지 않도록 비움
+        if (totalsRepaired) {
+            productSearchCache.clear();
+        }
+    }
+
+    // 반환: 제품의 리뷰 개수, 점수 합계를 다시 계산했는지 여부
+    private boolean verifyChunk(long fromId, long toId) {
+        Map<Long, ProductReviewAggregateDto> stored = productReviewStatsBulkRepository.findStoredAggregates(fromId, toId);
+        Map<Long, ProductReviewAggregateDto> expected = productReviewStatsBulkRepository.aggregateFromReviews(fromId, toId);
+
+        Set<Long> productIds = new HashSet<>(stored.keySet());
+        productIds.addAll(expected.keySet());
+
+        boolean totalsRepaired = false;
+        for (Long productId : productIds) {
+            ProductReviewAggregateDto expectedAggregate = expected.getOrDefault(productId, ProductReviewAggregateDto.EMPTY);
+            ProductReviewAggregateDto storedAggregate = stored.getOrDefault(productId, ProductReviewAggregateDto.EMPTY);
+            boolean starCountsDrifted = !expectedAggregate.hasSameStarCounts(storedAggregate);
+            boolean totalsDrifted = !expectedAggregate.hasSameTotals(storedAggregate);
+            if (!starCountsDrifted && !totalsDrifted) {
+                continue;
+            }
+            driftTracker.recordDrift(1);
+
+            if (driftTracker.wasDrifted(productId)) {
+                if (starCountsDrifted) {
+                    productReviewStatsBulkRepository.rebuild(productId);
+                }
+                if (totalsDrifted) {
+                    // 리뷰 개수, 점수 합계와 평균 점수를 함께 다시 계산
+                    productBulkRepository.backfillReviewStats(productId, productId);
+                    totalsRepaired = true;
+                }
+                productReviewStatsCache.evict(String.valueOf(productId));
+                driftTracker.repaired();
+                log.info("제품 리뷰 집계 보정: productId={}, 저장 {}/{}/{}, 리뷰 {}/{}/{}", productId,
+                        storedAggregate.getStarCounts(), storedAggregate.getReviewCount(), storedAggregate.getScoreSum(),
+                        expectedAggregate.getStarCounts(), expectedAggregate.getReviewCount(), expectedAggregate.getScoreSum());
+            } else {
+                driftTracker.markDrifted(productId);
+            }
+        }
+        return totalsRepaired;
+    }
+}
@@ -6,24 +6,35 @@ import com.example.eightyage.domain.product.dto.response.*;
 import com.example.eightyage.domain.product.category.Category;
 import com.example.eightyage.domain.product.entity.Product;
 import com.example.eightyage.domain.product.entity.ProductImage;
+import com.example.eightyage.domain.product.index.ProductNameIndex;
 import com.example.eightyage.domain.product.repository.ProductImageRepository;
 import com.example.eightyage.domain.product.salestate.SaleState;
 import com.example.eightyage.domain.product.repository.ProductRepository;
-import com.example.eightyage.domain.review.entity.Review;
-import com.example.eightyage.domain.review.repository.ReviewRepository;
+import com.example.eightyage.domain.review.dto.response.ReviewPageCacheDto;
 import com.example.eightyage.domain.search.service.v1.SearchServiceV1;
 import com.example.eightyage.domain.search.service.v2.SearchServiceV2;
 import com.example.eightyage.domain.search.service.v3.SearchServiceV3;
+import com.example.eightyage.global.cache.LayeredCache;
+import com.example.eightyage.global.dto.CursorResponse;
+import com.example.eightyage.global.exception.BadRequestException;
+import com.example.eightyage.global.exception.ErrorMessage;
 import com.example.eightyage.global.exception.NotFoundException;
+import com.example.eightyage.global.util.CursorCodec;
+import com.example.eightyage.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 
 @Service
@@ -31,11 +42,19 @@ import java.util.List;
 public class ProductService {
 
     private final ProductRepository productRepository;
-    private final ReviewRepository reviewRepository;
     private final ProductImageRepository productImageRepository;
     private final SearchServiceV1 searchServiceV1;
     private final SearchServiceV2 searchServiceV2;
     private final SearchServiceV3 searchServiceV3;
+    private final ProductNameIndex productNameIndex;
+    private final LayeredCache productSearchCache;
+    private final ProductReviewStatsService productReviewStatsService;
+    private final LayeredCache reviewPageCache;
+    private final ProductReviewCleanupRunner productReviewCleanupRunner;
+
+    private static final int MAX_INDEX_CANDIDATES = 5000;
+    private static final String SEARCH_SOURCE_LIKE = "like";
+    private static final String SEARCH_SOURCE_INDEX = "index";
 
     // 제품 생성
     @Transactional
@@ -44,6 +63,9 @@ public class ProductService {
 
         Product savedProduct = productRepository.save(product);
 
+        productNameIndex.add(savedProduct.getId(), savedProduct.getName());
+        TransactionUtil.afterCommit(productSearchCache::clear);
+
         return ProductSaveResponseDto.builder()
                 .productName(savedProduct.getName())
                 .category(savedProduct.getCategory())
@@ -59,6 +81,7 @@ public class ProductService {
     @Transactional
     public ProductUpdateResponseDto updateProduct(Long productId, ProductUpdateRequestDto requestDto) {
         Product findProduct = findProductByIdOrElseThrow(productId);
+        String prevName = findProduct.getName();
 
         findProduct.updateNameIfNotNull(requestDto.getProductName());
         findProduct.updateCategoryIfNotNull(requestDto.getCategory());
@@ -66,6 +89,14 @@ public class ProductService {
         findProduct.updateSaleStateIfNotNull(requestDto.getSaleState());
         findProduct.updatePriceIfNotNull(requestDto.getPrice());
 
+        if (!Objects.equals(prevName, findProduct.getName())) {
+            // 새 이름은 바로 추가하고, 이전 이름은 커밋된 뒤에 제거
+            String newName = findProduct.getName();
+            productNameIndex.add(productId, newName);
+            TransactionUtil.afterCommit(() -> productNameIndex.replace(productId, prevName, newName));
+        }
+        TransactionUtil.afterCommit(productSearchCache::clear);
+
         return ProductUpdateResponseDto.builder()
                 .productName(findProduct.getName())
                 .category(findProduct.getCategory())
@@ -90,6 +121,7 @@ public class ProductService {
                 .price(findProduct.getPrice())
                 .saleState(findProduct.getSaleState())
                 .productImageList(productImageList)
+                .reviewStats(productReviewStatsService.getReviewStats(productId))
                 .createdAt(findProduct.getCreatedAt())
                 .modifiedAt(findProduct.getModifiedAt())
                 .build();
@@ -113,7 +145,8 @@ public class ProductService {
     public Page<ProductSearchResponseDto> getProductsV2(String productName, Category category, int size, int page) {
         int adjustedPage = Math.max(0, page - 1);
         Pageable pageable = PageRequest.of(adjustedPage, size);
-        Page<ProductSearchResponseDto> productsResponse = productRepository.findProductsOrderByReviewScore(productName, category, pageable);
+        Page<ProductSearchResponseDto> productsResponse = findProductsWithCache(SEARCH_SOURCE_LIKE, productName, category, pageable,
+                () -> productRepository.findProductsOrderByReviewScore(productName, category, pageable));
 
         if (StringUtils.hasText(productName) && !productsResponse.isEmpty()) {
             searchServiceV2.saveSearchLog(productName); // 로그 저장
@@ -127,7 +160,8 @@ public class ProductService {
     public Page<ProductSearchResponseDto> getProductsV3(String productName, Category category, int size, int page) {
         int adjustedPage = Math.max(0, page - 1);
         Pageable pageable = PageRequest.of(adjustedPage, size);
-        Page<ProductSearchResponseDto> productsResponse = productRepository.findProductsOrderByReviewScore(productName, category, pageable);
+        Page<ProductSearchResponseDto> productsResponse = findProductsWithCache(SEARCH_SOURCE_LIKE, productName, category, pageable,
+                () -> productRepository.findProductsOrderByReviewScore(productName, category, pageable));
 
         if(StringUtils.hasText(productName) && !productsResponse.isEmpty()){
             searchServiceV3.saveSearchLog(productName); // 로그 저장
@@ -136,15 +170,133 @@ public class ProductService {
         return productsResponse;
     }
 
-    // 제품 삭제
+    // 제품 커서 조회 version 1
+    @Transactional(readOnly = true)
+    public CursorResponse<ProductSearchResponseDto> getProductsByCursorV1(String productName, Category category, String cursor, int size) {
+        CursorResponse<ProductSearchResponseDto> productsResponse = findProductsByCursor(productName, category, cursor, size);
+
+        if (cursor == null && StringUtils.hasText(productName) && !productsResponse.getContent().isEmpty()) {
+            searchServiceV1.saveSearchLog(productName); // 로그 저장
+        }
+        return productsResponse;
+    }
+
+    // 제품 커서 조회 version 2
+    @Transactional(readOnly = true)
+    public CursorResponse<ProductSearchResponseDto> getProductsByCursorV2(String productName, Category category, String cursor, int size) {
+        CursorResponse<ProductSearchResponseDto> productsResponse = findProductsByCursor(productName, category, cursor, size);
+
+        if (cursor == null && StringUtils.hasText(productName) && !productsResponse.getContent().isEmpty()) {
+            searchServiceV2.saveSearchLog(productName); // 로그 저장
+        }
+        return productsResponse;
+    }
+
+    // 제품 커서 조회 version 3
+    @Transactional(readOnly = true)
+    public CursorResponse<ProductSearchResponseDto> getProductsByCursorV3(String productName, Category category, String cursor, int size) {
+        CursorResponse<ProductSearchResponseDto> productsResponse = findProductsByCursor(productName, category, cursor, size);
+
+        if (cursor == null && StringUtils.hasText(productName) && !productsResponse.getContent().isEmpty()) {
+            searchServiceV3.saveSearchLog(productName); // 로그 저장
+            searchServiceV3.increaseSortedKeywordRank(productName); // 캐시 추가
+        }
+        return productsResponse;
+    }
+
+    // 커서(마지막 제품의 평균 점수, id) 이후 size개 조회 (검색 로그는 첫 페이지에서만 저장)
+    private CursorResponse<ProductSearchResponseDto> findProductsByCursor(String productName, Category category, String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+        Slice<ProductSearchResponseDto> slice;
+
+        if (cursor == null) {
+            slice = productRepository.findProductsFirstSlice(productName, category, pageable);
+        } else {
+            String[] values = CursorCodec.decode(cursor, 2);
+            Double cursorScore = CursorCodec.parseDouble(values[0]);
+            Long cursorId = CursorCodec.parseLong(values[1]);
+
+            if (cursorId == null) {
+                throw new BadRequestException(ErrorMessage.INVALID_CURSOR.getMessage());
+            }
+
+            slice = cursorScore == null
+                    ? productRepository.findProductsSliceAfterUnscored(productName, category, cursorId, pageable)
+                    : productRepository.findProductsSliceAfter(productName, category, cursorScore, cursorId, pageable);
+        }
+
+        return CursorResponse.of(slice, product -> CursorCodec.encode(product.getScoreAvg(), product.getId()));
+    }
+
+    // 제품 다건 조회 version 4 (제품명 n-gram 색인)
+    @Transactional(readOnly = true)
+    public Page<ProductSearchResponseDto> getProductsV4(String productName, Category category, int size, int page) {
+        int adjustedPage = Math.max(0, page - 1);
+        Pageable pageable = PageRequest.of(adjustedPage, size);
+        Page<ProductSearchResponseDto> productsResponse = findProductsWithCache(SEARCH_SOURCE_INDEX, productName, category, pageable,
+                () -> findProductsByNameIndex(productName, category, pageable));
+
+        if(StringUtils.hasText(productName) && !productsResponse.isEmpty()){
+            searchServiceV3.saveSearchLog(productName); // 로그 저장
+            searchServiceV3.increaseSortedKeywordRank(productName); // 캐시 추가
+        }
+        return productsResponse;
+    }
+
+    // 검색 결과 페이지 캐시 조회 (L1 Caffeine → L2 Redis → DB)
+    private Page<ProductSearchResponseDto> findProductsWithCache(String source, String productName, Category category, Pageable pageable,
+                                                                Supplier<Page<ProductSearchResponseDto>> loader) {
+        // LIKE 검색은 collation(ai_ci)을 따르므로 같은 결과를 내는 검색어는 같은 키로 정규화 (정규화가 다루지 않는 문자가 있으면 그대로)
+        String normalizedName = productName == null ? "" : ProductNameIndex.normalize(productName);
+        if (!ProductNameIndex.isFoldingSupported(normalizedName)) {
+            normalizedName = productName;
+        }
+        String key = source + ":" + (category == null ? "" : category.name()) + ":" + pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + normalizedName;
+
+        ProductSearchPageCacheDto cached = productSearchCache.get(key, () -> ProductSearchPageCacheDto.from(loader.get()));
+
+        return new PageImpl<>(cached.getContent(), pageable, cached.getTotalElements());
+    }
+
+    // 색인으로 후보를 좁힐 수 없으면 기존 LIKE 검색으로 조회
+    private Page<ProductSearchResponseDto> findProductsByNameIndex(String productName, Category category, Pageable pageable) {
+        Optional<List<Long>> candidateIds = productNameIndex.findCandidateIds(productName, MAX_INDEX_CANDIDATES);
+
+        if (candidateIds.isEmpty()) {
+            return productRepository.findProductsOrderByReviewScore(productName, category, pageable);
+        }
+
+        if (candidateIds.get().isEmpty()) {
+            return Page.empty(pageable);
+        }
+
+        return productRepository.findProductsByIdsOrderByReviewScore(candidateIds.get(), productName, category, pageable);
+    }
+
+    // 제품 삭제 (제품만 soft delete 하고 리뷰는 커밋 후 백그라운드에서 묶음 단위로 삭제)
     @Transactional
     public void deleteProduct(Long productId) {
         Product findProduct = findProductByIdOrElseThrow(productId);
-        List<Review> findReviewList = reviewRepository.findReviewsByProductId(productId);
-
-        reviewRepository.deleteAll(findReviewList);
 
         findProduct.deleteProduct();
+
+        String deletedName = findProduct.getName();
+        TransactionUtil.afterCommit(() -> productNameIndex.remove(productId, deletedName));
+        TransactionUtil.afterCommit(productSearchCache::clear);
+        TransactionUtil.afterCommit(() -> ReviewPageCacheDto.keys(productId).forEach(reviewPageCache::evict));
+        TransactionUtil.afterCommit(() -> productReviewCleanupRunner.submit(productId));
+    }
+
+    // 삭제된 제품의 리뷰 정리 진행 상황
+    public ProductReviewCleanupResponseDto getReviewCleanupProgress(Long productId) {
+        return productReviewCleanupRunner.getProgress(productId);
+    }
+
+    // 리뷰 작성/수정/삭제 시 제품의 리뷰 집계 반영
+    @Transactional
+    public void applyReviewScore(Long productId, long countDelta, double scoreDelta) {
+        productRepository.increaseReviewStats(productId, countDelta, scoreDelta);
+        productRepository.refreshScoreAvg(productId);
     }
 
     public Product findProductByIdOrElseThrow(Long productId) {
@@ -5,8 +5,10 @@ import com.example.eightyage.domain.review.dto.request.ReviewUpdateRequestDto;
 import com.example.eightyage.domain.review.dto.response.ReviewSaveResponseDto;
 import com.example.eightyage.domain.review.dto.response.ReviewUpdateResponseDto;
 import com.example.eightyage.domain.review.dto.response.ReviewsGetResponseDto;
+import com.example.eightyage.domain.review.reviewsort.ReviewSort;
 import com.example.eightyage.domain.review.service.ReviewService;
 import com.example.eightyage.global.dto.AuthUser;
+import com.example.eightyage.global.dto.CursorResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -61,13 +63,24 @@ public class ReviewController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size
     ){
-        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, orderBy));
+        PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, ReviewSort.from(orderBy).getProperty()));
 
         Page<ReviewsGetResponseDto> reviews = reviewService.getReviews(productId, pageRequest);
 
         return ResponseEntity.ok(reviews);
     }
 
+    // 리뷰 커서 조회 (sort: score, newest)
+    @GetMapping("/v1/reviews/cursor")
+    public ResponseEntity<CursorResponse<ReviewsGetResponseDto>> findReviewsByCursor(
+            @RequestParam Long productId,
+            @RequestParam(defaultValue = "score") String sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    ){
+        return ResponseEntity.ok(reviewService.getReviewsByCursor(productId, ReviewSort.from(sort), cursor, size));
+    }
+
     // 리뷰 삭제
     @Secured("ROLE_USER")
     @DeleteMapping("/v1/reviews/{reviewId}")
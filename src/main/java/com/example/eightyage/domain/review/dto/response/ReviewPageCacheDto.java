@@ -0,0 +1,48 @@
+package com.example.eightyage.domain.review.dto.response;
+
+import com.example.eightyage.domain.review.reviewsort.ReviewSort;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Page;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 제품, 정렬별 앞쪽 리뷰 캐시
+ * 앞쪽 리뷰 구간과 전체 리뷰 수를 함께 저장해 구간 안의 페이지는 DB 조회 없이, 구간 밖의 페이지는 count 쿼리 없이 응답한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewPageCacheDto {
+
+    private List<ReviewsGetResponseDto> content;
+    private long totalElements;
+
+    public static ReviewPageCacheDto from(Page<ReviewsGetResponseDto> page) {
+        return new ReviewPageCacheDto(new ArrayList<>(page.getContent()), page.getTotalElements());
+    }
+
+    public static String key(Long productId, ReviewSort sort) {
+        return productId + ":" + sort.name();
+    }
+
+    // 제품의 정렬별 캐시 키 (리뷰 변경 시 해당 제품 키만 무효화)
+    public static List<String> keys(Long productId) {
+        return Arrays.stream(ReviewSort.values()).map(sort -> key(productId, sort)).toList();
+    }
+
+    // 요청한 구간을 캐시된 리뷰만으로 응답할 수 있는지 (전체를 담고 있으면 구간 밖도 가능)
+    public boolean covers(long offset, int size) {
+        return offset + size <= content.size() || content.size() >= totalElements;
+    }
+
+    public List<ReviewsGetResponseDto> slice(long offset, int size) {
+        int from = (int) Math.min(offset, content.size());
+        int to = (int) Math.min(offset + size, content.size());
+        return content.subList(from, to);
+    }
+}
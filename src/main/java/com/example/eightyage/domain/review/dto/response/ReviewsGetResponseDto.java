@@ -1,14 +1,13 @@
 package com.example.eightyage.domain.review.dto.response;
 
-import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
+import java.beans.ConstructorProperties;
 import java.time.LocalDateTime;
 
 @Getter
 @Builder
-@AllArgsConstructor
 public class ReviewsGetResponseDto {
     private final Long id;
     private final Long userId;
@@ -17,4 +16,17 @@ public class ReviewsGetResponseDto {
     private final String content;
     private final LocalDateTime createdAt;
     private final LocalDateTime modifiedAt;
+
+    // 리뷰 페이지 캐시(Redis)에서 읽을 때 Jackson이 이 생성자로 만듦
+    @ConstructorProperties({"id", "userId", "nickname", "score", "content", "createdAt", "modifiedAt"})
+    public ReviewsGetResponseDto(Long id, Long userId, String nickname, Double score, String content,
+                                 LocalDateTime createdAt, LocalDateTime modifiedAt) {
+        this.id = id;
+        this.userId = userId;
+        this.nickname = nickname;
+        this.score = score;
+        this.content = content;
+        this.createdAt = createdAt;
+        this.modifiedAt = modifiedAt;
+    }
 }
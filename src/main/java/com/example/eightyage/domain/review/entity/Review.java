@@ -13,7 +13,14 @@ import lombok.Setter;
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "review")
+@Table(name = "review",
+        indexes = {
+                @Index(name = "index_productId_score_id", columnList = "product_id, score, id"),
+                @Index(name = "index_productId_createdAt_id", columnList = "product_id, created_at, id")
+        }
+)
+// 최신 순 커서 조회가 (product_id, created_at, id) 인덱스 범위만 읽도록 작성 시각을 NULL 없이 저장
+@AttributeOverride(name = "createdAt", column = @Column(name = "created_at", nullable = false, updatable = false))
 public class Review extends TimeStamped {
 
     @Id
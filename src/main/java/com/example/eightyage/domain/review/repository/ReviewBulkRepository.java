@@ -16,7 +16,7 @@ public class ReviewBulkRepository {
     private final int BATCH_SIZE = 1000;
 
     public void bulkInsertReviews(List<Review> reviews) {
-        String sql = "INSERT INTO review (user_id, product_id, score) values (?, ?, ?)";
+        String sql = "INSERT INTO review (user_id, product_id, score, created_at, modified_at) values (?, ?, ?, NOW(6), NOW(6))";
 
         jdbcTemplate.batchUpdate(sql, reviews, BATCH_SIZE, (ps, argument) -> {
             ps.setLong(1, argument.getUser().getId());
@@ -25,4 +25,12 @@ public class ReviewBulkRepository {
         });
     }
 
+    // 제품의 리뷰를 limit개까지 삭제하고 삭제한 개수 반환 (묶음마다 따로 커밋되어 잠금을 오래 잡지 않음)
+    public int deleteReviewsByProductId(Long productId, int limit) {
+        return jdbcTemplate.update("DELETE FROM review WHERE product_id = ? LIMIT ?", productId, limit);
+    }
+
+    public long countReviewsByProductId(Long productId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM review WHERE product_id = ?", Long.class, productId);
+    }
 }
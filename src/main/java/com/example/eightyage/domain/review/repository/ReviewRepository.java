@@ -1,16 +1,19 @@
 package com.example.eightyage.domain.review.repository;
 
 import com.example.eightyage.domain.product.entity.Product;
+import com.example.eightyage.domain.review.dto.response.ReviewsGetResponseDto;
 import com.example.eightyage.domain.review.entity.Review;
 import com.example.eightyage.global.exception.NotFoundException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -20,8 +23,62 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT r FROM Review r WHERE r.id = :reviewId")
     Optional<Review> findById(@Param("reviewId") Long reviewId);
 
-    Page<Review> findByProductIdAndProductDeletedAtIsNull(Long productId, Pageable pageable);
+    // 리뷰 목록: 작성자 닉네임까지 한 번에 조회 (index_productId_score_id, index_productId_createdAt_id로 필터와 정렬 처리)
+    @Query(value = "SELECT new com.example.eightyage.domain.review.dto.response.ReviewsGetResponseDto(" +
+            "r.id, u.id, u.nickname, r.score, r.content, r.createdAt, r.modifiedAt) " +
+            "FROM Review r JOIN r.user u JOIN r.product p " +
+            "WHERE p.id = :productId AND p.deletedAt IS NULL",
+            countQuery = "SELECT COUNT(r) FROM Review r JOIN r.product p WHERE p.id = :productId AND p.deletedAt IS NULL")
+    Page<ReviewsGetResponseDto> findReviewPage(@Param("productId") Long productId, Pageable pageable);
 
-    @Query("SELECT r FROM Review r JOIN FETCH r.user JOIN FETCH r.product WHERE r.product.id = :productId")
-    List<Review> findReviewsByProductId(@Param("productId") Long productId);
+    // 리뷰 목록 (전체 개수를 이미 알고 있을 때 count 쿼리 없이 조회)
+    @Query("SELECT new com.example.eightyage.domain.review.dto.response.ReviewsGetResponseDto(" +
+            "r.id, u.id, u.nickname, r.score, r.content, r.createdAt, r.modifiedAt) " +
+            "FROM Review r JOIN r.user u JOIN r.product p " +
+            "WHERE p.id = :productId AND p.deletedAt IS NULL")
+    List<ReviewsGetResponseDto> findReviewList(@Param("productId") Long productId, Pageable pageable);
+
+    // 커서 조회 - 별점 순 첫 페이지 (count 쿼리 없음)
+    @Query("SELECT new com.example.eightyage.domain.review.dto.response.ReviewsGetResponseDto(" +
+            "r.id, u.id, u.nickname, r.score, r.content, r.createdAt, r.modifiedAt) " +
+            "FROM Review r JOIN r.user u JOIN r.product p " +
+            "WHERE p.id = :productId AND p.deletedAt IS NULL " +
+            "ORDER BY r.score DESC, r.id DESC")
+    Slice<ReviewsGetResponseDto> findReviewsByScoreFirstSlice(@Param("productId") Long productId, Pageable pageable);
+
+    // 커서 조회 - 별점 순 (별점, id) 이후
+    @Query("SELECT new com.example.eightyage.domain.review.dto.response.ReviewsGetResponseDto(" +
+            "r.id, u.id, u.nickname, r.score, r.content, r.createdAt, r.modifiedAt) " +
+            "FROM Review r JOIN r.user u JOIN r.product p " +
+            "WHERE p.id = :productId AND p.deletedAt IS NULL " +
+            "AND (r.score < :cursorScore OR (r.score = :cursorScore AND r.id < :cursorId)) " +
+            "ORDER BY r.score DESC, r.id DESC")
+    Slice<ReviewsGetResponseDto> findReviewsByScoreSliceAfter(
+            @Param("productId") Long productId,
+            @Param("cursorScore") Double cursorScore,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
+
+    // 커서 조회 - 최신 순 첫 페이지
+    @Query("SELECT new com.example.eightyage.domain.review.dto.response.ReviewsGetResponseDto(" +
+            "r.id, u.id, u.nickname, r.score, r.content, r.createdAt, r.modifiedAt) " +
+            "FROM Review r JOIN r.user u JOIN r.product p " +
+            "WHERE p.id = :productId AND p.deletedAt IS NULL " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<ReviewsGetResponseDto> findReviewsByNewestFirstSlice(@Param("productId") Long productId, Pageable pageable);
+
+    // 커서 조회 - 최신 순 (작성 시각, id) 이후
+    @Query("SELECT new com.example.eightyage.domain.review.dto.response.ReviewsGetResponseDto(" +
+            "r.id, u.id, u.nickname, r.score, r.content, r.createdAt, r.modifiedAt) " +
+            "FROM Review r JOIN r.user u JOIN r.product p " +
+            "WHERE p.id = :productId AND p.deletedAt IS NULL " +
+            "AND (r.createdAt < :cursorCreatedAt OR (r.createdAt = :cursorCreatedAt AND r.id < :cursorId)) " +
+            "ORDER BY r.createdAt DESC, r.id DESC")
+    Slice<ReviewsGetResponseDto> findReviewsByNewestSliceAfter(
+            @Param("productId") Long productId,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Pageable pageable
+    );
 }
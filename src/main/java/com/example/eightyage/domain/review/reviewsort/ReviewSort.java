@@ -0,0 +1,30 @@
+package com.example.eightyage.domain.review.reviewsort;
+
+import com.example.eightyage.global.exception.BadRequestException;
+import com.example.eightyage.global.exception.ErrorMessage;
+
+// 리뷰 정렬 (정렬마다 index_productId_*_id 인덱스로 처리, 같은 값은 id 내림차순)
+public enum ReviewSort {
+    SCORE("score"),         // 별점 높은 순
+    NEWEST("createdAt");    // 최신 순
+
+    private final String property;
+
+    ReviewSort(String property) {
+        this.property = property;
+    }
+
+    public String getProperty() {
+        return property;
+    }
+
+    // 정렬 이름(score, newest)이나 정렬 속성(score, createdAt)으로 조회, 그 밖의 값은 거부
+    public static ReviewSort from(String value) {
+        for (ReviewSort sort : values()) {
+            if (sort.name().equalsIgnoreCase(value) || sort.property.equals(value)) {
+                return sort;
+            }
+        }
+        throw new BadRequestException(ErrorMessage.INVALID_REVIEW_SORT.getMessage());
+    }
+}
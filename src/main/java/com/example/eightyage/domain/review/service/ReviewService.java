@@ -3,22 +3,34 @@ package com.example.eightyage.domain.review.service;
 import com.example.eightyage.domain.product.dto.response.ProductUpdateResponseDto;
 import com.example.eightyage.domain.product.entity.Product;
 import com.example.eightyage.domain.product.repository.ProductRepository;
+import com.example.eightyage.domain.product.service.ProductReviewStatsService;
 import com.example.eightyage.domain.product.service.ProductService;
 import com.example.eightyage.domain.review.dto.request.ReviewSaveRequestDto;
 import com.example.eightyage.domain.review.dto.request.ReviewUpdateRequestDto;
+import com.example.eightyage.domain.review.dto.response.ReviewPageCacheDto;
 import com.example.eightyage.domain.review.dto.response.ReviewSaveResponseDto;
 import com.example.eightyage.domain.review.dto.response.ReviewUpdateResponseDto;
 import com.example.eightyage.domain.review.dto.response.ReviewsGetResponseDto;
 import com.example.eightyage.domain.review.entity.Review;
 import com.example.eightyage.domain.review.repository.ReviewRepository;
+import com.example.eightyage.domain.review.reviewsort.ReviewSort;
 import com.example.eightyage.domain.user.entity.User;
 import com.example.eightyage.domain.user.service.UserService;
+import com.example.eightyage.global.cache.LayeredCache;
+import com.example.eightyage.global.dto.CursorResponse;
+import com.example.eightyage.global.exception.BadRequestException;
+import com.example.eightyage.global.exception.ErrorMessage;
 import com.example.eightyage.global.exception.NotFoundException;
 import com.example.eightyage.global.exception.UnauthorizedException;
+import com.example.eightyage.global.util.CursorCodec;
+import com.example.eightyage.global.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -32,6 +44,11 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final UserService userService;
     private final ProductService productService;
+    private final ProductReviewStatsService productReviewStatsService;
+    private final LayeredCache reviewPageCache;
+
+    // 제품, 정렬별로 캐시하는 앞쪽 리뷰 수 (10개씩 5페이지)
+    private static final int CACHED_REVIEW_COUNT = 50;
 
     // 리뷰 생성
     @Transactional
@@ -42,6 +59,10 @@ public class ReviewService {
         Review review = new Review(findUser, findProduct, requestDto.getScore(), requestDto.getContent());
         Review savedReview = reviewRepository.save(review);
 
+        productService.applyReviewScore(productId, 1, requestDto.getScore());
+        productReviewStatsService.applyReviewScore(productId, null, requestDto.getScore());
+        TransactionUtil.afterCommit(() -> evictReviewPages(productId));
+
         return ReviewSaveResponseDto.builder()
                 .id(savedReview.getId())
                 .userId(savedReview.getUser().getId())
@@ -61,8 +82,18 @@ public class ReviewService {
         Review findReview = findReviewByIdOrElseThrow(reviewId);
 
         if(findUser.getId().equals(findReview.getUser().getId())){
+            Double prevScore = findReview.getScore();
             findReview.updateScoreIfNotNull(requestDto.getScore());
+            // 집계 반영 시 영속성 컨텍스트가 비워지므로 리뷰 변경은 그 전에 마침
             findReview.updateContentIfNotNull(requestDto.getContent());
+
+            if(!findReview.getScore().equals(prevScore)){
+                productService.applyReviewScore(findReview.getProduct().getId(), 0, findReview.getScore() - prevScore);
+                productReviewStatsService.applyReviewScore(findReview.getProduct().getId(), prevScore, findReview.getScore());
+            }
+
+            Long productId = findReview.getProduct().getId();
+            TransactionUtil.afterCommit(() -> evictReviewPages(productId));
         } else {
             throw new UnauthorizedException("리뷰를 수정할 권한이 없습니다.");
         }
@@ -78,20 +109,92 @@ public class ReviewService {
                 .build();
     }
 
-    // 리뷰 다건 조회
+    // 리뷰 다건 조회 (같은 정렬 값은 최신 리뷰 먼저)
     @Transactional(readOnly = true)
     public Page<ReviewsGetResponseDto> getReviews(Long productId, PageRequest pageRequest) {
-        Page<Review> reviewPage = reviewRepository.findByProductIdAndProductDeletedAtIsNull(productId, pageRequest);
-
-        return reviewPage.map(review -> ReviewsGetResponseDto.builder()
-                .id(review.getId())
-                .userId(review.getUser().getId())
-                .nickname(review.getUser().getNickname())
-                .score(review.getScore())
-                .content(review.getContent())
-                .createdAt(review.getCreatedAt())
-                .modifiedAt(review.getModifiedAt())
-                .build());
+        Pageable pageable = pageRequest.withSort(pageRequest.getSort().and(Sort.by(Sort.Direction.DESC, "id")));
+        ReviewSort sort = findCachedSort(pageRequest.getSort());
+
+        if (sort == null) {
+            return reviewRepository.findReviewPage(productId, pageable);
+        }
+
+        // 앞쪽 리뷰 캐시 조회 (L1 Caffeine → L2 Redis → DB)
+        ReviewPageCacheDto cached = reviewPageCache.get(ReviewPageCacheDto.key(productId, sort), () -> ReviewPageCacheDto.from(
+                reviewRepository.findReviewPage(productId, PageRequest.of(0, CACHED_REVIEW_COUNT, pageable.getSort()))));
+
+        if (cached.covers(pageable.getOffset(), pageable.getPageSize())) {
+            return new PageImpl<>(cached.slice(pageable.getOffset(), pageable.getPageSize()), pageable, cached.getTotalElements());
+        }
+
+        // 캐시 구간 밖은 목록만 조회하고 전체 개수는 캐시된 값 사용
+        return new PageImpl<>(reviewRepository.findReviewList(productId, pageable), pageable, cached.getTotalElements());
+    }
+
+    // 캐시 대상 정렬 (리뷰 정렬 속성 하나의 내림차순만 캐시)
+    private static ReviewSort findCachedSort(Sort sort) {
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() != 1 || !orders.get(0).isDescending()) {
+            return null;
+        }
+
+        for (ReviewSort reviewSort : ReviewSort.values()) {
+            if (reviewSort.getProperty().equals(orders.get(0).getProperty())) {
+                return reviewSort;
+            }
+        }
+        return null;
+    }
+
+    // 제품의 정렬별 앞쪽 리뷰 캐시 무효화
+    private void evictReviewPages(Long productId) {
+        ReviewPageCacheDto.keys(productId).forEach(reviewPageCache::evict);
+    }
+
+    // 리뷰 커서 조회 (커서: 마지막 리뷰의 정렬 값과 id, count 쿼리 없음)
+    @Transactional(readOnly = true)
+    public CursorResponse<ReviewsGetResponseDto> getReviewsByCursor(Long productId, ReviewSort sort, String cursor, int size) {
+        Pageable pageable = PageRequest.of(0, size);
+
+        if (sort == ReviewSort.NEWEST) {
+            Slice<ReviewsGetResponseDto> slice = findReviewsByNewest(productId, cursor, pageable);
+            return CursorResponse.of(slice, review -> CursorCodec.encode(review.getCreatedAt(), review.getId()));
+        }
+
+        Slice<ReviewsGetResponseDto> slice = findReviewsByScore(productId, cursor, pageable);
+        return CursorResponse.of(slice, review -> CursorCodec.encode(review.getScore(), review.getId()));
+    }
+
+    private Slice<ReviewsGetResponseDto> findReviewsByScore(Long productId, String cursor, Pageable pageable) {
+        if (cursor == null) {
+            return reviewRepository.findReviewsByScoreFirstSlice(productId, pageable);
+        }
+
+        String[] values = CursorCodec.decode(cursor, 2);
+        Double cursorScore = CursorCodec.parseDouble(values[0]);
+        Long cursorId = CursorCodec.parseLong(values[1]);
+
+        if (cursorScore == null || cursorId == null) {
+            throw new BadRequestException(ErrorMessage.INVALID_CURSOR.getMessage());
+        }
+
+        return reviewRepository.findReviewsByScoreSliceAfter(productId, cursorScore, cursorId, pageable);
+    }
+
+    private Slice<ReviewsGetResponseDto> findReviewsByNewest(Long productId, String cursor, Pageable pageable) {
+        if (cursor == null) {
+            return reviewRepository.findReviewsByNewestFirstSlice(productId, pageable);
+        }
+
+        String[] values = CursorCodec.decode(cursor, 2);
+        LocalDateTime cursorCreatedAt = CursorCodec.parseDateTime(values[0]);
+        Long cursorId = CursorCodec.parseLong(values[1]);
+
+        if (cursorCreatedAt == null || cursorId == null) {
+            throw new BadRequestException(ErrorMessage.INVALID_CURSOR.getMessage());
+        }
+
+        return reviewRepository.findReviewsByNewestSliceAfter(productId, cursorCreatedAt, cursorId, pageable);
     }
 
     // 리뷰 삭제
@@ -105,6 +208,12 @@ public class ReviewService {
         }
 
         reviewRepository.delete(findReview);
+
+        productService.applyReviewScore(findReview.getProduct().getId(), -1, -findReview.getScore());
+        productReviewStatsService.applyReviewScore(findReview.getProduct().getId(), findReview.getScore(), null);
+
+        Long productId = findReview.getProduct().getId();
+        TransactionUtil.afterCommit(() -> evictReviewPages(productId));
     }
 
     public Review findReviewByIdOrElseThrow(Long reviewId){
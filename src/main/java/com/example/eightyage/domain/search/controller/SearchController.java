@@ -36,11 +36,12 @@ public class SearchController {
         return ResponseEntity.ok(popularKeywordServiceV2.searchPopularKeywords(days));
     }
 
-    // 실시간 인기 검색어 조회 (캐시 O)
+    // 실시간 인기 검색어 조회 (최근 N분, 캐시 O)
     @GetMapping("/api/v3/search/popular")
     public ResponseEntity<List<PopularKeywordDto>> searchPopularKeywordsV3(
-            @RequestParam(defaultValue = "10") int limits
+            @RequestParam(defaultValue = "10") int limits,
+            @RequestParam(defaultValue = "5") int minutes
     ) {
-        return ResponseEntity.ok(popularKeywordServiceV3.searchPopularKeywords(limits));
+        return ResponseEntity.ok(popularKeywordServiceV3.searchPopularKeywords(limits, minutes));
     }
 }
@@ -0,0 +1,35 @@
+package com.example.eightyage.domain.search.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간 단위 검색어 집계
+ * search_log를 (bucketHour, keyword) 별 검색 횟수로 접어 둔 테이블
+ */
+@Entity
+@NoArgsConstructor
+@Getter
+@Table(name = "search_keyword_rollup",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_bucketHour_keyword", columnNames = {"bucketHour", "keyword"})
+        }
+)
+public class SearchKeywordRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private LocalDateTime bucketHour;
+
+    @Column(nullable = false)
+    private String keyword;
+
+    @Column(nullable = false)
+    private Long searchCount;
+}
@@ -16,6 +16,11 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @Getter
 @EntityListeners(AuditingEntityListener.class)
+@Table(name = "search_log",
+        indexes = {
+                @Index(name = "index_searchedAt", columnList = "searchedAt")
+        }
+)
 public class SearchLog {
 
     @Id
@@ -32,4 +37,10 @@ public class SearchLog {
         log.keyword = keyword;
         return log;
     }
+
+    public static SearchLog of(String keyword, LocalDateTime searchedAt) {
+        SearchLog log = keywordOf(keyword);
+        log.searchedAt = searchedAt;
+        return log;
+    }
 }
@@ -0,0 +1,28 @@
+package com.example.eightyage.domain.search.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+@Repository
+@RequiredArgsConstructor
+public class SearchKeywordRollupBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 한 시간 구간의 검색 로그를 집계해 덮어쓰기 (재실행해도 같은 결과)
+    public int upsertHour(LocalDateTime bucketHour) {
+        String sql = "INSERT INTO search_keyword_rollup (bucket_hour, keyword, search_count) " +
+                "SELECT ?, s.keyword, COUNT(*) " +
+                "FROM search_log s " +
+                "WHERE s.searched_at >= ? AND s.searched_at < ? AND s.keyword IS NOT NULL " +
+                "GROUP BY s.keyword " +
+                "ON DUPLICATE KEY UPDATE search_count = VALUES(search_count)";
+
+        Timestamp from = Timestamp.valueOf(bucketHour);
+        return jdbcTemplate.update(sql, from, from, Timestamp.valueOf(bucketHour.plusHours(1)));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.eightyage.domain.search.repository;
+
+import com.example.eightyage.domain.search.dto.PopularKeywordDto;
+import com.example.eightyage.domain.search.entity.SearchKeywordRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface SearchKeywordRollupRepository extends JpaRepository<SearchKeywordRollup, Long> {
+
+    @Query("SELECT new com.example.eightyage.domain.search.dto.PopularKeywordDto(r.keyword, SUM(r.searchCount)) " +
+            "FROM SearchKeywordRollup r " +
+            "WHERE r.bucketHour >= :from AND r.bucketHour < :to " +
+            "GROUP BY r.keyword")
+    List<PopularKeywordDto> findKeywordCounts(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query("SELECT MAX(r.bucketHour) FROM SearchKeywordRollup r")
+    Optional<LocalDateTime> findLastBucketHour();
+}
@@ -0,0 +1,26 @@
+package com.example.eightyage.domain.search.repository;
+
+import com.example.eightyage.domain.search.entity.SearchLog;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class SearchLogBulkRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int BATCH_SIZE = 500;
+
+    public void bulkInsertSearchLogs(List<SearchLog> searchLogs) {
+        String sql = "INSERT INTO search_log (keyword, searched_at) values (?, ?)";
+
+        jdbcTemplate.batchUpdate(sql, searchLogs, BATCH_SIZE, (ps, argument) -> {
+            ps.setString(1, argument.getKeyword());
+            ps.setTimestamp(2, Timestamp.valueOf(argument.getSearchedAt()));
+        });
+    }
+}
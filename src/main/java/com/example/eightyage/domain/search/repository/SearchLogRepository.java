@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 public interface SearchLogRepository extends JpaRepository<SearchLog, Long> {
 
@@ -17,4 +18,7 @@ public interface SearchLogRepository extends JpaRepository<SearchLog, Long> {
             "GROUP BY s.keyword " +
             "ORDER BY COUNT(s) DESC ")
     List<PopularKeywordDto> findPopularKeywords(@Param("since") LocalDateTime since);
+
+    @Query("SELECT MIN(s.searchedAt) FROM SearchLog s WHERE s.searchedAt >= :from")
+    Optional<LocalDateTime> findFirstSearchedAtFrom(@Param("from") LocalDateTime from);
 }
@@ -0,0 +1,104 @@
+package com.example.eightyage.domain.search.service;
+
+import com.example.eightyage.domain.search.dto.PopularKeywordDto;
+import com.example.eightyage.domain.search.repository.SearchKeywordRollupBulkRepository;
+import com.example.eightyage.domain.search.repository.SearchKeywordRollupRepository;
+import com.example.eightyage.domain.search.repository.SearchLogRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 검색어 시간 단위 집계
+ * 지난 시간 구간은 search_keyword_rollup에서, 아직 집계되지 않은 최근 구간은 search_log에서 읽어 합친다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SearchKeywordRollupService {
+
+    private final SearchLogRepository searchLogRepository;
+    private final SearchKeywordRollupRepository searchKeywordRollupRepository;
+    private final SearchKeywordRollupBulkRepository searchKeywordRollupBulkRepository;
+
+    // 비동기로 늦게 저장되는 검색 로그를 기다리는 시간
+    private static final Duration LATE_ARRIVAL_GRACE = Duration.ofMinutes(5);
+    // 집계 후 늦게 도착한 로그를 반영하기 위해 다시 집계하는 직전 구간 수
+    private static final int REAGGREGATE_HOURS = 1;
+    // 인기 검색어 최대 조회 기간(365일)보다 오래된 로그는 집계하지 않음
+    private static final int ROLLUP_RETENTION_DAYS = 366;
+
+    // since 이후 검색어별 검색 횟수 (since는 시간 단위로 내림)
+    @Transactional(readOnly = true)
+    public List<PopularKeywordDto> findPopularKeywords(LocalDateTime since) {
+        LocalDateTime from = since.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime rolledUntil = findRolledUntil().orElse(from);
+
+        Map<String, Long> counts = new HashMap<>();
+        if (rolledUntil.isAfter(from)) {
+            searchKeywordRollupRepository.findKeywordCounts(from, rolledUntil)
+                    .forEach(dto -> counts.merge(dto.getKeyword(), dto.getCount(), Long::sum));
+        }
+
+        LocalDateTime rawFrom = rolledUntil.isAfter(from) ? rolledUntil : from;
+        searchLogRepository.findPopularKeywords(rawFrom)
+                .forEach(dto -> counts.merge(dto.getKeyword(), dto.getCount(), Long::sum));
+
+        List<PopularKeywordDto> result = new ArrayList<>(counts.size());
+        counts.forEach((keyword, count) -> result.add(PopularKeywordDto.keywordOf(keyword, count)));
+        result.sort(Comparator.comparing(PopularKeywordDto::getCount).reversed()
+                .thenComparing(PopularKeywordDto::getKeyword));
+        return result;
+    }
+
+    // 집계되지 않은 시간 구간 따라잡기 (중단 후 재실행해도 안전)
+    // 마지막으로 집계한 구간도 다시 집계해 그 사이 늦게 저장된 로그를 덮어쓰기로 반영
+    @Scheduled(fixedDelayString = "${search-log.rollup.fixed-delay-ms:300000}")
+    public void rollupPendingHours() {
+        int rolledHours = rollupUntil(LocalDateTime.now());
+        if (rolledHours > 0) {
+            log.info("검색어 시간 집계 완료: {}시간", rolledHours);
+        }
+    }
+
+    int rollupUntil(LocalDateTime now) {
+        LocalDateTime target = now.minus(LATE_ARRIVAL_GRACE).truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime oldest = now.minusDays(ROLLUP_RETENTION_DAYS).truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime from = findRolledUntil()
+                .map(rolledUntil -> rolledUntil.minusHours(REAGGREGATE_HOURS))
+                .filter(oldest::isBefore)
+                .orElse(oldest);
+
+        int rolledHours = 0;
+        Optional<LocalDateTime> nextHour = findNextLogHour(from);
+        while (nextHour.isPresent() && nextHour.get().isBefore(target)) {
+            LocalDateTime bucketHour = nextHour.get();
+            searchKeywordRollupBulkRepository.upsertHour(bucketHour);
+            rolledHours++;
+            nextHour = findNextLogHour(bucketHour.plusHours(1));
+        }
+        return rolledHours;
+    }
+
+    // 집계가 끝난 시각 (마지막 집계 구간의 끝)
+    private Optional<LocalDateTime> findRolledUntil() {
+        return searchKeywordRollupRepository.findLastBucketHour().map(hour -> hour.plusHours(1));
+    }
+
+    // 로그가 없는 시간 구간은 건너뜀
+    private Optional<LocalDateTime> findNextLogHour(LocalDateTime from) {
+        return searchLogRepository.findFirstSearchedAtFrom(from).map(time -> time.truncatedTo(ChronoUnit.HOURS));
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.eightyage.domain.search.service;
+
+import com.example.eightyage.domain.search.entity.SearchLog;
+import com.example.eightyage.domain.search.repository.SearchLogBulkRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 검색 로그 write-behind 저장
+ * 검색 요청 스레드는 버퍼에 넣기만 하고, 백그라운드 스레드가 일정 개수나 시간마다 JDBC batch insert 한다.
+ */
+@Slf4j
+@Component
+public class SearchLogWriter {
+
+    public enum OverflowPolicy {
+        DROP,           // 버퍼가 가득 차면 버림
+        CALLER_RUNS     // 버퍼가 가득 차면 요청 스레드에서 바로 저장
+    }
+
+    private final SearchLogBulkRepository searchLogBulkRepository;
+    private final TransactionTemplate requiresNewTransaction;
+    private final int capacity;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+    private final OverflowPolicy overflowPolicy;
+
+    private final Queue<SearchLog> buffer = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger bufferSize = new AtomicInteger();
+    private volatile boolean running = false;
+    private Thread worker;
+
+    private final Counter droppedCounter;
+    private final Timer flushTimer;
+
+    public SearchLogWriter(SearchLogBulkRepository searchLogBulkRepository,
+                           PlatformTransactionManager transactionManager,
+                           MeterRegistry meterRegistry,
+                           @Value("${search-log.writer.capacity:10000}") int capacity,
+                           @Value("${search-log.writer.batch-size:500}") int batchSize,
+                           @Value("${search-log.writer.flush-interval-ms:1000}") long flushIntervalMillis,
+                           @Value("${search-log.writer.overflow-policy:DROP}") OverflowPolicy overflowPolicy) {
+        this.searchLogBulkRepository = searchLogBulkRepository;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.overflowPolicy = overflowPolicy;
+
+        Gauge.builder("search.log.queue.depth", bufferSize, AtomicInteger::get).register(meterRegistry);
+        this.droppedCounter = Counter.builder("search.log.dropped").register(meterRegistry);
+        this.flushTimer = Timer.builder("search.log.flush").register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        worker = new Thread(this::run, "search-log-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // 검색 키워드를 버퍼에 추가
+    public void enqueue(String keyword) {
+        SearchLog searchLog = SearchLog.of(keyword, LocalDateTime.now());
+
+        if (!running) {
+            insertNow(searchLog);
+            return;
+        }
+
+        if (bufferSize.incrementAndGet() > capacity) {
+            bufferSize.decrementAndGet();
+            handleOverflow(searchLog);
+            return;
+        }
+
+        buffer.offer(searchLog);
+
+        if (bufferSize.get() >= batchSize) {
+            LockSupport.unpark(worker);
+        }
+    }
+
+    // 서버 종료 시 남은 로그 저장
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+
+        if (worker != null) {
+            LockSupport.unpark(worker);
+            worker.join(TimeUnit.SECONDS.toMillis(5));
+        }
+
+        int flushed;
+        do {
+            flushed = flush();
+        } while (flushed > 0);
+    }
+
+    int flush() {
+        List<SearchLog> batch = new ArrayList<>(batchSize);
+
+        SearchLog searchLog;
+        while (batch.size() < batchSize && (searchLog = buffer.poll()) != null) {
+            batch.add(searchLog);
+            bufferSize.decrementAndGet();
+        }
+
+        if (batch.isEmpty()) {
+            return 0;
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            searchLogBulkRepository.bulkInsertSearchLogs(batch);
+        } catch (Exception e) {
+            droppedCounter.increment(batch.size());
+            log.error("검색 로그 저장 실패: {}건", batch.size(), e);
+        } finally {
+            flushTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+        return batch.size();
+    }
+
+    int bufferSize() {
+        return bufferSize.get();
+    }
+
+    private void run() {
+        while (running) {
+            if (bufferSize.get() < batchSize) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis));
+            }
+            flush();
+        }
+    }
+
+    private void handleOverflow(SearchLog searchLog) {
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            insertNow(searchLog);
+            return;
+        }
+        droppedCounter.increment();
+    }
+
+    // 요청 스레드에서 바로 저장 (조회 트랜잭션과 분리)
+    private void insertNow(SearchLog searchLog) {
+        requiresNewTransaction.executeWithoutResult(status -> searchLogBulkRepository.bulkInsertSearchLogs(List.of(searchLog)));
+    }
+}
@@ -1,8 +1,8 @@
 package com.example.eightyage.domain.search.service.v1;
 
 import com.example.eightyage.domain.search.dto.PopularKeywordDto;
-import com.example.eightyage.domain.search.repository.SearchLogRepository;
 import com.example.eightyage.domain.search.service.PopularKeywordService;
+import com.example.eightyage.domain.search.service.SearchKeywordRollupService;
 import com.example.eightyage.global.exception.BadRequestException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -15,7 +15,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PopularKeywordServiceV1 implements PopularKeywordService {
 
-    private final SearchLogRepository searchLogRepository;
+    private final SearchKeywordRollupService searchKeywordRollupService;
     private static final int MIN_DAYS = 1;
     private static final int MAX_DAYS = 365;
 
@@ -26,7 +26,7 @@ public class PopularKeywordServiceV1 implements PopularKeywordService {
             throw new BadRequestException("조회 기간은 1 ~ 365일 사이여야 합니다.");
         }
         LocalDateTime since = LocalDateTime.now().minusDays(days);
-        return searchLogRepository.findPopularKeywords(since);
+        return searchKeywordRollupService.findPopularKeywords(since);
     }
 
 }
\ No newline at end of file
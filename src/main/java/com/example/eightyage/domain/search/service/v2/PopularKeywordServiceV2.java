@@ -1,8 +1,8 @@
 package com.example.eightyage.domain.search.service.v2;
 
 import com.example.eightyage.domain.search.dto.PopularKeywordDto;
-import com.example.eightyage.domain.search.repository.SearchLogRepository;
 import com.example.eightyage.domain.search.service.PopularKeywordService;
+import com.example.eightyage.domain.search.service.SearchKeywordRollupService;
 import com.example.eightyage.global.exception.BadRequestException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.Cacheable;
@@ -16,7 +16,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class PopularKeywordServiceV2 implements PopularKeywordService {
 
-    private final SearchLogRepository searchLogRepository;
+    private final SearchKeywordRollupService searchKeywordRollupService;
     private static final int MIN_DAYS = 1;
     private static final int MAX_DAYS = 365;
     private static final String POPULAR_KEYWORDS = "popularKeywords";
@@ -29,7 +29,7 @@ public class PopularKeywordServiceV2 implements PopularKeywordService {
             throw new BadRequestException("조회 일 수는 1~365 사이여야 합니다.");
         }
         LocalDateTime since = LocalDateTime.now().minusDays(days);
-        return searchLogRepository.findPopularKeywords(since);
+        return searchKeywordRollupService.findPopularKeywords(since);
     }
 
 }
@@ -1,11 +1,8 @@
 package com.example.eightyage.domain.search.service.v2;
 
-import com.example.eightyage.domain.search.entity.SearchLog;
-import com.example.eightyage.domain.search.repository.SearchLogRepository;
+import com.example.eightyage.domain.search.service.SearchLogWriter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 
@@ -13,13 +10,12 @@ import org.springframework.util.StringUtils;
 @RequiredArgsConstructor
 public class SearchServiceV2 {
 
-    private final SearchLogRepository searchLogRepository;
+    private final SearchLogWriter searchLogWriter;
 
-    // 검색 키워드를 로그에 저장
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    // 검색 키워드를 로그에 저장 (비동기 batch)
     public void saveSearchLog(String keyword) {
         if (StringUtils.hasText(keyword)) {
-            searchLogRepository.save(SearchLog.keywordOf(keyword));
+            searchLogWriter.enqueue(keyword);
         }
     }
 }
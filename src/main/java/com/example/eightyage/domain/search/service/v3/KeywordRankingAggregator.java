@@ -0,0 +1,94 @@
+package com.example.eightyage.domain.search.service.v3;
+
+import com.example.eightyage.domain.search.sketch.KeywordHeavyHitters;
+import com.example.eightyage.domain.search.sketch.SpaceSavingTopK;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 실시간 인기 검색어 로컬 집계
+ * 검색마다 Redis에 쓰지 않고 인스턴스 안에서 heavy hitter만 모아 두었다가,
+ * 주기적으로 현재 분 버킷에 한 번의 pipeline으로 더한다.
+ */
+@Slf4j
+@Component
+public class KeywordRankingAggregator {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final double epsilon;
+    private final double delta;
+    private final int capacity;
+    private final int stripes;
+
+    private final AtomicReference<KeywordHeavyHitters> current;
+
+    public KeywordRankingAggregator(RedisTemplate<String, String> redisTemplate,
+                                    @Value("${search-ranking.sketch.epsilon:0.001}") double epsilon,
+                                    @Value("${search-ranking.sketch.delta:0.01}") double delta,
+                                    @Value("${search-ranking.sketch.capacity:1000}") int capacity,
+                                    @Value("${search-ranking.sketch.stripes:16}") int stripes) {
+        this.redisTemplate = redisTemplate;
+        this.epsilon = epsilon;
+        this.delta = delta;
+        this.capacity = capacity;
+        this.stripes = stripes;
+        this.current = new AtomicReference<>(newInterval());
+    }
+
+    // 교체 중인 이전 구간에 막히면 새 구간에 다시 기록
+    public void record(String keyword) {
+        while (!current.get().add(keyword)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    // 집계 구간을 교체하고 이전 구간의 heavy hitter를 Redis에 반영
+    @Scheduled(fixedDelayString = "${search-ranking.sketch.flush-interval-ms:5000}")
+    public void flush() {
+        KeywordHeavyHitters previous = current.getAndSet(newInterval());
+        // 교체 전에 이전 구간을 잡은 기록이 끝난 뒤 집계해야 유실이 없음
+        previous.close();
+        List<SpaceSavingTopK.Entry> heavyHitters = previous.topK(capacity);
+        if (heavyHitters.isEmpty()) {
+            return;
+        }
+
+        String bucketKey = KeywordRankingBuckets.bucketKey(KeywordRankingBuckets.currentMinute());
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                    RedisOperations<String, String> stringOperations = (RedisOperations<String, String>) operations;
+                    for (SpaceSavingTopK.Entry heavyHitter : heavyHitters) {
+                        stringOperations.opsForZSet().incrementScore(bucketKey, heavyHitter.getItem(), heavyHitter.getCount());
+                    }
+                    stringOperations.expire(bucketKey, KeywordRankingBuckets.BUCKET_TTL);
+                    return null;
+                }
+            });
+        } catch (DataAccessException e) {
+            log.warn("실시간 인기 검색어 반영 실패: {}건", heavyHitters.size(), e);
+        }
+    }
+
+    // 서버 종료 시 남은 집계 반영
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private KeywordHeavyHitters newInterval() {
+        return new KeywordHeavyHitters(epsilon, delta, capacity, stripes);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.eightyage.domain.search.service.v3;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 실시간 인기 검색어 분 단위 버킷 키
+ * 검색어 점수는 분마다 다른 ZSET에 쌓이고, 조회 시 최근 N분 버킷을 합산한다.
+ */
+final class KeywordRankingBuckets {
+
+    static final String RANKING_KEY = "rankingPopularKeywords";
+    static final int MIN_WINDOW_MINUTES = 1;
+    static final int MAX_WINDOW_MINUTES = 60;
+
+    // 가장 긴 조회 구간이 지나면 버킷 자동 삭제
+    static final Duration BUCKET_TTL = Duration.ofMinutes(MAX_WINDOW_MINUTES + 1);
+
+    private KeywordRankingBuckets() {
+    }
+
+    static long currentMinute() {
+        return System.currentTimeMillis() / Duration.ofMinutes(1).toMillis();
+    }
+
+    static String bucketKey(long epochMinute) {
+        return RANKING_KEY + ":" + epochMinute;
+    }
+
+    // 현재 분을 포함한 최근 minutes개 버킷 키
+    static List<String> windowKeys(long currentMinute, int minutes) {
+        List<String> keys = new ArrayList<>(minutes);
+        for (long minute = currentMinute; minute > currentMinute - minutes; minute--) {
+            keys.add(bucketKey(minute));
+        }
+        return keys;
+    }
+
+    static String windowKey(int minutes) {
+        return RANKING_KEY + ":window:" + minutes;
+    }
+}
@@ -1,12 +1,13 @@
 package com.example.eightyage.domain.search.service.v3;
 
 import com.example.eightyage.domain.search.dto.PopularKeywordDto;
+import com.example.eightyage.global.exception.BadRequestException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ZSetOperations;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
@@ -17,13 +18,30 @@ import java.util.stream.Collectors;
 public class PopularKeywordServiceV3 {
 
     private final RedisTemplate<String, String> redisTemplate;
-    private static final String RANKING_KEY = "rankingPopularKeywords";
 
-    // 인기 검색어 상위 N개 조회
-    @Transactional(readOnly = true)
-    public List<PopularKeywordDto> searchPopularKeywords(int limit) {
-        Set<ZSetOperations.TypedTuple<String>> keywordSet =
-                redisTemplate.opsForZSet().reverseRangeWithScores(RANKING_KEY, 0, limit - 1);
+    // 합산 결과 재사용 시간
+    private static final Duration WINDOW_CACHE_TTL = Duration.ofSeconds(5);
+
+    // 최근 N분 인기 검색어 상위 limit개 조회
+    public List<PopularKeywordDto> searchPopularKeywords(int limit, int minutes) {
+        return searchPopularKeywords(limit, minutes, KeywordRankingBuckets.currentMinute());
+    }
+
+    List<PopularKeywordDto> searchPopularKeywords(int limit, int minutes, long currentMinute) {
+        if (minutes < KeywordRankingBuckets.MIN_WINDOW_MINUTES || minutes > KeywordRankingBuckets.MAX_WINDOW_MINUTES) {
+            throw new BadRequestException("조회 구간은 1~60분 사이여야 합니다.");
+        }
+
+        String windowKey = KeywordRankingBuckets.windowKey(minutes);
+        Set<ZSetOperations.TypedTuple<String>> keywordSet = findTopKeywords(windowKey, limit);
+
+        // 합산 결과가 만료됐으면 분 버킷을 다시 합산
+        if (keywordSet == null || keywordSet.isEmpty()) {
+            List<String> bucketKeys = KeywordRankingBuckets.windowKeys(currentMinute, minutes);
+            redisTemplate.opsForZSet().unionAndStore(bucketKeys.get(0), bucketKeys.subList(1, bucketKeys.size()), windowKey);
+            redisTemplate.expire(windowKey, WINDOW_CACHE_TTL);
+            keywordSet = findTopKeywords(windowKey, limit);
+        }
 
         if (keywordSet == null) {
             return List.of();
@@ -31,4 +49,8 @@ public class PopularKeywordServiceV3 {
         return keywordSet.stream().map(tuple -> PopularKeywordDto.keywordOf(tuple.getValue(), Objects.requireNonNull(tuple.getScore()).longValue()))
                 .collect(Collectors.toList());
     }
+
+    private Set<ZSetOperations.TypedTuple<String>> findTopKeywords(String key, int limit) {
+        return redisTemplate.opsForZSet().reverseRangeWithScores(key, 0, limit - 1);
+    }
 }
@@ -0,0 +1,73 @@
+package com.example.eightyage.domain.search.sketch;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min Sketch
+ * 추정값은 실제 값보다 작지 않고, 1 - delta 확률로 실제 값 + epsilon * (전체 개수) 이하이다.
+ * 카운터는 AtomicLongArray라 락 없이 여러 스레드에서 동시에 더할 수 있다.
+ */
+public class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final AtomicLongArray table;
+
+    public CountMinSketch(double epsilon, double delta) {
+        if (epsilon <= 0 || epsilon >= 1 || delta <= 0 || delta >= 1) {
+            throw new IllegalArgumentException("epsilon, delta는 0과 1 사이여야 합니다.");
+        }
+        this.width = (int) Math.ceil(Math.E / epsilon);
+        this.depth = (int) Math.ceil(Math.log(1 / delta));
+        this.table = new AtomicLongArray(width * depth);
+    }
+
+    public void add(String item) {
+        int hash1 = hash1(item);
+        int hash2 = hash2(hash1);
+        for (int row = 0; row < depth; row++) {
+            table.incrementAndGet(row * width + index(hash1, hash2, row));
+        }
+    }
+
+    public long estimate(String item) {
+        int hash1 = hash1(item);
+        int hash2 = hash2(hash1);
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, table.get(row * width + index(hash1, hash2, row)));
+        }
+        return min;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    // 두 해시를 조합해 행마다 다른 해시 생성 (Kirsch-Mitzenmacher)
+    private int index(int hash1, int hash2, int row) {
+        return Math.floorMod(hash1 + row * hash2, width);
+    }
+
+    private static int hash1(String item) {
+        return mix(item.hashCode());
+    }
+
+    private static int hash2(int hash1) {
+        return mix(hash1 ^ 0x9E3779B9) | 1;
+    }
+
+    // murmur3 fmix32
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85EBCA6B;
+        h ^= h >>> 13;
+        h *= 0xC2B2AE35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
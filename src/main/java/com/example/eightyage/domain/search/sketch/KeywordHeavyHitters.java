@@ -0,0 +1,76 @@
+package com.example.eightyage.domain.search.sketch;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 검색어 heavy hitter 추적
+ * Space-Saving이 후보를 고르고, 후보의 횟수는 두 추정값 중 작은 값을 쓴다 (둘 다 실제 값 이상).
+ * Space-Saving은 검색어 해시로 나눈 stripe마다 따로 두어 락 경합을 stripe 단위로 줄인다.
+ * 검색어는 항상 같은 stripe에 들어가므로 stripe들의 후보를 합치기만 하면 된다.
+ */
+public class KeywordHeavyHitters {
+
+    private final CountMinSketch countMinSketch;
+    private final SpaceSavingTopK[] stripes;
+
+    // 진행 중인 add 수, close 후에는 새 add를 받지 않음
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile boolean closed = false;
+
+    public KeywordHeavyHitters(double epsilon, double delta, int capacity, int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("stripeCount는 1 이상이어야 합니다.");
+        }
+        this.countMinSketch = new CountMinSketch(epsilon, delta);
+        // stripe마다 전체 capacity를 두어야 N / capacity 보장이 전체 개수 기준으로 유지됨
+        this.stripes = new SpaceSavingTopK[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new SpaceSavingTopK(capacity);
+        }
+    }
+
+    // 이미 close 되었으면 반영하지 않고 false (호출자는 새 구간에 다시 add)
+    public boolean add(String keyword) {
+        inFlight.incrementAndGet();
+        try {
+            if (closed) {
+                return false;
+            }
+            countMinSketch.add(keyword);
+            stripes[stripeOf(keyword)].add(keyword);
+            return true;
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    // 새 add를 막고 진행 중인 add가 끝날 때까지 대기 (이후 topK는 받아들인 add를 모두 포함)
+    public void close() {
+        closed = true;
+        while (inFlight.get() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    // 추정 횟수 내림차순 상위 k개
+    public List<SpaceSavingTopK.Entry> topK(int k) {
+        List<SpaceSavingTopK.Entry> result = new ArrayList<>();
+        for (SpaceSavingTopK stripe : stripes) {
+            for (SpaceSavingTopK.Entry candidate : stripe.topK(stripe.getCapacity())) {
+                long count = Math.min(candidate.getCount(), countMinSketch.estimate(candidate.getItem()));
+                result.add(new SpaceSavingTopK.Entry(candidate.getItem(), count, count - (candidate.getCount() - candidate.getError())));
+            }
+        }
+
+        result.sort(Comparator.comparingLong(SpaceSavingTopK.Entry::getCount).reversed());
+        return result.size() > k ? result.subList(0, k) : result;
+    }
+
+    private int stripeOf(String keyword) {
+        int h = keyword.hashCode() * 0x9E3779B9;
+        return Math.floorMod(h ^ (h >>> 16), stripes.length);
+    }
+}
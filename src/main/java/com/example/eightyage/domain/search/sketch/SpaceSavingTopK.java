@@ -0,0 +1,103 @@
+package com.example.eightyage.domain.search.sketch;
+
+import java.util.*;
+
+/**
+ * Space-Saving 상위 K개 추적
+ * capacity개의 카운터만 유지하며, 전체 개수 N 중 N / capacity 번보다 많이 나온 항목은 반드시 남는다.
+ * 가장 작은 카운터를 교체하는 과정이 직렬이라 갱신은 짧은 락으로 보호한다.
+ * 여러 스레드에서 쓸 때는 KeywordHeavyHitters처럼 항목 해시로 나눠 인스턴스마다 락을 따로 둔다.
+ */
+public class SpaceSavingTopK {
+
+    private final int capacity;
+    private final Map<String, Counter> counters;
+    private final TreeSet<Counter> ordered = new TreeSet<>(
+            Comparator.comparingLong((Counter counter) -> counter.count).thenComparingLong(counter -> counter.sequence));
+    private long sequence = 0;
+
+    public SpaceSavingTopK(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public synchronized void add(String item) {
+        Counter counter = counters.get(item);
+        if (counter != null) {
+            ordered.remove(counter);
+            counter.count++;
+            ordered.add(counter);
+            return;
+        }
+
+        long error = 0;
+        if (counters.size() >= capacity) {
+            // 가장 작은 카운터를 새 항목에 넘겨줌
+            Counter min = ordered.pollFirst();
+            counters.remove(min.item);
+            error = min.count;
+        }
+
+        counter = new Counter(item, error + 1, error, sequence++);
+        counters.put(item, counter);
+        ordered.add(counter);
+    }
+
+    // 추정 횟수 내림차순 상위 k개
+    public synchronized List<Entry> topK(int k) {
+        List<Entry> entries = new ArrayList<>(Math.min(k, counters.size()));
+        Iterator<Counter> iterator = ordered.descendingIterator();
+        while (iterator.hasNext() && entries.size() < k) {
+            Counter counter = iterator.next();
+            entries.add(new Entry(counter.item, counter.count, counter.error));
+        }
+        return entries;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    private static final class Counter {
+        private final String item;
+        private long count;
+        private final long error;
+        private final long sequence;
+
+        private Counter(String item, long count, long error, long sequence) {
+            this.item = item;
+            this.count = count;
+            this.error = error;
+            this.sequence = sequence;
+        }
+    }
+
+    public static final class Entry {
+        private final String item;
+        private final long count;
+        private final long error;
+
+        public Entry(String item, long count, long error) {
+            this.item = item;
+            this.count = count;
+            this.error = error;
+        }
+
+        public String getItem() {
+            return item;
+        }
+
+        // 실제 횟수 이상인 추정 횟수
+        public long getCount() {
+            return count;
+        }
+
+        // 추정 횟수의 최대 초과분
+        public long getError() {
+            return error;
+        }
+    }
+}
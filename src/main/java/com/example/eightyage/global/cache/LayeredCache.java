@@ -0,0 +1,152 @@
+package com.example.eightyage.global.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.concurrent.Callable;
+
+/**
+ * 인스턴스별 Caffeine(L1) + 공유 Redis(L2) 2단 캐시
+ * evict, clear 시 Redis pub/sub으로 다른 인스턴스의 L1도 비운다.
+ */
+public class LayeredCache implements Cache {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+    static final String DELIMITER = "|";
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache;
+    private final Cache remoteCache;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    public LayeredCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<Object, Object> localCache,
+                        Cache remoteCache,
+                        StringRedisTemplate stringRedisTemplate,
+                        MeterRegistry meterRegistry) {
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.localHits = counter(meterRegistry, "l1", "hit");
+        this.localMisses = counter(meterRegistry, "l1", "miss");
+        this.remoteHits = counter(meterRegistry, "l2", "hit");
+        this.remoteMisses = counter(meterRegistry, "l2", "miss");
+
+        Gauge.builder("cache.hit.ratio", this, LayeredCache::hitRatio)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        Object localValue = localCache.getIfPresent(key);
+        if (localValue != null) {
+            localHits.increment();
+            return new SimpleValueWrapper(localValue);
+        }
+        localMisses.increment();
+
+        ValueWrapper remoteValue = remoteCache.get(key);
+        if (remoteValue != null && remoteValue.get() != null) {
+            remoteHits.increment();
+            localCache.put(key, remoteValue.get());
+            return remoteValue;
+        }
+        remoteMisses.increment();
+        return null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        return wrapper == null ? null : (T) wrapper.get();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            return;
+        }
+        remoteCache.put(key, value);
+        localCache.put(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        localCache.invalidate(key);
+        stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, name + DELIMITER + key);
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        localCache.invalidateAll();
+        stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, name + DELIMITER);
+    }
+
+    // 다른 인스턴스에서 받은 무효화 메시지 처리 (L1만 비움)
+    void evictLocal(String key) {
+        localCache.invalidate(key);
+    }
+
+    void clearLocal() {
+        localCache.invalidateAll();
+    }
+
+    // L1 또는 L2에서 찾은 조회 비율 (조회가 없으면 0)
+    double hitRatio() {
+        double gets = localHits.count() + localMisses.count();
+        return gets == 0 ? 0 : (localHits.count() + remoteHits.count()) / gets;
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
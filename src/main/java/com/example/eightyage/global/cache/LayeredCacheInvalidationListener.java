@@ -0,0 +1,37 @@
+package com.example.eightyage.global.cache;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+public class LayeredCacheInvalidationListener implements MessageListener {
+
+    private final Map<String, LayeredCache> caches;
+
+    public LayeredCacheInvalidationListener(List<LayeredCache> caches) {
+        this.caches = caches.stream().collect(Collectors.toMap(LayeredCache::getName, Function.identity()));
+    }
+
+    // "캐시이름|키" 는 단건 무효화, "캐시이름|" 은 전체 무효화
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + LayeredCache.DELIMITER, 2);
+
+        LayeredCache cache = caches.get(parts[0]);
+        if (cache == null) {
+            return;
+        }
+
+        if (parts.length < 2 || parts[1].isEmpty()) {
+            cache.clearLocal();
+        } else {
+            cache.evictLocal(parts[1]);
+        }
+    }
+}
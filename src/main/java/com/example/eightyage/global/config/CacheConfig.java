@@ -1,13 +1,24 @@
 package com.example.eightyage.global.config;
 
+import com.example.eightyage.domain.coupon.dto.response.CouponCacheDto;
+import com.example.eightyage.domain.review.dto.response.ReviewPageCacheDto;
+import com.example.eightyage.global.cache.LayeredCache;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.cache.BatchStrategies;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
@@ -19,6 +30,11 @@ import java.util.Map;
 @Configuration
 public class CacheConfig {
 
+    public static final String PRODUCT_SEARCH = "productSearch";
+    public static final String COUPON = "coupon";
+    public static final String PRODUCT_REVIEW_STATS = "productReviewStats";
+    public static final String REVIEW_PAGE = "reviewPage";
+
     @Bean
     public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
         // 기본 캐시 설정
@@ -29,11 +45,91 @@ public class CacheConfig {
         // 캐시 별로 TTL 설정
         Map<String, RedisCacheConfiguration> configMap = new HashMap<>();
         configMap.put("popularKeywords", defaultConfig.entryTtl(Duration.ofMinutes(5)));
+        configMap.put(PRODUCT_SEARCH, defaultConfig.entryTtl(Duration.ofMinutes(1)));
+        configMap.put(COUPON, defaultConfig.entryTtl(Duration.ofMinutes(10))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(couponCacheSerializer())));
+        configMap.put(PRODUCT_REVIEW_STATS, defaultConfig.entryTtl(Duration.ofMinutes(30)));
+        configMap.put(REVIEW_PAGE, defaultConfig.entryTtl(Duration.ofMinutes(5))
+                .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(reviewPageCacheSerializer())));
+
+        // 전체 삭제 시 KEYS 대신 SCAN 사용
+        RedisCacheWriter cacheWriter = RedisCacheWriter.nonLockingRedisCacheWriter(redisConnectionFactory, BatchStrategies.scan(1000));
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        return RedisCacheManager.builder(cacheWriter)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(configMap)
                 .build();
     }
 
+    // 쿠폰 캐시는 LocalDateTime 필드가 있어 JavaTimeModule을 등록한 전용 serializer 사용
+    private Jackson2JsonRedisSerializer<CouponCacheDto> couponCacheSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return new Jackson2JsonRedisSerializer<>(objectMapper, CouponCacheDto.class);
+    }
+
+    // 리뷰 캐시도 작성/수정 시각이 있어 같은 방식의 전용 serializer 사용
+    private Jackson2JsonRedisSerializer<ReviewPageCacheDto> reviewPageCacheSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return new Jackson2JsonRedisSerializer<>(objectMapper, ReviewPageCacheDto.class);
+    }
+
+    // 제품 검색 결과 페이지 캐시 (L1 Caffeine 30초, L2 Redis 1분)
+    @Bean
+    public LayeredCache productSearchCache(CacheManager cacheManager, StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        return new LayeredCache(
+                PRODUCT_SEARCH,
+                Caffeine.newBuilder()
+                        .maximumSize(1000)
+                        .expireAfterWrite(Duration.ofSeconds(30))
+                        .build(),
+                cacheManager.getCache(PRODUCT_SEARCH),
+                stringRedisTemplate,
+                meterRegistry
+        );
+    }
+
+    // 쿠폰 정보 캐시 (L1 Caffeine 5분, L2 Redis 10분, 수정 시 무효화)
+    @Bean
+    public LayeredCache couponCache(CacheManager cacheManager, StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        return new LayeredCache(
+                COUPON,
+                Caffeine.newBuilder()
+                        .maximumSize(10000)
+                        .expireAfterWrite(Duration.ofMinutes(5))
+                        .build(),
+                cacheManager.getCache(COUPON),
+                stringRedisTemplate,
+                meterRegistry
+        );
+    }
+
+    // 제품 별점 분포 캐시 (L1 Caffeine 10분, L2 Redis 30분, 리뷰 변경 시 무효화)
+    @Bean
+    public LayeredCache productReviewStatsCache(CacheManager cacheManager, StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        return new LayeredCache(
+                PRODUCT_REVIEW_STATS,
+                Caffeine.newBuilder()
+                        .maximumSize(10000)
+                        .expireAfterWrite(Duration.ofMinutes(10))
+                        .build(),
+                cacheManager.getCache(PRODUCT_REVIEW_STATS),
+                stringRedisTemplate,
+                meterRegistry
+        );
+    }
+
+    // 제품, 정렬별 앞쪽 리뷰 캐시 (L1 Caffeine 1분, L2 Redis 5분, 리뷰 변경 시 해당 제품만 무효화)
+    @Bean
+    public LayeredCache reviewPageCache(CacheManager cacheManager, StringRedisTemplate stringRedisTemplate, MeterRegistry meterRegistry) {
+        return new LayeredCache(
+                REVIEW_PAGE,
+                Caffeine.newBuilder()
+                        .maximumSize(10000)
+                        .expireAfterWrite(Duration.ofMinutes(1))
+                        .build(),
+                cacheManager.getCache(REVIEW_PAGE),
+                stringRedisTemplate,
+                meterRegistry
+        );
+    }
 }
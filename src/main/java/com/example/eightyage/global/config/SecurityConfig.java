@@ -1,5 +1,6 @@
 package com.example.eightyage.global.config;
 
+import com.example.eightyage.domain.user.userrole.UserRole;
 import com.example.eightyage.global.filter.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -42,6 +43,7 @@ public class SecurityConfig {
                 .rememberMe(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
                                 .requestMatchers(request -> request.getRequestURI().startsWith("/api/v1/auth")).permitAll()
+                                .requestMatchers("/actuator/metrics/**").hasAuthority(UserRole.Authority.ADMIN)
                                 .requestMatchers("/actuator/**").permitAll()
                                 .anyRequest().authenticated()
                 )
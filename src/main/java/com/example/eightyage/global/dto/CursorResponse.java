@@ -0,0 +1,31 @@
+package com.example.eightyage.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorResponse<T> {
+
+    private List<T> content;
+
+    private int size;
+
+    private boolean hasNext;
+
+    private String nextCursor;
+
+    // 마지막 항목으로 다음 커서 생성
+    public static <T> CursorResponse<T> of(Slice<T> slice, Function<T, String> cursorOf) {
+        List<T> content = slice.getContent();
+        String nextCursor = slice.hasNext() && !content.isEmpty() ? cursorOf.apply(content.get(content.size() - 1)) : null;
+
+        return new CursorResponse<>(content, content.size(), slice.hasNext(), nextCursor);
+    }
+}
@@ -20,7 +20,9 @@ public final class ValidationMessage {
     public static final String NOT_BLANK_EVENT_NAME = "이벤트 이름은 필수 입력 값입니다.";
     public static final String NOT_BLANK_EVENT_DESCRIPTION = "이벤트 설명은 필수 입력 값입니다.";
     public static final String INVALID_EVENT_QUANTITY = "수량은 1개 이상이어야 합니다.";
+    public static final String INVALID_STOCK_STRIPES = "재고 분할 수는 1 이상 64 이하여야 합니다.";
     public static final String NOT_NULL_START_DATE = "시작 날짜는 필수 입력 값입니다.";
     public static final String NOT_NULL_END_DATE = "종료 날짜는 필수 입력 값입니다.";
+    public static final String NOT_EMPTY_GRANT_USER_IDS = "지급 대상 사용자는 필수 입력 값입니다.";
 
 }
\ No newline at end of file
@@ -21,6 +21,8 @@ public enum ErrorMessage {
     DEFAULT_NOT_FOUND("찾지 못했습니다."),
     DEFAULT_FORBIDDEN("권한이 없습니다."),
     INTERNAL_SERVER_ERROR("서버 오류가 발생했습니다."),
+    INVALID_CURSOR("잘못된 커서입니다."),
+    INVALID_REVIEW_SORT("지원하지 않는 리뷰 정렬입니다."),
 
     INVALID_JWT_SIGNATURE("유효하지 않는 JWT 서명입니다."),
     EXPIRED_JWT_TOKEN("만료된 JWT 토큰입니다."),
@@ -31,9 +33,18 @@ public enum ErrorMessage {
     CAN_NOT_ACCESS("잠시후 다시 시도해주세요"),
     COUPON_ALREADY_ISSUED("이미 쿠폰 발급 받은 사용자입니다."),
     COUPON_OUT_OF_STOCK("쿠폰 수량이 소진되었습니다."),
+    COUPON_STOCK_NOT_INITIALIZED("쿠폰 재고 정보가 없습니다."),
+    COUPON_ISSUED_USERS_LOADING("쿠폰 발급 내역을 불러오는 중입니다. 잠시 후 다시 시도해주세요."),
+    COUPON_NOT_ADMITTED("대기열 입장 후 발급받을 수 있습니다."),
+    COUPON_WAITING_ROOM_DISABLED("대기열을 사용하지 않는 쿠폰입니다."),
+    COUPON_ISSUE_TICKET_NOT_FOUND("쿠폰 발급 요청을 찾을 수 없습니다."),
     COUPON_NOT_FOUND("쿠폰을 찾을 수 없습니다."),
     COUPON_ALREADY_USED("이미 사용된 쿠폰입니다."),
-    COUPON_FORBIDDEN("본인의 쿠폰이 아닙니다.");
+    COUPON_FORBIDDEN("본인의 쿠폰이 아닙니다."),
+    COUPON_GRANT_JOB_NOT_FOUND("쿠폰 지급 작업을 찾을 수 없습니다."),
+    COUPON_GRANT_JOB_NOT_RESUMABLE("재개할 수 없는 쿠폰 지급 작업입니다."),
+    COUPON_GRANT_TARGETS_EMPTY("쿠폰 지급 대상 사용자가 없습니다."),
+    INVALID_COUPON_GRANT_CSV("잘못된 쿠폰 지급 대상 파일입니다.");
 
     private final String message;
 
@@ -0,0 +1,64 @@
+package com.example.eightyage.global.util;
+
+import com.example.eightyage.global.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.stream.Collectors;
+
+import static com.example.eightyage.global.exception.ErrorMessage.INVALID_CURSOR;
+
+public class CursorCodec {
+
+    private static final String DELIMITER = "|";
+
+    // 정렬 값들을 클라이언트가 해석하지 않는 불투명한 문자열로 인코딩 (null은 빈 값)
+    public static String encode(Object... values) {
+        String joined = Arrays.stream(values)
+                .map(value -> value == null ? "" : String.valueOf(value))
+                .collect(Collectors.joining(DELIMITER));
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(joined.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static String[] decode(String cursor, int expectedSize) {
+        try {
+            String joined = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = joined.split("\\|", -1);
+
+            if (values.length != expectedSize) {
+                throw new BadRequestException(INVALID_CURSOR.getMessage());
+            }
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException(INVALID_CURSOR.getMessage());
+        }
+    }
+
+    public static Long parseLong(String value) {
+        try {
+            return value.isEmpty() ? null : Long.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(INVALID_CURSOR.getMessage());
+        }
+    }
+
+    public static LocalDateTime parseDateTime(String value) {
+        try {
+            return value.isEmpty() ? null : LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new BadRequestException(INVALID_CURSOR.getMessage());
+        }
+    }
+
+    public static Double parseDouble(String value) {
+        try {
+            return value.isEmpty() ? null : Double.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException(INVALID_CURSOR.getMessage());
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.eightyage.global.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 보정 작업의 연속 차이 추적
+ * 차이는 진행 중인 트랜잭션 때문일 수 있으므로 두 번 연속 보인 대상만 고치도록 직전 보정에서 차이가 있던 대상을 기억한다.
+ * {name}.drift 게이지(직전 보정의 차이)와 {name}.repaired 카운터(보정 수)를 등록하며, 한 번의 보정은 start()와 finish() 사이에서 기록한다.
+ */
+public class DriftTracker<K> {
+
+    private final AtomicLong drift = new AtomicLong();
+    private final Counter repairedCounter;
+
+    // 직전 보정에서 차이가 있던 대상
+    private Set<K> previous = Set.of();
+    private Set<K> current = new HashSet<>();
+    private long currentDrift;
+
+    public DriftTracker(MeterRegistry meterRegistry, String name) {
+        Gauge.builder(name + ".drift", drift, AtomicLong::get).register(meterRegistry);
+        this.repairedCounter = Counter.builder(name + ".repaired").register(meterRegistry);
+    }
+
+    public void start() {
+        current = new HashSet<>();
+        currentDrift = 0;
+    }
+
+    public Set<K> getPreviouslyDrifted() {
+        return previous;
+    }
+
+    public boolean wasDrifted(K key) {
+        return previous.contains(key);
+    }
+
+    public void recordDrift(long amount) {
+        currentDrift += amount;
+    }
+
+    // 다음 보정에서도 차이가 보이면 고칠 대상
+    public void markDrifted(K key) {
+        current.add(key);
+    }
+
+    public void repaired() {
+        repairedCounter.increment();
+    }
+
+    public void finish() {
+        previous = current;
+        drift.set(currentDrift);
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.eightyage.global.util;
+
+import com.example.eightyage.domain.coupon.repository.CouponSerialSequenceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 쿠폰 시리얼 코드 생성기
+ * DB에서 전역 시퀀스 구간을 받아 스레드마다 따로 소비하므로 스레드 간 경합이 없고, 시퀀스가 겹치지 않아 코드가 중복되지 않는다.
+ * 시퀀스는 46비트 안에서 뒤섞어(전단사) 순서를 추측하기 어렵게 한 뒤 base36 9자리로 만들고, 마지막에 검증 문자 1자리를 붙인다.
+ */
+@Component
+public class SerialCodeGenerator {
+
+    public static final int CODE_LENGTH = 10;
+
+    private static final int DEFAULT_BLOCK_SIZE = 1000;
+
+    private static final char[] CHARACTERS = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZ".toCharArray();
+    private static final int RADIX = CHARACTERS.length;
+    private static final int BODY_LENGTH = CODE_LENGTH - 1;
+    private static final int SEQUENCE_BITS = 46;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MULTIPLIER_1 = 0x2545F4914F6CDD1DL & SEQUENCE_MASK | 1;
+    private static final long MULTIPLIER_2 = 0x9E3779B97F4A7C15L & SEQUENCE_MASK | 1;
+
+    // 블록 크기를 받아 새 구간의 첫 시퀀스를 반환
+    private final LongUnaryOperator blockAllocator;
+    private final int blockSize;
+    // [다음 시퀀스, 구간 끝(제외)]
+    private final ThreadLocal<long[]> blocks = ThreadLocal.withInitial(() -> new long[2]);
+
+    @Autowired
+    public SerialCodeGenerator(CouponSerialSequenceRepository couponSerialSequenceRepository) {
+        this(couponSerialSequenceRepository::allocate, DEFAULT_BLOCK_SIZE);
+    }
+
+    public SerialCodeGenerator(LongUnaryOperator blockAllocator, int blockSize) {
+        this.blockAllocator = blockAllocator;
+        this.blockSize = blockSize;
+    }
+
+    public String generate() {
+        long[] block = blocks.get();
+        if (block[0] == block[1]) {
+            long start = blockAllocator.applyAsLong(blockSize);
+            block[0] = start;
+            block[1] = start + blockSize;
+        }
+        return encode(block[0]++);
+    }
+
+    // 일괄 생성 (필요한 수만큼의 시퀀스 구간을 한 번에 받음)
+    public List<String> generate(int count) {
+        if (count <= 0) {
+            return List.of();
+        }
+
+        long start = blockAllocator.applyAsLong(count);
+        List<String> codes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            codes.add(encode(start + i));
+        }
+        return codes;
+    }
+
+    static String encode(long sequence) {
+        if (sequence < 0 || sequence > SEQUENCE_MASK) {
+            throw new IllegalStateException("시리얼 코드 시퀀스 범위 초과: " + sequence);
+        }
+
+        long value = permute(sequence);
+        char[] code = new char[CODE_LENGTH];
+        for (int i = BODY_LENGTH - 1; i >= 0; i--) {
+            code[i] = CHARACTERS[(int) (value % RADIX)];
+            value /= RADIX;
+        }
+        code[BODY_LENGTH] = CHARACTERS[checkDigit(code)];
+        return new String(code);
+    }
+
+    // 형식과 검증 문자 확인 (오타나 임의로 만든 코드를 DB 조회 전에 거름)
+    public static boolean isValid(String code) {
+        if (code == null || code.length() != CODE_LENGTH) {
+            return false;
+        }
+        char[] chars = code.toCharArray();
+        for (char c : chars) {
+            if (indexOf(c) < 0) {
+                return false;
+            }
+        }
+        return CHARACTERS[checkDigit(chars)] == chars[BODY_LENGTH];
+    }
+
+    // 46비트 안의 전단사 함수 (홀수 곱셈과 xorshift는 각각 역함수가 있음)
+    private static long permute(long x) {
+        x = (x * MULTIPLIER_1) & SEQUENCE_MASK;
+        x ^= x >>> 23;
+        x = (x * MULTIPLIER_2) & SEQUENCE_MASK;
+        x ^= x >>> 21;
+        return x;
+    }
+
+    // Luhn mod N 검증 문자 (한 글자 오류와 인접한 두 글자 뒤바뀜을 대부분 검출)
+    private static int checkDigit(char[] code) {
+        int sum = 0;
+        boolean doubled = true;
+        for (int i = BODY_LENGTH - 1; i >= 0; i--) {
+            int addend = indexOf(code[i]);
+            if (doubled) {
+                addend *= 2;
+                addend = addend / RADIX + addend % RADIX;
+            }
+            sum += addend;
+            doubled = !doubled;
+        }
+        return (RADIX - sum % RADIX) % RADIX;
+    }
+
+    private static int indexOf(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,23 @@
+-- 쿠폰 발급: 중복 확인, 재고 확인 및 차감, 발급 사용자 기록을 한 번에 수행
+-- KEYS[1]: 재고 키, KEYS[2]: 발급 사용자 SET 키, KEYS[3]: 발급 사용자 적재 완료 키
+-- ARGV[1]: userId, ARGV[2]: 발급 사용자 SET 만료 시각(epoch seconds)
+-- 반환: 남은 재고(>= 0), -1: 이미 발급, -2: 재고 소진, -3: 재고 정보 없음, -4: 발급 사용자 미적재
+if redis.call('EXISTS', KEYS[3]) == 0 then
+    return -4
+end
+
+if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+    return -1
+end
+
+local stock = tonumber(redis.call('GET', KEYS[1]))
+if stock == nil then
+    return -3
+end
+if stock <= 0 then
+    return -2
+end
+
+redis.call('SADD', KEYS[2], ARGV[1])
+redis.call('EXPIREAT', KEYS[2], ARGV[2])
+return redis.call('DECR', KEYS[1])
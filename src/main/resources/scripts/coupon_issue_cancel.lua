@@ -0,0 +1,9 @@
+-- 쿠폰 발급 취소: 발급 사용자에서 제거된 경우에만 재고 복구
+-- KEYS[1]: 재고 키, KEYS[2]: 발급 사용자 SET 키
+-- ARGV[1]: userId
+-- 반환: 1: 취소됨, 0: 발급 기록 없음
+if redis.call('SREM', KEYS[2], ARGV[1]) == 1 then
+    redis.call('INCR', KEYS[1])
+    return 1
+end
+return 0
@@ -0,0 +1,25 @@
+-- 분할 재고 쿠폰 발급: 사용자 담당 stripe에서 중복 확인, 발급 사용자 기록, 재고 차감을 한 번에 수행
+-- KEYS[1]: 담당 stripe 재고 키, KEYS[2]: 담당 stripe 발급 사용자 SET 키, KEYS[3]: 담당 stripe 발급 사용자 적재 완료 키
+-- ARGV[1]: userId, ARGV[2]: 발급 사용자 SET 만료 시각(epoch seconds)
+-- 반환: 1: 담당 stripe에서 차감, 0: 담당 stripe 소진(발급 사용자만 기록), -1: 이미 발급, -3: 재고 정보 없음, -4: 발급 사용자 미적재
+if redis.call('EXISTS', KEYS[3]) == 0 then
+    return -4
+end
+
+if redis.call('SISMEMBER', KEYS[2], ARGV[1]) == 1 then
+    return -1
+end
+
+local stock = tonumber(redis.call('GET', KEYS[1]))
+if stock == nil then
+    return -3
+end
+
+redis.call('SADD', KEYS[2], ARGV[1])
+redis.call('EXPIREAT', KEYS[2], ARGV[2])
+if stock <= 0 then
+    return 0
+end
+
+redis.call('DECR', KEYS[1])
+return 1
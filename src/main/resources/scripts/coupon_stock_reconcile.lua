@@ -0,0 +1,24 @@
+-- 재고 보정: DB 발급 수와 발급 사용자 SET 크기 중 큰 값을 발급 수로 보고 남은 재고를 다시 계산
+-- (발급 사용자 SET에는 아직 DB에 저장되지 않은 비동기 발급도 들어 있으므로 더 큰 값을 기준으로 함)
+-- 일괄 지급 작업이 미리 차감한 재고도 발급된 것으로 봄
+-- KEYS[1]: 재고 키, KEYS[2]: 발급 사용자 SET 키, KEYS[3]: 일괄 지급 중인 재고 HASH 키
+-- ARGV[1]: 쿠폰 수량, ARGV[2]: DB 발급 수, ARGV[3]: 차이가 있으면 다시 쓸지 여부 (재고 키가 없으면 항상 씀)
+-- 반환: {보정 전 재고 - 계산한 재고 (재고 키가 없었으면 보정 전 재고를 0으로 계산), 다시 썼으면 1 아니면 0}
+local issued = math.max(tonumber(ARGV[2]), redis.call('SCARD', KEYS[2]))
+local pending = 0
+for _, jobPending in ipairs(redis.call('HVALS', KEYS[3])) do
+    pending = pending + tonumber(jobPending)
+end
+local target = math.max(tonumber(ARGV[1]) - issued - pending, 0)
+
+local stock = tonumber(redis.call('GET', KEYS[1]))
+if stock == target then
+    return {0, 0}
+end
+
+local repaired = 0
+if stock == nil or ARGV[3] == '1' then
+    redis.call('SET', KEYS[1], target)
+    repaired = 1
+end
+return {(stock or 0) - target, repaired}
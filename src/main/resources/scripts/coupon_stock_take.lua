@@ -0,0 +1,12 @@
+-- 재고 차감: 남은 재고 안에서만 차감해 재고가 음수가 되지 않도록 보장
+-- KEYS[1]: 재고 키
+-- ARGV[1]: 차감할 최대 수량
+-- 반환: 실제 차감한 수량 (재고가 없으면 0)
+local stock = tonumber(redis.call('GET', KEYS[1]))
+if stock == nil or stock <= 0 then
+    return 0
+end
+
+local taken = math.min(stock, tonumber(ARGV[1]))
+redis.call('DECRBY', KEYS[1], taken)
+return taken
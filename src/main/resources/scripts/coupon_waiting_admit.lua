@@ -0,0 +1,19 @@
+-- 대기열 입장: 만료된 입장을 정리하고, 아직 발급하지 않은 입장 수를 뺀 만큼 먼저 온 순서대로 입장
+-- KEYS[1]: 대기열 ZSET 키, KEYS[2]: 입장 ZSET 키 (score: 입장 만료 시각)
+-- ARGV[1]: 현재 시각(epoch millis), ARGV[2]: 입장 만료 시각(epoch millis), ARGV[3]: 동시에 입장해 있을 최대 인원
+-- 반환: 이번에 입장한 인원
+redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', '(' .. ARGV[1])
+
+local count = tonumber(ARGV[3]) - redis.call('ZCARD', KEYS[2])
+if count <= 0 then
+    return 0
+end
+
+local popped = redis.call('ZPOPMIN', KEYS[1], count)
+for i = 1, #popped, 2 do
+    redis.call('ZADD', KEYS[2], ARGV[2], popped[i])
+end
+if #popped > 0 then
+    redis.call('PEXPIREAT', KEYS[2], ARGV[2])
+end
+return #popped / 2
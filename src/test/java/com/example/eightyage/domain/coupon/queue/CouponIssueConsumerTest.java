@@ -0,0 +1,169 @@
+package com.example.eightyage.domain.coupon.queue;
+
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
+import com.example.eightyage.domain.coupon.repository.IssuedCouponBulkRepository;
+import com.example.eightyage.domain.coupon.repository.IssuedCouponRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponIssueConsumerTest {
+
+    @Mock
+    CouponIssueQueue couponIssueQueue;
+
+    @Mock
+    IssuedCouponBulkRepository issuedCouponBulkRepository;
+
+    @Mock
+    IssuedCouponRepository issuedCouponRepository;
+
+    @Mock
+    CouponStockRedisRepository couponStockRedisRepository;
+
+    CouponIssueConsumer couponIssueConsumer;
+
+    @BeforeEach
+    void setUp() {
+        couponIssueConsumer = new CouponIssueConsumer(couponIssueQueue, issuedCouponBulkRepository, issuedCouponRepository,
+                couponStockRedisRepository, 500, 2000);
+    }
+
+    private CouponIssueMessage message(String recordId, Long userId, long deliveryCount) {
+        return new CouponIssueMessage(recordId, "ticket-" + recordId, 1L, userId, "SERIAL" + recordId, deliveryCount);
+    }
+
+    @Test
+    void 발급_요청_일괄_저장_성공() {
+        // given
+        List<CouponIssueMessage> messages = List.of(message("1-0", 1L, 1), message("2-0", 2L, 1));
+
+        // when
+        couponIssueConsumer.process(messages);
+
+        // then
+        verify(issuedCouponBulkRepository).bulkInsertIssuedCoupons(messages);
+        verify(couponIssueQueue).complete(messages, List.of());
+        verifyNoInteractions(couponStockRedisRepository);
+    }
+
+    @Test
+    void 저장할_수_없는_요청만_재고_복구() {
+        // given
+        CouponIssueMessage valid = message("1-0", 1L, 1);
+        CouponIssueMessage invalid = message("2-0", 2L, 1);
+        List<CouponIssueMessage> messages = List.of(valid, invalid);
+
+        given(issuedCouponBulkRepository.bulkInsertIssuedCoupons(messages)).willReturn(List.of(invalid));
+
+        // when
+        couponIssueConsumer.process(messages);
+
+        // then
+        verify(issuedCouponBulkRepository, times(1)).bulkInsertIssuedCoupons(any());
+        verify(couponStockRedisRepository).cancel(1L, 2L);
+        verify(couponIssueQueue).complete(List.of(valid), List.of(invalid));
+    }
+
+    @Test
+    void 행별_결과를_알_수_없으면_한_건씩_저장해_실패한_요청만_재고_복구() {
+        // given
+        CouponIssueMessage valid = message("1-0", 1L, 1);
+        CouponIssueMessage invalid = message("2-0", 2L, 1);
+        List<CouponIssueMessage> messages = List.of(valid, invalid);
+
+        given(issuedCouponBulkRepository.bulkInsertIssuedCoupons(any())).willAnswer(invocation -> {
+            List<CouponIssueMessage> batch = invocation.getArgument(0);
+            if (batch.size() > 1) {
+                throw new DataIntegrityViolationException("fk");
+            }
+            return batch.contains(invalid) ? batch : List.of();
+        });
+
+        // when
+        couponIssueConsumer.process(messages);
+
+        // then
+        verify(issuedCouponBulkRepository).bulkInsertIssuedCoupons(List.of(valid));
+        verify(issuedCouponBulkRepository).bulkInsertIssuedCoupons(List.of(invalid));
+        verify(couponStockRedisRepository).cancel(1L, 2L);
+        verify(couponIssueQueue).complete(List.of(valid), List.of(invalid));
+    }
+
+    @Test
+    void 이미_저장된_요청을_다시_처리하면_발급_완료() {
+        // given
+        CouponIssueMessage redelivered = message("1-0", 1L, 2);
+        List<CouponIssueMessage> messages = List.of(redelivered);
+
+        given(issuedCouponBulkRepository.bulkInsertIssuedCoupons(messages)).willReturn(messages);
+        given(issuedCouponRepository.existsBySerialCodeAndUserIdAndCouponId(redelivered.getSerialCode(), 1L, 1L))
+                .willReturn(true);
+
+        // when
+        couponIssueConsumer.process(messages);
+
+        // then
+        verify(couponIssueQueue).complete(List.of(redelivered), List.of());
+        verifyNoInteractions(couponStockRedisRepository);
+    }
+
+    @Test
+    void 시리얼_코드가_다른_사용자의_발급_내역이면_발급_취소() {
+        // given
+        CouponIssueMessage collided = message("1-0", 1L, 1);
+        List<CouponIssueMessage> messages = List.of(collided);
+
+        given(issuedCouponBulkRepository.bulkInsertIssuedCoupons(messages)).willReturn(messages);
+        given(issuedCouponRepository.existsBySerialCodeAndUserIdAndCouponId(collided.getSerialCode(), 1L, 1L))
+                .willReturn(false);
+
+        // when
+        couponIssueConsumer.process(messages);
+
+        // then
+        verify(couponStockRedisRepository).cancel(1L, 1L);
+        verify(couponIssueQueue).complete(List.of(), List.of(collided));
+    }
+
+    @Test
+    void 이미_발급받은_사용자의_요청은_재고만_복구() {
+        // given
+        CouponIssueMessage duplicated = message("1-0", 1L, 1);
+        List<CouponIssueMessage> messages = List.of(duplicated);
+
+        given(issuedCouponBulkRepository.bulkInsertIssuedCoupons(messages)).willReturn(messages);
+        given(issuedCouponRepository.existsByUserIdAndCouponId(1L, 1L)).willReturn(true);
+
+        // when
+        couponIssueConsumer.process(messages);
+
+        // then
+        verify(couponStockRedisRepository).restoreStock(1L, 1L);
+        verify(couponStockRedisRepository, never()).cancel(any(), any());
+        verify(couponIssueQueue).complete(List.of(), List.of(duplicated));
+    }
+
+    @Test
+    void 재시도_횟수를_넘긴_요청은_재고_복구() {
+        // given
+        CouponIssueMessage exhausted = message("1-0", 1L, 6);
+
+        // when
+        couponIssueConsumer.process(List.of(exhausted));
+
+        // then
+        verify(couponStockRedisRepository).cancel(1L, 1L);
+        verify(couponIssueQueue).complete(List.of(), List.of(exhausted));
+    }
+}
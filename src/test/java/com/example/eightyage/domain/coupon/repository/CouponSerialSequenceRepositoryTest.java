@@ -0,0 +1,70 @@
+package com.example.eightyage.domain.coupon.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponSerialSequenceRepositoryTest {
+
+    private static final String INCREMENT_SQL =
+            "UPDATE coupon_serial_sequence SET next_value = LAST_INSERT_ID(next_value + ?) WHERE name = ?";
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO coupon_serial_sequence (name, next_value) VALUES (?, ?)";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private CouponSerialSequenceRepository couponSerialSequenceRepository;
+
+    @BeforeEach
+    void setUp() {
+        couponSerialSequenceRepository = new CouponSerialSequenceRepository(jdbcTemplate);
+    }
+
+    @Test
+    void 시퀀스_구간_할당_시_구간의_첫_시퀀스_반환() {
+        // given
+        given(jdbcTemplate.update(INCREMENT_SQL, 1000L, "coupon_serial")).willReturn(1);
+        given(jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class)).willReturn(7001L);
+
+        // when
+        long start = couponSerialSequenceRepository.allocate(1000);
+
+        // then
+        assertThat(start).isEqualTo(6001L);
+    }
+
+    @Test
+    void 시퀀스_행이_없으면_만들고_1부터_할당() {
+        // given
+        given(jdbcTemplate.update(INCREMENT_SQL, 1000L, "coupon_serial")).willReturn(0, 1);
+        given(jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Long.class)).willReturn(1001L);
+
+        // when
+        long start = couponSerialSequenceRepository.allocate(1000);
+
+        // then
+        assertThat(start).isEqualTo(1L);
+        verify(jdbcTemplate).update(INSERT_SQL, "coupon_serial", 1L);
+    }
+
+    @Test
+    void 시퀀스_행을_만들지_못하면_예외() {
+        // given
+        given(jdbcTemplate.update(INCREMENT_SQL, 1000L, "coupon_serial")).willReturn(0);
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> couponSerialSequenceRepository.allocate(1000));
+        verify(jdbcTemplate).update(eq(INSERT_SQL), eq("coupon_serial"), eq(1L));
+    }
+}
@@ -0,0 +1,261 @@
+package com.example.eightyage.domain.coupon.repository;
+
+import com.example.eightyage.domain.coupon.couponstate.CouponState;
+import com.example.eightyage.domain.coupon.entity.Coupon;
+import com.example.eightyage.domain.coupon.issueresult.CouponIssueResult;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponStockRedisRepositoryTest {
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    private CouponStockRedisRepository couponStockRedisRepository;
+
+    private final Long couponId = 1L;
+    // 4개 stripe 중 userId 7의 담당 stripe는 3
+    private final Long userId = 7L;
+    private final LocalDateTime endDate = LocalDateTime.of(2025, 5, 1, 0, 0);
+    private Coupon stripedCoupon;
+    private String expireAt;
+
+    @BeforeEach
+    void setUp() {
+        couponStockRedisRepository = new CouponStockRedisRepository(stringRedisTemplate, couponRepository);
+        stripedCoupon = Coupon.of(couponId, "이벤트", "설명", 100, endDate.minusDays(7), endDate, CouponState.VALID, 4, false);
+        expireAt = String.valueOf(endDate.plusDays(1).atZone(ZoneId.systemDefault()).toEpochSecond());
+    }
+
+    private static String stockKey(int stripe) {
+        return "event:stripe:{1:" + stripe + "}:quantity";
+    }
+
+    private static String issuedUsersKey(int stripe) {
+        return "event:stripe:{1:" + stripe + "}:issued";
+    }
+
+    private static String loadedKey(int stripe) {
+        return "event:stripe:{1:" + stripe + "}:loaded";
+    }
+
+    private void givenHomeStripeResult(long result) {
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(stockKey(3), issuedUsersKey(3), loadedKey(3))),
+                eq("7"), eq(expireAt))).willReturn(result);
+    }
+
+    private void givenTakeStock(int stripe, long amount, long taken) {
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(stockKey(stripe))), eq(String.valueOf(amount))))
+                .willReturn(taken);
+    }
+
+    @Test
+    void 담당_stripe_재고에서_차감() {
+        // given
+        givenHomeStripeResult(1L);
+
+        // when
+        CouponIssueResult result = couponStockRedisRepository.issue(stripedCoupon, userId);
+
+        // then
+        assertThat(result).isEqualTo(CouponIssueResult.ISSUED);
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void 담당_stripe가_소진되면_다음_stripe_재고에서_차감() {
+        // given
+        givenHomeStripeResult(0L);
+        givenTakeStock(0, 1, 0L);
+        givenTakeStock(1, 1, 1L);
+
+        // when
+        CouponIssueResult result = couponStockRedisRepository.issue(stripedCoupon, userId);
+
+        // then
+        assertThat(result).isEqualTo(CouponIssueResult.ISSUED);
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), eq(List.of(stockKey(2))), any(Object[].class));
+        verify(stringRedisTemplate, never()).opsForSet();
+    }
+
+    @Test
+    void 모든_stripe가_소진되면_발급_사용자_기록을_지우고_재고_소진() {
+        // given
+        givenHomeStripeResult(0L);
+        givenTakeStock(0, 1, 0L);
+        givenTakeStock(1, 1, 0L);
+        givenTakeStock(2, 1, 0L);
+        given(stringRedisTemplate.opsForSet()).willReturn(setOperations);
+
+        // when
+        CouponIssueResult result = couponStockRedisRepository.issue(stripedCoupon, userId);
+
+        // then
+        assertThat(result).isEqualTo(CouponIssueResult.OUT_OF_STOCK);
+        verify(setOperations).remove(issuedUsersKey(3), "7");
+    }
+
+    @Test
+    void 이미_발급받은_사용자는_다른_stripe_재고를_차감하지_않음() {
+        // given
+        givenHomeStripeResult(-1L);
+
+        // when
+        CouponIssueResult result = couponStockRedisRepository.issue(stripedCoupon, userId);
+
+        // then
+        assertThat(result).isEqualTo(CouponIssueResult.ALREADY_ISSUED);
+        verify(stringRedisTemplate, times(1)).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void stripe_수_정보가_없으면_DB_설정으로_복구해_담당_stripe_재고_복구() {
+        // given
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("event:stripes:1")).willReturn(null);
+        given(couponRepository.findStockStripesById(couponId)).willReturn(Optional.of(4));
+
+        // when
+        couponStockRedisRepository.restoreStock(couponId, userId);
+
+        // then
+        verify(valueOperations).setIfAbsent("event:stripes:1", "4");
+        verify(valueOperations).increment(stockKey(3));
+        verify(valueOperations, never()).increment("event:quantity:1");
+    }
+
+    @Test
+    void stripe_수_정보와_쿠폰이_모두_없으면_예외() {
+        // given
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("event:stripes:1")).willReturn(null);
+        given(couponRepository.findStockStripesById(couponId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> couponStockRedisRepository.restoreStock(couponId, userId));
+        verify(valueOperations, never()).increment(anyString());
+    }
+
+    @Test
+    void 빈_stripe가_있으면_남은_재고를_고르게_재조정() {
+        // given
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("event:stripes:1")).willReturn("4");
+        given(valueOperations.setIfAbsent("event:stripes:rebalancing:1", "1", Duration.ofSeconds(10))).willReturn(true);
+        given(valueOperations.get(stockKey(0))).willReturn("10");
+        given(valueOperations.get(stockKey(1))).willReturn("0");
+        given(valueOperations.get(stockKey(2))).willReturn("2");
+        given(valueOperations.get(stockKey(3))).willReturn("0");
+        // 목표치 12 / 4 = 3을 넘는 stripe 0에서 7개 차감
+        givenTakeStock(0, 7, 7L);
+
+        // when
+        long moved = couponStockRedisRepository.rebalance(couponId);
+
+        // then
+        assertThat(moved).isEqualTo(7);
+        verify(valueOperations).increment(stockKey(1), 3L);
+        verify(valueOperations).increment(stockKey(2), 1L);
+        verify(valueOperations).increment(stockKey(3), 3L);
+        verify(valueOperations, never()).increment(eq(stockKey(0)), anyLong());
+        verify(stringRedisTemplate).delete("event:stripes:rebalancing:1");
+    }
+
+    @Test
+    void 재조정_중_재고가_줄어_덜_차감되면_차감한_만큼만_나눔() {
+        // given
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("event:stripes:1")).willReturn("4");
+        given(valueOperations.setIfAbsent("event:stripes:rebalancing:1", "1", Duration.ofSeconds(10))).willReturn(true);
+        given(valueOperations.get(stockKey(0))).willReturn("10");
+        given(valueOperations.get(stockKey(1))).willReturn("0");
+        given(valueOperations.get(stockKey(2))).willReturn("2");
+        given(valueOperations.get(stockKey(3))).willReturn("0");
+        // 조회 이후 발급으로 stripe 0에 4개만 남음
+        givenTakeStock(0, 7, 4L);
+
+        // when
+        long moved = couponStockRedisRepository.rebalance(couponId);
+
+        // then
+        assertThat(moved).isEqualTo(4);
+        verify(valueOperations).increment(stockKey(1), 3L);
+        verify(valueOperations).increment(stockKey(2), 1L);
+        verify(valueOperations, never()).increment(eq(stockKey(3)), anyLong());
+    }
+
+    @Test
+    void 빈_stripe가_없으면_재조정하지_않음() {
+        // given
+        given(stringRedisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent("event:stripes:rebalancing:1", "1", Duration.ofSeconds(10))).willReturn(true);
+        given(valueOperations.get(anyString())).willAnswer(invocation ->
+                invocation.getArgument(0).equals("event:stripes:1") ? "4" : "5");
+
+        // when
+        long moved = couponStockRedisRepository.rebalance(couponId);
+
+        // then
+        assertThat(moved).isZero();
+        verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+    }
+
+    @Test
+    void 종료된_쿠폰을_지우고_재조정_대상_쿠폰_조회() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 4, 1, 12, 0);
+        long nowEpochSecond = now.atZone(ZoneId.systemDefault()).toEpochSecond();
+        given(stringRedisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.range("event:stripes:active", 0, -1)).willReturn(new LinkedHashSet<>(List.of("1", "3")));
+
+        // when
+        List<Long> couponIds = couponStockRedisRepository.findActiveStripedCouponIds(now);
+
+        // then
+        assertThat(couponIds).containsExactly(1L, 3L);
+        verify(zSetOperations).removeRangeByScore("event:stripes:active", Double.NEGATIVE_INFINITY, nowEpochSecond - 1);
+    }
+
+    @Test
+    void 수량을_stripe_수로_나누고_나머지는_앞쪽_stripe에_배분() {
+        assertThat(CouponStockRedisRepository.splitStock(10, 4)).containsExactly(3, 3, 2, 2);
+        assertThat(CouponStockRedisRepository.splitStock(2, 4)).containsExactly(1, 1, 0, 0);
+    }
+}
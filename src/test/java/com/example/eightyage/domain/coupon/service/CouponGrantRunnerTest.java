@@ -0,0 +1,179 @@
+package com.example.eightyage.domain.coupon.service;
+
+import com.example.eightyage.domain.coupon.entity.CouponGrantJob;
+import com.example.eightyage.domain.coupon.grantstatus.GrantStatus;
+import com.example.eightyage.domain.coupon.repository.CouponGrantBulkRepository;
+import com.example.eightyage.domain.coupon.repository.CouponGrantJobRepository;
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
+import com.example.eightyage.domain.coupon.repository.IssuedCouponBulkRepository;
+import com.example.eightyage.global.util.SerialCodeGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiConsumer;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponGrantRunnerTest {
+
+    @Mock
+    private CouponGrantJobRepository couponGrantJobRepository;
+
+    @Mock
+    private CouponGrantBulkRepository couponGrantBulkRepository;
+
+    @Mock
+    private IssuedCouponBulkRepository issuedCouponBulkRepository;
+
+    @Mock
+    private CouponStockRedisRepository couponStockRedisRepository;
+
+    @Mock
+    private SerialCodeGenerator serialCodeGenerator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CouponGrantRunner couponGrantRunner;
+
+    private final Long couponId = 1L;
+    private final Long jobId = 10L;
+
+    @BeforeEach
+    void setUp() {
+        couponGrantRunner = new CouponGrantRunner(couponGrantJobRepository, couponGrantBulkRepository,
+                issuedCouponBulkRepository, couponStockRedisRepository, serialCodeGenerator, transactionManager);
+    }
+
+    private CouponGrantJob job(long lastUserId, int reservedCount, int grantedCount) {
+        CouponGrantJob job = new CouponGrantJob(couponId);
+        ReflectionTestUtils.setField(job, "id", jobId);
+        job.start(reservedCount, reservedCount);
+        ReflectionTestUtils.setField(job, "lastUserId", lastUserId);
+        ReflectionTestUtils.setField(job, "grantedCount", grantedCount);
+        return job;
+    }
+
+    // 실패한 작업이 아니라 다시 실행 상태로 바꾸지 않고, 완료 처리는 성공
+    private void givenStatusUpdates() {
+        given(couponGrantJobRepository.updateStatus(jobId, GrantStatus.FAILED, GrantStatus.RUNNING)).willReturn(0);
+        given(couponGrantJobRepository.updateStatus(jobId, GrantStatus.RUNNING, GrantStatus.COMPLETED)).willReturn(1);
+    }
+
+    // 대상 사용자 조회 결과 (사용자 id, 지급 가능 여부)
+    private void givenTargets(long afterUserId, Object... targets) {
+        given(couponGrantBulkRepository.findTargetsAfter(eq(jobId), eq(couponId), eq(afterUserId), eq(1000), any()))
+                .willAnswer(invocation -> {
+                    BiConsumer<Long, Boolean> consumer = invocation.getArgument(4);
+                    for (int i = 0; i < targets.length; i += 2) {
+                        consumer.accept((Long) targets[i], (Boolean) targets[i + 1]);
+                    }
+                    return targets.length / 2;
+                });
+    }
+
+    @Test
+    void 지급_가능한_대상만_지급하고_완료되면_남은_재고_반환() {
+        // given
+        given(couponGrantJobRepository.findById(jobId)).willReturn(Optional.of(job(0, 3, 0)), Optional.of(job(3, 3, 2)));
+        givenTargets(0, 1L, true, 2L, false, 3L, true);
+        given(serialCodeGenerator.generate(2)).willReturn(List.of("AAAAAAAAAA", "BBBBBBBBBB"));
+        given(couponGrantJobRepository.updateProgress(jobId, 0, 3, 3, 2)).willReturn(1);
+        givenStatusUpdates();
+
+        // when
+        couponGrantRunner.run(jobId);
+
+        // then
+        verify(issuedCouponBulkRepository).bulkInsertGrantedCoupons(couponId, List.of(1L, 3L), List.of("AAAAAAAAAA", "BBBBBBBBBB"));
+        verify(couponStockRedisRepository).addIssuedUsers(couponId, List.of(1L, 3L));
+        verify(couponStockRedisRepository).setGrantPending(couponId, jobId, 1);
+        verify(couponStockRedisRepository).clearGrantPending(couponId, jobId);
+        verify(couponStockRedisRepository).releaseStock(couponId, 1);
+    }
+
+    @Test
+    void 중단된_작업은_마지막으로_처리한_사용자_다음부터_재개() {
+        // given
+        given(couponGrantJobRepository.findById(jobId)).willReturn(Optional.of(job(1000, 1001, 1000)), Optional.of(job(1001, 1001, 1001)));
+        givenTargets(1000, 1001L, true);
+        given(serialCodeGenerator.generate(1)).willReturn(List.of("AAAAAAAAAA"));
+        given(couponGrantJobRepository.updateProgress(jobId, 1000, 1001, 1, 1)).willReturn(1);
+        givenStatusUpdates();
+
+        // when
+        couponGrantRunner.run(jobId);
+
+        // then
+        verify(couponGrantJobRepository).updateStatus(jobId, GrantStatus.FAILED, GrantStatus.RUNNING);
+        verify(couponGrantBulkRepository, never()).findTargetsAfter(eq(jobId), eq(couponId), eq(0L), anyInt(), any());
+        verify(issuedCouponBulkRepository).bulkInsertGrantedCoupons(couponId, List.of(1001L), List.of("AAAAAAAAAA"));
+        verify(couponStockRedisRepository, never()).releaseStock(anyLong(), intThat(amount -> amount > 0));
+    }
+
+    @Test
+    void 다른_실행이_먼저_진행한_작업은_기록하지_않고_중단() {
+        // given
+        given(couponGrantJobRepository.findById(jobId)).willReturn(Optional.of(job(0, 1, 0)));
+        givenTargets(0, 1L, true);
+        given(serialCodeGenerator.generate(1)).willReturn(List.of("AAAAAAAAAA"));
+        given(couponGrantJobRepository.updateProgress(jobId, 0, 1, 1, 1)).willReturn(0);
+
+        // when
+        couponGrantRunner.run(jobId);
+
+        // then
+        verify(transactionManager, atLeastOnce()).rollback(any());
+        verify(couponStockRedisRepository, never()).addIssuedUsers(anyLong(), anyList());
+        verify(couponGrantJobRepository, never()).updateStatus(jobId, GrantStatus.RUNNING, GrantStatus.COMPLETED);
+        verify(couponGrantJobRepository, never()).updateStatus(jobId, GrantStatus.RUNNING, GrantStatus.FAILED);
+    }
+
+    @Test
+    void 유니크_키_위반_시_같은_묶음을_다시_지급() {
+        // given
+        given(couponGrantJobRepository.findById(jobId)).willReturn(Optional.of(job(0, 1, 0)));
+        givenTargets(0, 1L, true);
+        given(serialCodeGenerator.generate(1)).willReturn(List.of("AAAAAAAAAA"));
+        doThrow(new DataIntegrityViolationException("중복 발급")).doNothing()
+                .when(issuedCouponBulkRepository).bulkInsertGrantedCoupons(couponId, List.of(1L), List.of("AAAAAAAAAA"));
+        given(couponGrantJobRepository.updateProgress(jobId, 0, 1, 1, 1)).willReturn(1);
+        givenStatusUpdates();
+
+        // when
+        couponGrantRunner.run(jobId);
+
+        // then
+        verify(issuedCouponBulkRepository, times(2)).bulkInsertGrantedCoupons(couponId, List.of(1L), List.of("AAAAAAAAAA"));
+        verify(couponGrantJobRepository, never()).updateStatus(jobId, GrantStatus.RUNNING, GrantStatus.FAILED);
+    }
+
+    @Test
+    void 재시도_횟수를_넘으면_작업_실패() {
+        // given
+        given(couponGrantJobRepository.findById(jobId)).willReturn(Optional.of(job(0, 1, 0)));
+        givenTargets(0, 1L, true);
+        given(serialCodeGenerator.generate(1)).willReturn(List.of("AAAAAAAAAA"));
+        doThrow(new DataIntegrityViolationException("중복 발급"))
+                .when(issuedCouponBulkRepository).bulkInsertGrantedCoupons(couponId, List.of(1L), List.of("AAAAAAAAAA"));
+
+        // when
+        couponGrantRunner.run(jobId);
+
+        // then
+        verify(issuedCouponBulkRepository, times(4)).bulkInsertGrantedCoupons(couponId, List.of(1L), List.of("AAAAAAAAAA"));
+        verify(couponGrantJobRepository).updateStatus(jobId, GrantStatus.RUNNING, GrantStatus.FAILED);
+        verify(couponStockRedisRepository, never()).clearGrantPending(anyLong(), anyLong());
+    }
+}
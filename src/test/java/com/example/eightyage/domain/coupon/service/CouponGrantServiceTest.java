@@ -0,0 +1,155 @@
+package com.example.eightyage.domain.coupon.service;
+
+import com.example.eightyage.domain.coupon.couponstate.CouponState;
+import com.example.eightyage.domain.coupon.dto.request.CouponGrantRequestDto;
+import com.example.eightyage.domain.coupon.dto.response.CouponGrantJobResponseDto;
+import com.example.eightyage.domain.coupon.entity.Coupon;
+import com.example.eightyage.domain.coupon.entity.CouponGrantJob;
+import com.example.eightyage.domain.coupon.grantstatus.GrantStatus;
+import com.example.eightyage.domain.coupon.repository.CouponGrantBulkRepository;
+import com.example.eightyage.domain.coupon.repository.CouponGrantJobRepository;
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
+import com.example.eightyage.global.exception.BadRequestException;
+import com.example.eightyage.global.exception.ErrorMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponGrantServiceTest {
+
+    @Mock
+    CouponService couponService;
+
+    @Mock
+    CouponGrantJobRepository couponGrantJobRepository;
+
+    @Mock
+    CouponGrantBulkRepository couponGrantBulkRepository;
+
+    @Mock
+    CouponStockRedisRepository couponStockRedisRepository;
+
+    @Mock
+    CouponGrantRunner couponGrantRunner;
+
+    @InjectMocks
+    CouponGrantService couponGrantService;
+
+    private final Long couponId = 1L;
+    private final Long jobId = 10L;
+    private Coupon coupon;
+
+    @BeforeEach
+    void setUp() {
+        coupon = Coupon.of(couponId, "이벤트", "설명", 100,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), CouponState.VALID, 1, false);
+    }
+
+    private void givenSavedJob() {
+        given(couponService.findByIdOrElseThrow(couponId)).willReturn(coupon);
+        given(couponGrantJobRepository.save(any(CouponGrantJob.class))).willAnswer(invocation -> {
+            CouponGrantJob job = invocation.getArgument(0);
+            ReflectionTestUtils.setField(job, "id", jobId);
+            return job;
+        });
+    }
+
+    @Test
+    void 일괄_지급_시_대상_수만큼_재고를_한_번에_차감하고_작업_시작() {
+        // given
+        givenSavedJob();
+        given(couponGrantBulkRepository.countTargets(jobId)).willReturn(3);
+        given(couponStockRedisRepository.reserveStock(couponId, 3)).willReturn(3);
+
+        // when
+        CouponGrantJobResponseDto result = couponGrantService.grant(couponId, new CouponGrantRequestDto(List.of(1L, 2L, 3L)));
+
+        // then
+        assertEquals(GrantStatus.RUNNING, result.getStatus());
+        assertEquals(3, result.getTotalCount());
+        assertEquals(3, result.getReservedCount());
+        verify(couponGrantBulkRepository).bulkInsertTargets(jobId, List.of(1L, 2L, 3L));
+        verify(couponStockRedisRepository).setGrantPending(couponId, jobId, 3);
+        verify(couponGrantRunner).submit(jobId);
+    }
+
+    @Test
+    void 대상_사용자_저장에_실패하면_작업_삭제_후_실패() {
+        // given
+        givenSavedJob();
+        doThrow(new DataAccessResourceFailureException("DB 연결 실패"))
+                .when(couponGrantBulkRepository).bulkInsertTargets(jobId, List.of(1L, 2L, 3L));
+
+        // when & then
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> couponGrantService.grant(couponId, new CouponGrantRequestDto(List.of(1L, 2L, 3L))));
+        verify(couponGrantBulkRepository).deleteTargets(jobId);
+        verify(couponGrantJobRepository).delete(any(CouponGrantJob.class));
+        verify(couponStockRedisRepository, never()).reserveStock(anyLong(), anyInt());
+    }
+
+    @Test
+    void CSV_일괄_지급_시_헤더는_건너뛰고_첫_열을_사용자_id로_저장() {
+        // given
+        givenSavedJob();
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv",
+                "user_id,nickname\n1,가\n\n2,나\n".getBytes(StandardCharsets.UTF_8));
+        given(couponGrantBulkRepository.countTargets(jobId)).willReturn(2);
+        given(couponStockRedisRepository.reserveStock(couponId, 2)).willReturn(2);
+
+        // when
+        couponGrantService.grantFromCsv(couponId, file);
+
+        // then
+        verify(couponGrantBulkRepository).bulkInsertTargets(jobId, List.of(1L, 2L));
+        verify(couponGrantRunner).submit(jobId);
+    }
+
+    @Test
+    void CSV에_사용자_id가_아닌_줄이_있으면_작업_삭제_후_실패() {
+        // given
+        givenSavedJob();
+        MockMultipartFile file = new MockMultipartFile("file", "users.csv", "text/csv",
+                "1\nabc\n".getBytes(StandardCharsets.UTF_8));
+
+        // when & then
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> couponGrantService.grantFromCsv(couponId, file));
+        assertEquals(ErrorMessage.INVALID_COUPON_GRANT_CSV.getMessage(), exception.getMessage());
+        verify(couponGrantBulkRepository).deleteTargets(jobId);
+        verify(couponGrantJobRepository).delete(any(CouponGrantJob.class));
+        verify(couponStockRedisRepository, never()).reserveStock(anyLong(), anyInt());
+    }
+
+    @Test
+    void 완료된_작업은_재개_실패() {
+        // given
+        CouponGrantJob job = new CouponGrantJob(couponId);
+        ReflectionTestUtils.setField(job, "status", GrantStatus.COMPLETED);
+        given(couponGrantJobRepository.findById(jobId)).willReturn(Optional.of(job));
+
+        // when & then
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> couponGrantService.resume(jobId));
+        assertEquals(ErrorMessage.COUPON_GRANT_JOB_NOT_RESUMABLE.getMessage(), exception.getMessage());
+        verify(couponGrantRunner, never()).submit(any());
+    }
+}
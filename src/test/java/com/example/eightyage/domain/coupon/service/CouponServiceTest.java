@@ -0,0 +1,87 @@
+package com.example.eightyage.domain.coupon.service;
+
+import com.example.eightyage.domain.coupon.couponstate.CouponState;
+import com.example.eightyage.domain.coupon.dto.response.CouponCacheDto;
+import com.example.eightyage.domain.coupon.dto.response.CouponResponseDto;
+import com.example.eightyage.domain.coupon.entity.Coupon;
+import com.example.eightyage.domain.coupon.repository.CouponRepository;
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
+import com.example.eightyage.global.cache.LayeredCache;
+import com.example.eightyage.global.exception.BadRequestException;
+import com.example.eightyage.global.exception.ErrorMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponServiceTest {
+
+    @Mock
+    CouponRepository couponRepository;
+
+    @Mock
+    CouponStockRedisRepository couponStockRedisRepository;
+
+    @Mock
+    LayeredCache couponCache;
+
+    @InjectMocks
+    CouponService couponService;
+
+    @Test
+    void 쿠폰_조회_시_상태_저장_없음() {
+        // given
+        Coupon coupon = new Coupon("이벤트", "설명", 100,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+        given(couponRepository.findById(1L)).willReturn(Optional.of(coupon));
+
+        // when
+        CouponResponseDto result = couponService.getCoupon(1L);
+
+        // then
+        assertEquals("이벤트", result.getName());
+        verify(couponRepository, never()).save(any());
+    }
+
+    @Test
+    void 기간이_지난_쿠폰은_발급_가능_조회_실패() {
+        // given
+        Coupon coupon = new Coupon("이벤트", "설명", 100,
+                LocalDateTime.now().minusDays(2), LocalDateTime.now().minusDays(1));
+        given(couponRepository.findById(1L)).willReturn(Optional.of(coupon));
+        given(couponCache.get(eq("1"), any(Callable.class)))
+                .willAnswer(invocation -> invocation.<Callable<?>>getArgument(1).call());
+
+        // when & then
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> couponService.getValidCouponOrThrow(1L));
+        assertEquals(ErrorMessage.INVALID_EVENT_PERIOD.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    void 캐시된_쿠폰으로_발급_가능_조회_시_DB_조회_없음() {
+        // given
+        CouponCacheDto cached = new CouponCacheDto(1L, "이벤트", "설명", 100,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), CouponState.VALID, 1, false);
+        given(couponCache.get(eq("1"), any(Callable.class))).willReturn(cached);
+
+        // when
+        Coupon result = couponService.getValidCouponOrThrow(1L);
+
+        // then
+        assertEquals(1L, result.getId());
+        verify(couponRepository, never()).findById(any());
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.eightyage.domain.coupon.service;
+
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CouponStockRebalancerTest {
+
+    @Mock
+    private CouponStockRedisRepository couponStockRedisRepository;
+
+    @InjectMocks
+    private CouponStockRebalancer couponStockRebalancer;
+
+    @Test
+    void Redis_재조정_대상_쿠폰만_재조정() {
+        // given
+        given(couponStockRedisRepository.findActiveStripedCouponIds(any())).willReturn(List.of(1L, 3L));
+
+        // when
+        couponStockRebalancer.rebalance();
+
+        // then
+        verify(couponStockRedisRepository).rebalance(1L);
+        verify(couponStockRedisRepository).rebalance(3L);
+        verifyNoMoreInteractions(couponStockRedisRepository);
+    }
+
+    @Test
+    void 재조정_대상이_없으면_아무것도_하지_않음() {
+        // given
+        given(couponStockRedisRepository.findActiveStripedCouponIds(any())).willReturn(List.of());
+
+        // when
+        couponStockRebalancer.rebalance();
+
+        // then
+        verify(couponStockRedisRepository, never()).rebalance(any());
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.eightyage.domain.coupon.service;
+
+import com.example.eightyage.domain.coupon.dto.CouponIssuedCountDto;
+import com.example.eightyage.domain.coupon.dto.CouponStockDriftDto;
+import com.example.eightyage.domain.coupon.grantstatus.GrantStatus;
+import com.example.eightyage.domain.coupon.repository.CouponGrantJobRepository;
+import com.example.eightyage.domain.coupon.repository.CouponRepository;
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponStockReconcilerTest {
+
+    @Mock
+    private CouponRepository couponRepository;
+
+    @Mock
+    private CouponStockRedisRepository couponStockRedisRepository;
+
+    @Mock
+    private CouponGrantJobRepository couponGrantJobRepository;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CouponStockReconciler couponStockReconciler;
+
+    private final CouponIssuedCountDto coupon = new CouponIssuedCountDto(1L, 100, 1, LocalDateTime.now().plusDays(1), 30L);
+    private final CouponIssuedCountDto stripedCoupon = new CouponIssuedCountDto(2L, 100, 4, LocalDateTime.now().plusDays(1), 10L);
+
+    @BeforeEach
+    void setUp() {
+        couponStockReconciler = new CouponStockReconciler(couponRepository, couponStockRedisRepository, couponGrantJobRepository, meterRegistry);
+    }
+
+    @Test
+    void 처음_보인_재고_차이는_다시_쓰지_않고_차이만_기록() {
+        // given
+        given(couponRepository.findIssuedCountsNotEnded(any())).willReturn(List.of(coupon, stripedCoupon));
+        given(couponStockRedisRepository.reconcile(List.of(coupon), Set.of())).willReturn(List.of(new CouponStockDriftDto(-3L, false)));
+        given(couponStockRedisRepository.reconcileStriped(stripedCoupon)).willReturn(new CouponStockDriftDto(2L, false));
+
+        // when
+        couponStockReconciler.reconcile();
+
+        // then
+        assertThat(meterRegistry.get("coupon.stock.drift").gauge().value()).isEqualTo(5);
+        assertThat(meterRegistry.get("coupon.stock.repaired").counter().count()).isZero();
+    }
+
+    @Test
+    void 두_번_연속_보인_재고_차이는_다시_씀() {
+        // given
+        given(couponRepository.findIssuedCountsNotEnded(any())).willReturn(List.of(coupon));
+        given(couponStockRedisRepository.reconcile(List.of(coupon), Set.of())).willReturn(List.of(new CouponStockDriftDto(-3L, false)));
+        given(couponStockRedisRepository.reconcile(List.of(coupon), Set.of(1L))).willReturn(List.of(new CouponStockDriftDto(-3L, true)));
+
+        // when
+        couponStockReconciler.reconcile();
+        couponStockReconciler.reconcile();
+
+        // then
+        verify(couponStockRedisRepository).reconcile(eq(List.of(coupon)), eq(Set.of(1L)));
+        assertThat(meterRegistry.get("coupon.stock.repaired").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 재고가_맞으면_차이_0() {
+        // given
+        given(couponRepository.findIssuedCountsNotEnded(any())).willReturn(List.of(coupon));
+        given(couponStockRedisRepository.reconcile(List.of(coupon), Set.of())).willReturn(List.of(new CouponStockDriftDto(0L, false)));
+
+        // when
+        couponStockReconciler.reconcile();
+
+        // then
+        assertThat(meterRegistry.get("coupon.stock.drift").gauge().value()).isZero();
+    }
+
+    @Test
+    void 재고_키가_없어_바로_다시_쓴_재고도_보정_수에_포함() {
+        // given
+        given(couponRepository.findIssuedCountsNotEnded(any())).willReturn(List.of(coupon));
+        given(couponStockRedisRepository.reconcile(List.of(coupon), Set.of())).willReturn(List.of(new CouponStockDriftDto(-70L, true)));
+
+        // when
+        couponStockReconciler.reconcile();
+
+        // then
+        assertThat(meterRegistry.get("coupon.stock.repaired").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 분할_재고를_다시_나눠_쓰면_보정_수에_포함() {
+        // given
+        given(couponRepository.findIssuedCountsNotEnded(any())).willReturn(List.of(stripedCoupon));
+        given(couponStockRedisRepository.reconcile(List.of(), Set.of())).willReturn(List.of());
+        given(couponStockRedisRepository.reconcileStriped(stripedCoupon)).willReturn(new CouponStockDriftDto(-90L, true));
+
+        // when
+        couponStockReconciler.reconcile();
+
+        // then
+        assertThat(meterRegistry.get("coupon.stock.drift").gauge().value()).isEqualTo(90);
+        assertThat(meterRegistry.get("coupon.stock.repaired").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 일괄_지급_중인_쿠폰은_재고_차이가_계속_보여도_다시_쓰지_않음() {
+        // given
+        given(couponRepository.findIssuedCountsNotEnded(any())).willReturn(List.of(coupon));
+        given(couponGrantJobRepository.findCouponIdsByStatus(GrantStatus.RUNNING)).willReturn(List.of(1L));
+        given(couponStockRedisRepository.reconcile(List.of(coupon), Set.of())).willReturn(List.of(new CouponStockDriftDto(1000L, false)));
+
+        // when
+        couponStockReconciler.reconcile();
+        couponStockReconciler.reconcile();
+
+        // then
+        verify(couponStockRedisRepository, times(2)).reconcile(eq(List.of(coupon)), eq(Set.of()));
+        assertThat(meterRegistry.get("coupon.stock.repaired").counter().count()).isZero();
+    }
+}
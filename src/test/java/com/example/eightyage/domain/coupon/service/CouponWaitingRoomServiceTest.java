@@ -0,0 +1,155 @@
+package com.example.eightyage.domain.coupon.service;
+
+import com.example.eightyage.domain.coupon.dto.response.CouponWaitingResponseDto;
+import com.example.eightyage.domain.coupon.entity.Coupon;
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
+import com.example.eightyage.domain.coupon.repository.CouponWaitingRoomRedisRepository;
+import com.example.eightyage.domain.coupon.repository.IssuedCouponRepository;
+import com.example.eightyage.domain.coupon.waitingstatus.WaitingStatus;
+import com.example.eightyage.domain.user.userrole.UserRole;
+import com.example.eightyage.global.dto.AuthUser;
+import com.example.eightyage.global.exception.BadRequestException;
+import com.example.eightyage.global.exception.ErrorMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class CouponWaitingRoomServiceTest {
+
+    @Mock
+    CouponService couponService;
+
+    @Mock
+    CouponWaitingRoomRedisRepository couponWaitingRoomRedisRepository;
+
+    @Mock
+    CouponStockRedisRepository couponStockRedisRepository;
+
+    @Mock
+    IssuedCouponRepository issuedCouponRepository;
+
+    @InjectMocks
+    CouponWaitingRoomService couponWaitingRoomService;
+
+    private AuthUser authUser;
+    private Coupon waitingRoomCoupon;
+    private final Long couponId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        authUser = AuthUser.builder()
+                .userId(1L)
+                .email("user@email.com")
+                .nickname("닉네임")
+                .role(UserRole.ROLE_USER)
+                .build();
+
+        waitingRoomCoupon = new Coupon("이벤트", "설명", 100,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), 1, true);
+    }
+
+    @Test
+    void 대기열_등록_시_대기_순번_반환() {
+        // given
+        given(couponService.getValidCouponOrThrow(couponId)).willReturn(waitingRoomCoupon);
+        given(couponStockRedisRepository.isIssued(waitingRoomCoupon, 1L)).willReturn(false);
+        given(couponWaitingRoomRedisRepository.isAdmitted(eq(couponId), eq(1L), any())).willReturn(false);
+        given(couponWaitingRoomRedisRepository.findRank(couponId, 1L)).willReturn(41L);
+
+        // when
+        CouponWaitingResponseDto result = couponWaitingRoomService.enter(authUser, couponId);
+
+        // then
+        assertEquals(WaitingStatus.WAITING, result.getStatus());
+        assertEquals(42L, result.getPosition());
+        verify(couponWaitingRoomRedisRepository).enter(eq(couponId), eq(1L), any(), any());
+    }
+
+    @Test
+    void 이미_발급받은_사용자는_대기열_등록_실패() {
+        // given
+        given(couponService.getValidCouponOrThrow(couponId)).willReturn(waitingRoomCoupon);
+        given(couponStockRedisRepository.isIssued(waitingRoomCoupon, 1L)).willReturn(true);
+
+        // when & then
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> couponWaitingRoomService.enter(authUser, couponId));
+        assertEquals(ErrorMessage.COUPON_ALREADY_ISSUED.getMessage(), exception.getMessage());
+        verify(couponWaitingRoomRedisRepository, never()).enter(any(), any(), any(), any());
+    }
+
+    @Test
+    void 발급_사용자_미적재_시_DB로_발급_여부_확인() {
+        // given
+        given(couponService.getValidCouponOrThrow(couponId)).willReturn(waitingRoomCoupon);
+        given(couponStockRedisRepository.isIssued(waitingRoomCoupon, 1L)).willReturn(null);
+        given(issuedCouponRepository.existsByUserIdAndCouponId(1L, waitingRoomCoupon.getId())).willReturn(true);
+
+        // when & then
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> couponWaitingRoomService.enter(authUser, couponId));
+        assertEquals(ErrorMessage.COUPON_ALREADY_ISSUED.getMessage(), exception.getMessage());
+        verify(couponWaitingRoomRedisRepository, never()).enter(any(), any(), any(), any());
+    }
+
+    @Test
+    void 발급하지_못한_사용자는_발급_수_없이_입장_해제() {
+        // when
+        couponWaitingRoomService.release(waitingRoomCoupon, 1L);
+
+        // then
+        verify(couponWaitingRoomRedisRepository).release(waitingRoomCoupon.getId(), 1L);
+        verify(couponWaitingRoomRedisRepository, never()).complete(any(), any());
+    }
+
+    @Test
+    void 대기열을_사용하지_않는_쿠폰은_대기열_등록_실패() {
+        // given
+        Coupon coupon = new Coupon("이벤트", "설명", 100,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+        given(couponService.getValidCouponOrThrow(couponId)).willReturn(coupon);
+
+        // when & then
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> couponWaitingRoomService.enter(authUser, couponId));
+        assertEquals(ErrorMessage.COUPON_WAITING_ROOM_DISABLED.getMessage(), exception.getMessage());
+        verify(couponWaitingRoomRedisRepository, never()).enter(any(), any(), any(), any());
+    }
+
+    @Test
+    void 입장한_사용자는_입장_상태_반환() {
+        // given
+        given(couponWaitingRoomRedisRepository.isAdmitted(eq(couponId), eq(1L), any())).willReturn(true);
+
+        // when
+        CouponWaitingResponseDto result = couponWaitingRoomService.getStatus(authUser, couponId);
+
+        // then
+        assertEquals(WaitingStatus.ADMITTED, result.getStatus());
+        assertNull(result.getPosition());
+    }
+
+    @Test
+    void 입장하지_않은_사용자는_대기열_쿠폰_발급_불가() {
+        // given
+        given(couponWaitingRoomRedisRepository.isAdmitted(any(), eq(1L), any())).willReturn(false);
+
+        // when & then
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> couponWaitingRoomService.validateAdmitted(waitingRoomCoupon, 1L));
+        assertEquals(ErrorMessage.COUPON_NOT_ADMITTED.getMessage(), exception.getMessage());
+    }
+}
@@ -0,0 +1,324 @@
+package com.example.eightyage.domain.coupon.service;
+
+import com.example.eightyage.domain.coupon.dto.response.CouponIssueTicketResponseDto;
+import com.example.eightyage.domain.coupon.dto.response.IssuedCouponResponseDto;
+import com.example.eightyage.domain.coupon.entity.Coupon;
+import com.example.eightyage.domain.coupon.entity.IssuedCoupon;
+import com.example.eightyage.domain.coupon.issueresult.CouponIssueResult;
+import com.example.eightyage.domain.coupon.queue.CouponIssueMessage;
+import com.example.eightyage.domain.coupon.queue.CouponIssueQueue;
+import com.example.eightyage.domain.coupon.repository.CouponStockRedisRepository;
+import com.example.eightyage.domain.coupon.repository.IssuedCouponRepository;
+import com.example.eightyage.domain.coupon.status.Status;
+import com.example.eightyage.domain.coupon.ticketstatus.TicketStatus;
+import com.example.eightyage.domain.user.userrole.UserRole;
+import com.example.eightyage.global.dto.AuthUser;
+import com.example.eightyage.global.dto.CursorResponse;
+import com.example.eightyage.global.exception.BadRequestException;
+import com.example.eightyage.global.exception.ErrorMessage;
+import com.example.eightyage.global.exception.ForbiddenException;
+import com.example.eightyage.global.util.CursorCodec;
+import com.example.eightyage.global.util.SerialCodeGenerator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IssuedCouponServiceTest {
+
+    @Mock
+    IssuedCouponRepository issuedCouponRepository;
+
+    @Mock
+    CouponService couponService;
+
+    @Mock
+    CouponStockRedisRepository couponStockRedisRepository;
+
+    @Mock
+    CouponIssueQueue couponIssueQueue;
+
+    @Mock
+    IssuedCouponUserLoader issuedCouponUserLoader;
+
+    @Mock
+    CouponWaitingRoomService couponWaitingRoomService;
+
+    @Mock
+    SerialCodeGenerator serialCodeGenerator;
+
+    @InjectMocks
+    IssuedCouponService issuedCouponService;
+
+    private AuthUser authUser;
+    private Coupon coupon;
+    private final Long couponId = 1L;
+
+    @BeforeEach
+    void setUp() {
+        authUser = AuthUser.builder()
+                .userId(1L)
+                .email("user@email.com")
+                .nickname("닉네임")
+                .role(UserRole.ROLE_USER)
+                .build();
+
+        coupon = new Coupon("이벤트", "설명", 100,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1));
+
+    }
+
+    @Test
+    void 쿠폰_발급_성공() {
+        // given
+        given(couponService.getValidCouponOrThrow(couponId)).willReturn(coupon);
+        given(couponStockRedisRepository.issue(coupon, authUser.getUserId()))
+                .willReturn(CouponIssueResult.ISSUED);
+
+        // when
+        IssuedCouponResponseDto result = issuedCouponService.issueCoupon(authUser, couponId);
+
+        // then
+        assertEquals("닉네임", result.getUsername());
+        assertEquals("이벤트", result.getEventname());
+        verify(issuedCouponRepository).save(any(IssuedCoupon.class));
+        verify(couponWaitingRoomService).complete(coupon, authUser.getUserId());
+        verify(couponWaitingRoomService, never()).release(any(), any());
+    }
+
+    @Test
+    void 대기열에_입장하지_않은_사용자는_쿠폰_발급_실패() {
+        // given
+        given(couponService.getValidCouponOrThrow(couponId)).willReturn(coupon);
+        doThrow(new BadRequestException(ErrorMessage.COUPON_NOT_ADMITTED.getMessage()))
+                .when(couponWaitingRoomService).validateAdmitted(coupon, authUser.getUserId());
+
+        // when & then
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> issuedCouponService.issueCoupon(authUser, couponId));
+        assertEquals(ErrorMessage.COUPON_NOT_ADMITTED.getMessage(), exception.getMessage());
+        verifyNoInteractions(couponStockRedisRepository);
+        verify(couponWaitingRoomService, never()).release(any(), any());
+    }
+
+    @Test
+    void 이미_발급받은_사용자는_쿠폰_발급_실패() {
+        // given
+        given(couponService.getValidCouponOrThrow(couponId)).willReturn(coupon);
+        given(couponStockRedisRepository.issue(coupon, authUser.getUserId()))
+                .willReturn(CouponIssueResult.ALREADY_ISSUED);
+
+        // when & then
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> issuedCouponService.issueCoupon(authUser, couponId));
+        assertEquals(ErrorMessage.COUPON_ALREADY_ISSUED.getMessage(), exception.getMessage());
+        verify(issuedCouponRepository, never()).save(any());
+    }
+
+    @Test
+    void 재고가_없으면_쿠폰_발급_실패() {
+        // given
+        given(couponService.getValidCouponOrThrow(couponId)).willReturn(coupon);
+        given(couponStockRedisRepository.issue(coupon, authUser.getUserId()))
+                .willReturn(CouponIssueResult.OUT_OF_STOCK);
+
+        // when & then
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> issuedCouponService.issueCoupon(authUser, couponId));
+        assertEquals(ErrorMessage.COUPON_OUT_OF_STOCK.getMessage(), exception.getMessage());
+        verify(issuedCouponRepository, never()).save(any());
+        verify(couponWaitingRoomService).release(coupon, authUser.getUserId());
+        verify(couponWaitingRoomService, never()).complete(any(), any());
+    }
+
+    @Test
+    void 발급_저장_실패_시_재고_복구() {
+        // given
+        given(couponService.getValidCouponOrThrow(couponId)).willReturn(coupon);
+        given(couponStockRedisRepository.issue(coupon, authUser.getUserId()))
+                .willReturn(CouponIssueResult.ISSUED);
+        given(issuedCouponRepository.save(any(IssuedCoupon.class)))
+                .willThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when & then
+        assertThrows(DataIntegrityViolationException.class,
+                () -> issuedCouponService.issueCoupon(authUser, couponId));
+        verify(couponStockRedisRepository).cancel(couponId, authUser.getUserId());
+        verify(couponWaitingRoomService).release(coupon, authUser.getUserId());
+    }
+
+    @Test
+    void 유니크_키_위반_시_재고만_복구하고_쿠폰_발급_실패() {
+        // given
+        given(couponService.getValidCouponOrThrow(couponId)).willReturn(coupon);
+        given(couponStockRedisRepository.issue(coupon, authUser.getUserId()))
+                .willReturn(CouponIssueResult.ISSUED);
+        given(issuedCouponRepository.save(any(IssuedCoupon.class)))
+                .willThrow(new DataIntegrityViolationException("uk_user_coupon"));
+        given(issuedCouponRepository.existsByUserIdAndCouponId(authUser.getUserId(), couponId)).willReturn(true);
+
+        // when & then
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> issuedCouponService.issueCoupon(authUser, couponId));
+        assertEquals(ErrorMessage.COUPON_ALREADY_ISSUED.getMessage(), exception.getMessage());
+        verify(couponStockRedisRepository).restoreStock(couponId, authUser.getUserId());
+        verify(couponStockRedisRepository, never()).cancel(any(), any());
+    }
+
+    @Test
+    void 발급_사용자_미적재_시_적재_후_쿠폰_발급_성공() {
+        // given
+        given(couponService.getValidCouponOrThrow(couponId)).willReturn(coupon);
+        given(couponStockRedisRepository.issue(coupon, authUser.getUserId()))
+                .willReturn(CouponIssueResult.ISSUED_USERS_NOT_LOADED, CouponIssueResult.ISSUED);
+
+        // when
+        issuedCouponService.issueCoupon(authUser, couponId);
+
+        // then
+        verify(issuedCouponUserLoader).load(couponId, coupon.getEndDate());
+        verify(issuedCouponRepository).save(any(IssuedCoupon.class));
+    }
+
+    @Test
+    void 발급_사용자_적재가_끝나지_않으면_적재_중_안내() {
+        // given
+        given(couponService.getValidCouponOrThrow(couponId)).willReturn(coupon);
+        given(couponStockRedisRepository.issue(coupon, authUser.getUserId()))
+                .willReturn(CouponIssueResult.ISSUED_USERS_NOT_LOADED);
+
+        // when & then
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> issuedCouponService.issueCoupon(authUser, couponId));
+        assertEquals(ErrorMessage.COUPON_ISSUED_USERS_LOADING.getMessage(), exception.getMessage());
+        verify(issuedCouponRepository, never()).save(any());
+    }
+
+    @Test
+    void 비동기_쿠폰_발급_요청_성공() {
+        // given
+        given(couponService.getValidCouponOrThrow(couponId)).willReturn(coupon);
+        given(couponIssueQueue.enqueue(any(CouponIssueMessage.class), eq(coupon.getEndDate())))
+                .willReturn(CouponIssueResult.ISSUED);
+
+        // when
+        CouponIssueTicketResponseDto result = issuedCouponService.issueCouponAsync(authUser, couponId);
+
+        // then
+        assertNotNull(result.getTicketId());
+        assertEquals(TicketStatus.PENDING, result.getStatus());
+        verify(issuedCouponRepository, never()).save(any());
+    }
+
+    @Test
+    void 분할_재고_쿠폰은_재고_예약_후_발급_요청_추가() {
+        // given
+        Coupon stripedCoupon = new Coupon("이벤트", "설명", 100,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), 8, false);
+        given(couponService.getValidCouponOrThrow(couponId)).willReturn(stripedCoupon);
+        given(couponStockRedisRepository.issue(stripedCoupon, authUser.getUserId()))
+                .willReturn(CouponIssueResult.ISSUED);
+
+        // when
+        CouponIssueTicketResponseDto result = issuedCouponService.issueCouponAsync(authUser, couponId);
+
+        // then
+        assertEquals(TicketStatus.PENDING, result.getStatus());
+        verify(couponIssueQueue).publish(any(CouponIssueMessage.class));
+        verify(couponIssueQueue, never()).enqueue(any(), any());
+    }
+
+    @Test
+    void 분할_재고_쿠폰_발급_요청_추가_실패_시_재고_복구() {
+        // given
+        Coupon stripedCoupon = new Coupon("이벤트", "설명", 100,
+                LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(1), 8, false);
+        given(couponService.getValidCouponOrThrow(couponId)).willReturn(stripedCoupon);
+        given(couponStockRedisRepository.issue(stripedCoupon, authUser.getUserId()))
+                .willReturn(CouponIssueResult.ISSUED);
+        doThrow(new IllegalStateException("redis")).when(couponIssueQueue).publish(any(CouponIssueMessage.class));
+
+        // when & then
+        assertThrows(IllegalStateException.class, () -> issuedCouponService.issueCouponAsync(authUser, couponId));
+        verify(couponStockRedisRepository).cancel(couponId, authUser.getUserId());
+        verify(couponWaitingRoomService).release(stripedCoupon, authUser.getUserId());
+        verify(couponWaitingRoomService, never()).complete(any(), any());
+    }
+
+    @Test
+    void 내_쿠폰_커서_조회_시_마지막_쿠폰_id로_다음_커서_생성() {
+        // given
+        IssuedCouponResponseDto first = new IssuedCouponResponseDto(20L, "SERIAL0020", Status.VALID, "닉네임", "이벤트",
+                coupon.getStartDate(), coupon.getEndDate());
+        IssuedCouponResponseDto second = new IssuedCouponResponseDto(15L, "SERIAL0015", Status.VALID, "닉네임", "이벤트",
+                coupon.getStartDate(), coupon.getEndDate());
+        given(issuedCouponRepository.findMyCouponsSliceAfter(eq(authUser.getUserId()), eq(Status.VALID), eq(30L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(first, second), PageRequest.of(0, 2), true));
+
+        // when
+        CursorResponse<IssuedCouponResponseDto> result =
+                issuedCouponService.getMyCouponsByCursor(authUser, CursorCodec.encode(30L), 2);
+
+        // then
+        assertEquals(2, result.getSize());
+        assertTrue(result.isHasNext());
+        assertEquals(CursorCodec.encode(15L), result.getNextCursor());
+    }
+
+    @Test
+    void 잘못된_커서로_내_쿠폰_조회_실패() {
+        // when & then
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> issuedCouponService.getMyCouponsByCursor(authUser, CursorCodec.encode(1L, 2L), 10));
+        assertEquals(ErrorMessage.INVALID_CURSOR.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    void 발급_완료된_티켓_조회_성공() {
+        // given
+        given(couponIssueQueue.findTicket("ticket")).willReturn(Map.of(
+                "status", "ISSUED",
+                "userId", "1",
+                "couponId", "1",
+                "serialCode", "ABCDE12345"
+        ));
+
+        // when
+        CouponIssueTicketResponseDto result = issuedCouponService.getIssueTicket(authUser, "ticket");
+
+        // then
+        assertEquals(TicketStatus.ISSUED, result.getStatus());
+        assertEquals("ABCDE12345", result.getSerialCode());
+    }
+
+    @Test
+    void 다른_사용자의_티켓_조회_실패() {
+        // given
+        given(couponIssueQueue.findTicket("ticket")).willReturn(Map.of(
+                "status", "PENDING",
+                "userId", "2",
+                "couponId", "1",
+                "serialCode", "ABCDE12345"
+        ));
+
+        // when & then
+        assertThrows(ForbiddenException.class, () -> issuedCouponService.getIssueTicket(authUser, "ticket"));
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.eightyage.domain.product.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ProductNameIndexTest {
+
+    private ProductNameIndex productNameIndex;
+
+    @BeforeEach
+    void setUp() {
+        productNameIndex = new ProductNameIndex();
+        productNameIndex.add(1L, "8자 주름 스킨");
+        productNameIndex.add(2L, "8자 주름 향수");
+        productNameIndex.add(3L, "Perfect SKIN Toner");
+        productNameIndex.add(4L, "Crème Visage");
+        productNameIndex.add(5L, "Straße Bødy Oil");
+        productNameIndex.add(6L, "ヒアルロン セラム");
+        productNameIndex.markReady();
+    }
+
+    @Test
+    void 한글_부분_문자열_후보_조회_성공() {
+        // when
+        Optional<List<Long>> candidateIds = productNameIndex.findCandidateIds("자 주름", 100);
+
+        // then
+        assertThat(candidateIds).isPresent();
+        assertThat(candidateIds.get()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 대소문자_악센트_무시_후보_조회_성공() {
+        // when
+        Optional<List<Long>> skin = productNameIndex.findCandidateIds("skin", 100);
+        Optional<List<Long>> creme = productNameIndex.findCandidateIds("CREME", 100);
+
+        // then
+        assertThat(skin.get()).containsExactly(3L);
+        assertThat(creme.get()).containsExactly(4L);
+    }
+
+    @Test
+    void 전각_반각_문자_무시_후보_조회_성공() {
+        // when
+        Optional<List<Long>> fullWidth = productNameIndex.findCandidateIds("ＳＫＩＮ", 100);
+        Optional<List<Long>> halfWidthKana = productNameIndex.findCandidateIds("ﾋｱﾙﾛﾝ", 100);
+
+        // then
+        assertThat(fullWidth.get()).containsExactly(3L);
+        assertThat(halfWidthKana.get()).containsExactly(6L);
+    }
+
+    @Test
+    void 결합_악센트와_분해되지_않는_문자도_접어서_후보_조회_성공() {
+        // when
+        Optional<List<Long>> combiningAccent = productNameIndex.findCandidateIds("cre\u0300me", 100);
+        Optional<List<Long>> sharpS = productNameIndex.findCandidateIds("STRASSE", 100);
+        Optional<List<Long>> slashedO = productNameIndex.findCandidateIds("body", 100);
+        Optional<List<Long>> hiragana = productNameIndex.findCandidateIds("ひあるろん", 100);
+
+        // then
+        assertThat(combiningAccent.get()).containsExactly(4L);
+        assertThat(sharpS.get()).containsExactly(5L);
+        assertThat(slashedO.get()).containsExactly(5L);
+        assertThat(hiragana.get()).containsExactly(6L);
+    }
+
+    @Test
+    void 정규화는_collation이_같게_보는_문자열을_같게_만듦() {
+        assertThat(ProductNameIndex.normalize("Ｃｒèｍｅ")).isEqualTo(ProductNameIndex.normalize("CREME"));
+        assertThat(ProductNameIndex.normalize("Æsop")).isEqualTo("aesop");
+        assertThat(ProductNameIndex.normalize("セラム")).isEqualTo(ProductNameIndex.normalize("ｾﾗﾑ"));
+    }
+
+    @Test
+    void collation이_무시하는_서식_문자는_빼고_후보_조회_성공() {
+        // given
+        productNameIndex.add(7L, "수분\u00AD크림");
+
+        // when
+        Optional<List<Long>> softHyphenName = productNameIndex.findCandidateIds("분크", 100);
+        Optional<List<Long>> zeroWidthKeyword = productNameIndex.findCandidateIds("sk\u200Din", 100);
+
+        // then
+        assertThat(softHyphenName.get()).containsExactly(7L);
+        assertThat(zeroWidthKeyword.get()).containsExactly(3L);
+    }
+
+    @Test
+    void 정규화가_다루지_않는_문자가_든_키워드는_색인_미사용() {
+        assertThat(productNameIndex.findCandidateIds("σέρουμ", 100)).isEmpty();
+        assertThat(productNameIndex.findCandidateIds("ローション", 100)).isEmpty();
+        assertThat(productNameIndex.findCandidateIds("ㅈㄹ", 100)).isEmpty();
+        assertThat(productNameIndex.findCandidateIds("skin\tcare", 100)).isEmpty();
+    }
+
+    @Test
+    void 정규화_결과가_색인이_다루는_문자_범위인지_판단() {
+        assertThat(ProductNameIndex.isFoldingSupported(ProductNameIndex.normalize("8자 주름 Crème"))).isTrue();
+        assertThat(ProductNameIndex.isFoldingSupported(ProductNameIndex.normalize("ﾋｱﾙﾛﾝ 化粧水"))).isTrue();
+        assertThat(ProductNameIndex.isFoldingSupported(ProductNameIndex.normalize("ς"))).isFalse();
+        assertThat(ProductNameIndex.isFoldingSupported(ProductNameIndex.normalize("ŋ"))).isFalse();
+    }
+
+    @Test
+    void 일치하는_제품이_없으면_빈_후보() {
+        // when
+        Optional<List<Long>> candidateIds = productNameIndex.findCandidateIds("립스틱", 100);
+
+        // then
+        assertThat(candidateIds).contains(List.of());
+    }
+
+    @Test
+    void 이름_변경_후_이전_이름으로_조회되지_않음() {
+        // when
+        productNameIndex.replace(2L, "8자 주름 향수", "8자 주름 로션");
+
+        // then
+        assertThat(productNameIndex.findCandidateIds("름 향수", 100).get()).isEmpty();
+        assertThat(productNameIndex.findCandidateIds("주름 향수", 100).get()).isEmpty();
+        assertThat(productNameIndex.findCandidateIds("주름 로션", 100).get()).containsExactly(2L);
+        assertThat(productNameIndex.findCandidateIds("자 주름", 100).get()).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void 삭제된_제품은_조회되지_않음() {
+        // when
+        productNameIndex.remove(1L, "8자 주름 스킨");
+
+        // then
+        assertThat(productNameIndex.findCandidateIds("자 주름", 100).get()).containsExactly(2L);
+    }
+
+    @Test
+    void 두_글자_키워드는_bigram으로_후보_조회_성공() {
+        // when
+        Optional<List<Long>> wrinkle = productNameIndex.findCandidateIds("주름", 100);
+        Optional<List<Long>> skin = productNameIndex.findCandidateIds("스킨", 100);
+        Optional<List<Long>> oil = productNameIndex.findCandidateIds("OI", 100);
+
+        // then
+        assertThat(wrinkle.get()).containsExactly(1L, 2L);
+        assertThat(skin.get()).containsExactly(1L);
+        assertThat(oil.get()).containsExactly(5L);
+    }
+
+    @Test
+    void 이름_변경_후_이전_이름의_bigram으로_조회되지_않음() {
+        // when
+        productNameIndex.replace(2L, "8자 주름 향수", "8자 주름 로션");
+
+        // then
+        assertThat(productNameIndex.findCandidateIds("향수", 100).get()).isEmpty();
+        assertThat(productNameIndex.findCandidateIds("로션", 100).get()).containsExactly(2L);
+    }
+
+    @Test
+    void 한_글자_키워드나_LIKE_특수문자는_색인_미사용() {
+        assertThat(productNameIndex.findCandidateIds("킨", 100)).isEmpty();
+        assertThat(productNameIndex.findCandidateIds("주름%스킨", 100)).isEmpty();
+        assertThat(productNameIndex.findCandidateIds("8자_주름", 100)).isEmpty();
+    }
+
+    @Test
+    void 후보가_최대치를_넘으면_색인_미사용() {
+        assertThat(productNameIndex.findCandidateIds("자 주름", 1)).isEmpty();
+    }
+}
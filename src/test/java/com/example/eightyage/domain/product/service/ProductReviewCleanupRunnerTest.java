@@ -0,0 +1,81 @@
+package com.example.eightyage.domain.product.service;
+
+import com.example.eightyage.domain.product.dto.response.ProductReviewCleanupResponseDto;
+import com.example.eightyage.domain.product.repository.ProductBulkRepository;
+import com.example.eightyage.domain.review.repository.ReviewBulkRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProductReviewCleanupRunnerTest {
+
+    @Mock
+    private ReviewBulkRepository reviewBulkRepository;
+
+    @Mock
+    private ProductBulkRepository productBulkRepository;
+
+    @Mock
+    private ProductReviewStatsService productReviewStatsService;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ProductReviewCleanupRunner productReviewCleanupRunner;
+
+    @BeforeEach
+    void setUp() {
+        productReviewCleanupRunner = new ProductReviewCleanupRunner(reviewBulkRepository, productBulkRepository,
+                productReviewStatsService, meterRegistry, 2, 0);
+    }
+
+    @Test
+    void 묶음보다_적게_삭제될_때까지_나눠_삭제하고_별점_분포_초기화_후_삭제_수_기록_제거() {
+        // given
+        given(reviewBulkRepository.deleteReviewsByProductId(1L, 2)).willReturn(2, 2, 1);
+        given(reviewBulkRepository.countReviewsByProductId(1L)).willReturn(0L);
+
+        // when
+        productReviewCleanupRunner.run(1L);
+
+        // then
+        verify(reviewBulkRepository, times(3)).deleteReviewsByProductId(1L, 2);
+        verify(productReviewStatsService).rebuildReviewStats(1L);
+
+        ProductReviewCleanupResponseDto progress = productReviewCleanupRunner.getProgress(1L);
+        assertThat(progress.getDeletedCount()).isZero();
+        assertThat(progress.getRemainingCount()).isZero();
+        assertThat(progress.isRunning()).isFalse();
+        assertThat(meterRegistry.get("product.review-cleanup.deleted").counter().count()).isEqualTo(5);
+    }
+
+    @Test
+    void 삭제_중_실패하면_삭제한_수까지_기록하고_중단() {
+        // given
+        given(reviewBulkRepository.deleteReviewsByProductId(1L, 2))
+                .willReturn(2)
+                .willThrow(new QueryTimeoutException("lock wait timeout"));
+        given(reviewBulkRepository.countReviewsByProductId(1L)).willReturn(3L);
+
+        // when
+        productReviewCleanupRunner.run(1L);
+
+        // then
+        verify(productReviewStatsService, never()).rebuildReviewStats(1L);
+
+        ProductReviewCleanupResponseDto progress = productReviewCleanupRunner.getProgress(1L);
+        assertThat(progress.getDeletedCount()).isEqualTo(2);
+        assertThat(progress.getRemainingCount()).isEqualTo(3);
+        assertThat(progress.isRunning()).isFalse();
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.eightyage.domain.product.service;
+
+import com.example.eightyage.domain.product.dto.response.ProductReviewStatsResponseDto;
+import com.example.eightyage.domain.product.repository.ProductBulkRepository;
+import com.example.eightyage.domain.product.repository.ProductReviewStatsBulkRepository;
+import com.example.eightyage.global.cache.LayeredCache;
+import com.example.eightyage.global.exception.NotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Callable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ProductReviewStatsServiceTest {
+
+    @Mock
+    private ProductBulkRepository productBulkRepository;
+
+    @Mock
+    private ProductReviewStatsBulkRepository productReviewStatsBulkRepository;
+
+    @Mock
+    private LayeredCache productReviewStatsCache;
+
+    private ProductReviewStatsService productReviewStatsService;
+
+    @BeforeEach
+    void setUp() {
+        productReviewStatsService = new ProductReviewStatsService(productBulkRepository,
+                productReviewStatsBulkRepository, productReviewStatsCache);
+    }
+
+    @Test
+    void 리뷰_작성_시_별점_구간_개수_증가() {
+        // when
+        productReviewStatsService.applyReviewScore(1L, null, 4.5);
+
+        // then
+        verify(productReviewStatsBulkRepository).applyDelta(eq(1L), aryEq(new long[]{0, 0, 0, 0, 1}));
+        verify(productReviewStatsCache).evict("1");
+    }
+
+    @Test
+    void 리뷰_수정_시_이전_별점_구간에서_새_구간으로_개수_이동() {
+        // when
+        productReviewStatsService.applyReviewScore(1L, 5.0, 1.0);
+
+        // then
+        verify(productReviewStatsBulkRepository).applyDelta(eq(1L), aryEq(new long[]{1, 0, 0, 0, -1}));
+    }
+
+    @Test
+    void 리뷰_삭제_시_별점_구간_개수_감소() {
+        // when
+        productReviewStatsService.applyReviewScore(1L, 3.0, null);
+
+        // then
+        verify(productReviewStatsBulkRepository).applyDelta(eq(1L), aryEq(new long[]{0, 0, -1, 0, 0}));
+    }
+
+    @Test
+    void 캐시에_있는_분포는_제품_조회_없이_반환() {
+        // given
+        ProductReviewStatsResponseDto cached = ProductReviewStatsResponseDto.of(1L, List.of(0L, 0L, 0L, 0L, 1L), 1, 5.0);
+        given(productReviewStatsCache.get(eq("1"), any(Callable.class))).willReturn(cached);
+
+        // when
+        ProductReviewStatsResponseDto stats = productReviewStatsService.getReviewStats(1L);
+
+        // then
+        assertThat(stats).isSameAs(cached);
+        verifyNoInteractions(productReviewStatsBulkRepository);
+    }
+
+    @Test
+    void 캐시에_없고_제품도_없으면_예외() {
+        // given
+        given(productReviewStatsCache.get(eq("1"), any(Callable.class)))
+                .willAnswer(invocation -> ((Callable<?>) invocation.getArgument(1)).call());
+        given(productReviewStatsBulkRepository.findReviewStats(1L)).willReturn(Optional.empty());
+
+        // when & then
+        assertThrows(NotFoundException.class, () -> productReviewStatsService.getReviewStats(1L));
+    }
+}
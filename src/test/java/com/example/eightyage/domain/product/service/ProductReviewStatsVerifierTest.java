@@ -0,0 +1,132 @@
+package com.example.eightyage.domain.product.service;
+
+import com.example.eightyage.domain.product.dto.ProductReviewAggregateDto;
+import com.example.eightyage.domain.product.repository.ProductBulkRepository;
+import com.example.eightyage.domain.product.repository.ProductReviewStatsBulkRepository;
+import com.example.eightyage.global.cache.LayeredCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProductReviewStatsVerifierTest {
+
+    @Mock
+    private ProductBulkRepository productBulkRepository;
+
+    @Mock
+    private ProductReviewStatsBulkRepository productReviewStatsBulkRepository;
+
+    @Mock
+    private LayeredCache productReviewStatsCache;
+
+    @Mock
+    private LayeredCache productSearchCache;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private ProductReviewStatsVerifier productReviewStatsVerifier;
+
+    private final ProductReviewAggregateDto stored = new ProductReviewAggregateDto(List.of(0L, 0L, 0L, 1L, 1L), 2, 9.0);
+    private final ProductReviewAggregateDto expected = new ProductReviewAggregateDto(List.of(0L, 0L, 0L, 0L, 2L), 2, 9.0);
+
+    @BeforeEach
+    void setUp() {
+        productReviewStatsVerifier = new ProductReviewStatsVerifier(productBulkRepository, productReviewStatsBulkRepository,
+                productReviewStatsCache, productSearchCache, meterRegistry);
+
+        given(productBulkRepository.findMinProductId()).willReturn(1L);
+        given(productBulkRepository.findMaxProductId()).willReturn(2L);
+    }
+
+    @Test
+    void 처음_보인_분포_차이는_다시_쓰지_않고_차이만_기록() {
+        // given
+        given(productReviewStatsBulkRepository.findStoredAggregates(1L, 2L)).willReturn(Map.of(1L, stored));
+        given(productReviewStatsBulkRepository.aggregateFromReviews(1L, 2L)).willReturn(Map.of(1L, expected));
+
+        // when
+        productReviewStatsVerifier.verify();
+
+        // then
+        verify(productReviewStatsBulkRepository, never()).rebuild(anyLong());
+        assertThat(meterRegistry.get("product.review-stats.drift").gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get("product.review-stats.repaired").counter().count()).isZero();
+    }
+
+    @Test
+    void 두_번_연속_보인_분포_차이는_리뷰_기준으로_다시_계산() {
+        // given
+        given(productReviewStatsBulkRepository.findStoredAggregates(1L, 2L)).willReturn(Map.of(1L, stored));
+        given(productReviewStatsBulkRepository.aggregateFromReviews(1L, 2L)).willReturn(Map.of(1L, expected));
+        productReviewStatsVerifier.verify();
+
+        // when
+        productReviewStatsVerifier.verify();
+
+        // then
+        verify(productReviewStatsBulkRepository).rebuild(1L);
+        verify(productBulkRepository, never()).backfillReviewStats(anyLong(), anyLong());
+        verify(productReviewStatsCache).evict("1");
+        verify(productSearchCache, never()).clear();
+        assertThat(meterRegistry.get("product.review-stats.repaired").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 두_번_연속_보인_리뷰_개수와_점수_합계_차이는_제품_집계를_다시_계산하고_검색_캐시를_비움() {
+        // given
+        ProductReviewAggregateDto storedTotals = new ProductReviewAggregateDto(List.of(0L, 0L, 0L, 0L, 2L), 3, 12.0);
+        given(productReviewStatsBulkRepository.findStoredAggregates(1L, 2L)).willReturn(Map.of(1L, storedTotals));
+        given(productReviewStatsBulkRepository.aggregateFromReviews(1L, 2L)).willReturn(Map.of(1L, expected));
+        productReviewStatsVerifier.verify();
+
+        // when
+        productReviewStatsVerifier.verify();
+
+        // then
+        verify(productBulkRepository).backfillReviewStats(1L, 1L);
+        verify(productReviewStatsBulkRepository, never()).rebuild(anyLong());
+        verify(productReviewStatsCache).evict("1");
+        verify(productSearchCache).clear();
+        assertThat(meterRegistry.get("product.review-stats.repaired").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 점수_합계의_누적_오차는_차이로_보지_않음() {
+        // given
+        ProductReviewAggregateDto accumulated = new ProductReviewAggregateDto(List.of(0L, 0L, 0L, 0L, 2L), 2, 9.0 + 1e-9);
+        given(productReviewStatsBulkRepository.findStoredAggregates(1L, 2L)).willReturn(Map.of(1L, accumulated));
+        given(productReviewStatsBulkRepository.aggregateFromReviews(1L, 2L)).willReturn(Map.of(1L, expected));
+
+        // when
+        productReviewStatsVerifier.verify();
+
+        // then
+        assertThat(meterRegistry.get("product.review-stats.drift").gauge().value()).isZero();
+    }
+
+    @Test
+    void 리뷰가_없는데_남은_집계는_차이로_판단() {
+        // given
+        given(productReviewStatsBulkRepository.findStoredAggregates(1L, 2L)).willReturn(Map.of(1L, stored));
+        given(productReviewStatsBulkRepository.aggregateFromReviews(1L, 2L)).willReturn(Map.of());
+
+        // when
+        productReviewStatsVerifier.verify();
+
+        // then
+        assertThat(meterRegistry.get("product.review-stats.drift").gauge().value()).isEqualTo(1);
+    }
+}
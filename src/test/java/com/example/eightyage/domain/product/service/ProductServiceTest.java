@@ -3,20 +3,29 @@ package com.example.eightyage.domain.product.service;
 import com.example.eightyage.domain.product.dto.request.ProductSaveRequestDto;
 import com.example.eightyage.domain.product.dto.request.ProductUpdateRequestDto;
 import com.example.eightyage.domain.product.dto.response.ProductGetResponseDto;
+import com.example.eightyage.domain.product.dto.response.ProductReviewStatsResponseDto;
 import com.example.eightyage.domain.product.dto.response.ProductSaveResponseDto;
+import com.example.eightyage.domain.product.dto.response.ProductSearchResponseDto;
 import com.example.eightyage.domain.product.dto.response.ProductUpdateResponseDto;
 import com.example.eightyage.domain.product.category.Category;
 import com.example.eightyage.domain.product.entity.Product;
+import com.example.eightyage.domain.product.index.ProductNameIndex;
 import com.example.eightyage.domain.product.repository.ProductImageRepository;
 import com.example.eightyage.domain.product.salestate.SaleState;
 import com.example.eightyage.domain.product.repository.ProductRepository;
 import com.example.eightyage.domain.review.entity.Review;
-import com.example.eightyage.domain.review.repository.ReviewRepository;
+import com.example.eightyage.global.cache.LayeredCache;
+import com.example.eightyage.global.dto.CursorResponse;
+import com.example.eightyage.global.exception.BadRequestException;
+import com.example.eightyage.global.util.CursorCodec;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -24,6 +33,7 @@ import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
@@ -40,7 +50,16 @@ class ProductServiceTest {
     ProductImageRepository productImageRepository;
 
     @Mock
-    ReviewRepository reviewRepository;
+    ProductNameIndex productNameIndex;
+
+    @Mock
+    LayeredCache productSearchCache;
+
+    @Mock
+    ProductReviewStatsService productReviewStatsService;
+
+    @Mock
+    ProductReviewCleanupRunner productReviewCleanupRunner;
 
     @InjectMocks
     ProductService productService;
@@ -76,7 +95,7 @@ class ProductServiceTest {
         reviewList.add(review1);
         reviewList.add(review2);
 
-        Product product = new Product(1L, "8자 주름 스킨", Category.SKINCARE, "8자 주름을 1자로 펴주는 퍼펙트 스킨", 20000, SaleState.FOR_SALE, reviewList, null);
+        Product product = new Product(1L, "8자 주름 스킨", Category.SKINCARE, "8자 주름을 1자로 펴주는 퍼펙트 스킨", 20000, SaleState.FOR_SALE, 0L, 0.0, null, reviewList, null);
 
         given(productRepository.findById(any(Long.class))).willReturn(Optional.of(product));
 
@@ -100,12 +119,15 @@ class ProductServiceTest {
 
         given(productRepository.findById(any(Long.class))).willReturn(Optional.of(product));
         given(productImageRepository.findProductImageByProductId(any(Long.class))).willReturn(productImageList);
+        ProductReviewStatsResponseDto reviewStats = ProductReviewStatsResponseDto.of(productId, List.of(0L, 0L, 1L, 0L, 1L), 2, 4.0);
+        given(productReviewStatsService.getReviewStats(productId)).willReturn(reviewStats);
 
         // when
         ProductGetResponseDto responseDto = productService.getProductById(productId);
 
         // then
         assertThat(responseDto.getProductName()).isEqualTo(product.getName());
+        assertThat(responseDto.getReviewStats().getScoreAvg()).isEqualTo(4.0);
     }
 
     @Test
@@ -113,18 +135,52 @@ class ProductServiceTest {
         // given
         Long productId = 1L;
 
-        List<Review> reviewList = new ArrayList<>();
-        reviewList.add(review1);
-        reviewList.add(review2);
-
         given(productRepository.findById(any(Long.class))).willReturn(Optional.of(product));
-        given(reviewRepository.findReviewsByProductId(any(Long.class))).willReturn(reviewList);
 
         // when
         productService.deleteProduct(productId);
 
         // then
-        verify(reviewRepository, times(1)).deleteAll(reviewList);
         verify(product, times(1)).deleteProduct();
+        verify(productReviewCleanupRunner, times(1)).submit(productId);
+    }
+
+    @Test
+    void 제품_커서_조회_다음_커서_생성_성공(){
+        // given
+        List<ProductSearchResponseDto> content = List.of(
+                new ProductSearchResponseDto(3L, "8자 주름 스킨", Category.SKINCARE, 20000, null),
+                new ProductSearchResponseDto(7L, "8자 주름 향수", Category.FRAGRANCE, 50000, 4.5)
+        );
+        given(productRepository.findProductsFirstSlice(any(), any(), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(content, PageRequest.of(0, 2), true));
+
+        // when
+        CursorResponse<ProductSearchResponseDto> firstPage = productService.getProductsByCursorV1(null, null, null, 2);
+
+        // then
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getNextCursor()).isEqualTo(CursorCodec.encode(4.5, 7L));
+    }
+
+    @Test
+    void 제품_커서_조회_다음_페이지_성공(){
+        // given
+        String cursor = CursorCodec.encode(4.5, 7L);
+        given(productRepository.findProductsSliceAfter(any(), any(), eq(4.5), eq(7L), any(Pageable.class)))
+                .willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 2), false));
+
+        // when
+        CursorResponse<ProductSearchResponseDto> nextPage = productService.getProductsByCursorV1(null, null, cursor, 2);
+
+        // then
+        assertThat(nextPage.isHasNext()).isFalse();
+        assertThat(nextPage.getNextCursor()).isNull();
+    }
+
+    @Test
+    void 제품_커서_조회_잘못된_커서_실패(){
+        // when & then
+        assertThrows(BadRequestException.class, () -> productService.getProductsByCursorV1(null, null, "잘못된커서", 10));
     }
-}
\ No newline at end of file
+}
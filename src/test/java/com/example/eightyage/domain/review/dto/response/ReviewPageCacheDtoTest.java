@@ -0,0 +1,33 @@
+package com.example.eightyage.domain.review.dto.response;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReviewPageCacheDtoTest {
+
+    // CacheConfig의 리뷰 페이지 캐시 serializer와 같은 설정
+    private final Jackson2JsonRedisSerializer<ReviewPageCacheDto> serializer =
+            new Jackson2JsonRedisSerializer<>(new ObjectMapper().registerModule(new JavaTimeModule()), ReviewPageCacheDto.class);
+
+    @Test
+    void 캐시에_저장한_리뷰_페이지를_그대로_읽음() {
+        // given
+        LocalDateTime createdAt = LocalDateTime.of(2025, 4, 1, 12, 0);
+        ReviewsGetResponseDto review = new ReviewsGetResponseDto(3L, 1L, "이지은B", 5.0, "8자 주름을 펴줘요", createdAt, createdAt);
+        ReviewPageCacheDto page = new ReviewPageCacheDto(List.of(review), 1);
+
+        // when
+        ReviewPageCacheDto result = serializer.deserialize(serializer.serialize(page));
+
+        // then
+        assertThat(result.getTotalElements()).isEqualTo(1);
+        assertThat(result.getContent()).singleElement().usingRecursiveComparison().isEqualTo(review);
+    }
+}
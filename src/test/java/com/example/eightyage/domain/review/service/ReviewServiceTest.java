@@ -1,18 +1,26 @@
 package com.example.eightyage.domain.review.service;
 
 import com.example.eightyage.domain.product.entity.Product;
+import com.example.eightyage.domain.product.service.ProductReviewStatsService;
 import com.example.eightyage.domain.product.service.ProductService;
 import com.example.eightyage.domain.review.dto.request.ReviewSaveRequestDto;
 import com.example.eightyage.domain.review.dto.request.ReviewUpdateRequestDto;
+import com.example.eightyage.domain.review.dto.response.ReviewPageCacheDto;
 import com.example.eightyage.domain.review.dto.response.ReviewSaveResponseDto;
 import com.example.eightyage.domain.review.dto.response.ReviewUpdateResponseDto;
 import com.example.eightyage.domain.review.dto.response.ReviewsGetResponseDto;
 import com.example.eightyage.domain.review.entity.Review;
 import com.example.eightyage.domain.review.repository.ReviewRepository;
+import com.example.eightyage.domain.review.reviewsort.ReviewSort;
 import com.example.eightyage.domain.user.entity.User;
 import com.example.eightyage.domain.user.service.UserService;
 import com.example.eightyage.domain.user.userrole.UserRole;
+import com.example.eightyage.global.cache.LayeredCache;
+import com.example.eightyage.global.dto.CursorResponse;
+import com.example.eightyage.global.exception.BadRequestException;
+import com.example.eightyage.global.exception.ErrorMessage;
 import com.example.eightyage.global.exception.UnauthorizedException;
+import com.example.eightyage.global.util.CursorCodec;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
@@ -21,11 +29,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -44,6 +56,12 @@ class ReviewServiceTest {
     @Mock
     ProductService productService;
 
+    @Mock
+    ProductReviewStatsService productReviewStatsService;
+
+    @Mock
+    LayeredCache reviewPageCache;
+
     @InjectMocks
     ReviewService reviewService;
 
@@ -73,6 +91,10 @@ class ReviewServiceTest {
 
         // then
         assertEquals(requestDto.getContent(), responseDto.getContent());
+        verify(productService, times(1)).applyReviewScore(productId, 1, 5.0);
+        verify(productReviewStatsService, times(1)).applyReviewScore(productId, null, 5.0);
+        verify(reviewPageCache, times(1)).evict("1:SCORE");
+        verify(reviewPageCache, times(1)).evict("1:NEWEST");
     }
 
     @Test
@@ -116,6 +138,8 @@ class ReviewServiceTest {
 
         // then
         assertEquals(requestDto.getContent(), responseDto.getContent());
+        verify(productService, times(1)).applyReviewScore(product.getId(), 0, -4.0);
+        verify(productReviewStatsService, times(1)).applyReviewScore(product.getId(), 5.0, 1.0);
     }
 
     @Test
@@ -123,17 +147,21 @@ class ReviewServiceTest {
         // given
         Long productId = 1L;
         PageRequest pageRequest = PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "score"));
+        Pageable pageable = pageRequest.withSort(Sort.by(Sort.Direction.DESC, "score").and(Sort.by(Sort.Direction.DESC, "id")));
 
-        Review review1 = new Review(1L, user, product, 5.0, "8자 주름을 펴줘요");
-        Review review2 = new Review(1L, user, product, 5.0, "8자 주름을 펴줘요");
+        ReviewsGetResponseDto review1 = new ReviewsGetResponseDto(2L, 1L, "이지은B", 5.0, "8자 주름을 펴줘요", null, null);
+        ReviewsGetResponseDto review2 = new ReviewsGetResponseDto(1L, 1L, "이지은B", 5.0, "8자 주름을 펴줘요", null, null);
 
-        List<Review> reviewList = new ArrayList<>();
+        List<ReviewsGetResponseDto> reviewList = new ArrayList<>();
         reviewList.add(review1);
         reviewList.add(review2);
 
-        Page<Review> reviewPage = new PageImpl<>(reviewList, pageRequest, reviewList.size());
+        Pageable cachedPageable = PageRequest.of(0, 50, pageable.getSort());
+        Page<ReviewsGetResponseDto> reviewPage = new PageImpl<>(reviewList, cachedPageable, reviewList.size());
 
-        when(reviewRepository.findByProductIdAndProductDeletedAtIsNull(any(Long.class), eq(pageRequest))).thenReturn(reviewPage);
+        given(reviewPageCache.get(eq("1:SCORE"), any(Callable.class)))
+                .willAnswer(invocation -> ((Callable<?>) invocation.getArgument(1)).call());
+        when(reviewRepository.findReviewPage(any(Long.class), eq(cachedPageable))).thenReturn(reviewPage);
 
         // when
         Page<ReviewsGetResponseDto> result = reviewService.getReviews(productId, pageRequest);
@@ -141,7 +169,57 @@ class ReviewServiceTest {
         // then
         assertNotNull(result);
         assertEquals(2, result.getContent().size());
-        verify(reviewRepository, times(1)).findByProductIdAndProductDeletedAtIsNull(any(Long.class), eq(pageRequest));
+        assertEquals(2, result.getTotalElements());
+        assertEquals("이지은B", result.getContent().get(0).getNickname());
+        verify(reviewRepository, times(1)).findReviewPage(any(Long.class), eq(cachedPageable));
+    }
+
+    @Test
+    void 리뷰_다건_조회_캐시_구간_밖은_count_쿼리_없이_목록만_조회(){
+        // given
+        Long productId = 1L;
+        PageRequest pageRequest = PageRequest.of(5, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Pageable pageable = pageRequest.withSort(Sort.by(Sort.Direction.DESC, "createdAt").and(Sort.by(Sort.Direction.DESC, "id")));
+
+        List<ReviewsGetResponseDto> cachedReviews = new ArrayList<>();
+        for (long id = 100; id > 50; id--) {
+            cachedReviews.add(new ReviewsGetResponseDto(id, 1L, "이지은B", 5.0, "8자 주름을 펴줘요", null, null));
+        }
+        ReviewsGetResponseDto review = new ReviewsGetResponseDto(50L, 1L, "이지은B", 4.0, "8자 주름을 펴줘요", null, null);
+
+        given(reviewPageCache.get(eq("1:NEWEST"), any(Callable.class))).willReturn(new ReviewPageCacheDto(cachedReviews, 100));
+        given(reviewRepository.findReviewList(productId, pageable)).willReturn(List.of(review));
+
+        // when
+        Page<ReviewsGetResponseDto> result = reviewService.getReviews(productId, pageRequest);
+
+        // then
+        assertEquals(100, result.getTotalElements());
+        assertEquals(50L, result.getContent().get(0).getId());
+        verify(reviewRepository, never()).findReviewPage(any(), any());
+    }
+
+    @Test
+    void 리뷰_다건_조회_캐시_구간_안은_DB_조회_없음(){
+        // given
+        Long productId = 1L;
+        PageRequest pageRequest = PageRequest.of(1, 10, Sort.by(Sort.Direction.DESC, "score"));
+
+        List<ReviewsGetResponseDto> cachedReviews = new ArrayList<>();
+        for (long id = 15; id > 0; id--) {
+            cachedReviews.add(new ReviewsGetResponseDto(id, 1L, "이지은B", 5.0, "8자 주름을 펴줘요", null, null));
+        }
+
+        given(reviewPageCache.get(eq("1:SCORE"), any(Callable.class))).willReturn(new ReviewPageCacheDto(cachedReviews, 15));
+
+        // when
+        Page<ReviewsGetResponseDto> result = reviewService.getReviews(productId, pageRequest);
+
+        // then
+        assertEquals(15, result.getTotalElements());
+        assertEquals(5, result.getContent().size());
+        assertEquals(5L, result.getContent().get(0).getId());
+        verifyNoInteractions(reviewRepository);
     }
 
     @Test
@@ -177,11 +255,51 @@ class ReviewServiceTest {
         given(userService.findUserByIdOrElseThrow(any())).willReturn(user);
         given(reviewRepository.findById(any())).willReturn(Optional.of(review));
         given(review.getUser()).willReturn(user);
+        given(review.getProduct()).willReturn(product);
+        given(review.getScore()).willReturn(5.0);
+        given(product.getId()).willReturn(1L);
 
         // when
         reviewService.deleteReview(userId, reviewId);
 
         // then
         verify(reviewRepository, times(1)).delete(review);
+        verify(productService, times(1)).applyReviewScore(1L, -1, -5.0);
+        verify(productReviewStatsService, times(1)).applyReviewScore(1L, 5.0, null);
+    }
+
+    @Test
+    void 리뷰_커서_조회_별점_순_다음_커서는_마지막_리뷰의_별점과_id(){
+        // given
+        Long productId = 1L;
+        ReviewsGetResponseDto review1 = new ReviewsGetResponseDto(3L, 1L, "이지은B", 5.0, "8자 주름을 펴줘요", null, null);
+        ReviewsGetResponseDto review2 = new ReviewsGetResponseDto(2L, 1L, "이지은B", 4.0, "8자 주름을 펴줘요", null, null);
+        Slice<ReviewsGetResponseDto> slice = new SliceImpl<>(List.of(review1, review2), PageRequest.of(0, 2), true);
+
+        given(reviewRepository.findReviewsByScoreSliceAfter(productId, 5.0, 4L, PageRequest.of(0, 2))).willReturn(slice);
+
+        // when
+        CursorResponse<ReviewsGetResponseDto> result =
+                reviewService.getReviewsByCursor(productId, ReviewSort.SCORE, CursorCodec.encode(5.0, 4L), 2);
+
+        // then
+        assertTrue(result.isHasNext());
+        assertEquals(CursorCodec.encode(4.0, 2L), result.getNextCursor());
+    }
+
+    @Test
+    void 리뷰_커서_조회_최신_순_작성_시각_없는_커서는_거부(){
+        // when & then
+        BadRequestException exception = assertThrows(BadRequestException.class,
+                () -> reviewService.getReviewsByCursor(1L, ReviewSort.NEWEST, CursorCodec.encode(null, 7L), 10));
+        assertEquals(ErrorMessage.INVALID_CURSOR.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    void 지원하지_않는_리뷰_정렬은_거부(){
+        // when & then
+        BadRequestException exception = assertThrows(BadRequestException.class, () -> ReviewSort.from("content"));
+        assertEquals(ErrorMessage.INVALID_REVIEW_SORT.getMessage(), exception.getMessage());
+        assertEquals(ReviewSort.NEWEST, ReviewSort.from("createdAt"));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,122 @@
+package com.example.eightyage.domain.search.service;
+
+import com.example.eightyage.domain.search.dto.PopularKeywordDto;
+import com.example.eightyage.domain.search.repository.SearchKeywordRollupBulkRepository;
+import com.example.eightyage.domain.search.repository.SearchKeywordRollupRepository;
+import com.example.eightyage.domain.search.repository.SearchLogRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchKeywordRollupServiceTest {
+
+    @Mock
+    private SearchLogRepository searchLogRepository;
+
+    @Mock
+    private SearchKeywordRollupRepository searchKeywordRollupRepository;
+
+    @Mock
+    private SearchKeywordRollupBulkRepository searchKeywordRollupBulkRepository;
+
+    @InjectMocks
+    private SearchKeywordRollupService searchKeywordRollupService;
+
+    @Test
+    void 집계_구간과_최근_로그를_합쳐_인기_검색어_조회() {
+        // given
+        LocalDateTime since = LocalDateTime.of(2025, 4, 1, 9, 30);
+        LocalDateTime from = LocalDateTime.of(2025, 4, 1, 9, 0);
+        LocalDateTime rolledUntil = LocalDateTime.of(2025, 4, 2, 11, 0);
+
+        given(searchKeywordRollupRepository.findLastBucketHour()).willReturn(Optional.of(rolledUntil.minusHours(1)));
+        given(searchKeywordRollupRepository.findKeywordCounts(from, rolledUntil)).willReturn(List.of(
+                new PopularKeywordDto("스킨", 5L),
+                new PopularKeywordDto("토너", 3L)
+        ));
+        given(searchLogRepository.findPopularKeywords(rolledUntil)).willReturn(List.of(
+                new PopularKeywordDto("토너", 4L),
+                new PopularKeywordDto("향수", 1L)
+        ));
+
+        // when
+        List<PopularKeywordDto> result = searchKeywordRollupService.findPopularKeywords(since);
+
+        // then
+        assertThat(result).extracting(PopularKeywordDto::getKeyword).containsExactly("토너", "스킨", "향수");
+        assertThat(result).extracting(PopularKeywordDto::getCount).containsExactly(7L, 5L, 1L);
+    }
+
+    @Test
+    void 집계가_없으면_로그에서만_인기_검색어_조회() {
+        // given
+        LocalDateTime since = LocalDateTime.of(2025, 4, 1, 9, 30);
+        LocalDateTime from = LocalDateTime.of(2025, 4, 1, 9, 0);
+
+        given(searchKeywordRollupRepository.findLastBucketHour()).willReturn(Optional.empty());
+        given(searchLogRepository.findPopularKeywords(from)).willReturn(List.of(new PopularKeywordDto("스킨", 2L)));
+
+        // when
+        List<PopularKeywordDto> result = searchKeywordRollupService.findPopularKeywords(since);
+
+        // then
+        assertThat(result).extracting(PopularKeywordDto::getKeyword).containsExactly("스킨");
+        verify(searchKeywordRollupRepository, never()).findKeywordCounts(any(), any());
+    }
+
+    @Test
+    void 로그가_있는_지난_시간_구간만_집계() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 4, 2, 12, 3);
+        LocalDateTime rolledUntil = LocalDateTime.of(2025, 4, 2, 8, 0);
+
+        given(searchKeywordRollupRepository.findLastBucketHour()).willReturn(Optional.of(rolledUntil.minusHours(1)));
+        // 마지막 집계 구간(7시)부터 다시 확인
+        given(searchLogRepository.findFirstSearchedAtFrom(rolledUntil.minusHours(1)))
+                .willReturn(Optional.of(LocalDateTime.of(2025, 4, 2, 9, 15)));
+        given(searchLogRepository.findFirstSearchedAtFrom(LocalDateTime.of(2025, 4, 2, 10, 0)))
+                .willReturn(Optional.of(LocalDateTime.of(2025, 4, 2, 11, 58)));
+
+        // when
+        int rolledHours = searchKeywordRollupService.rollupUntil(now);
+
+        // then
+        assertThat(rolledHours).isEqualTo(1);
+        verify(searchKeywordRollupBulkRepository).upsertHour(LocalDateTime.of(2025, 4, 2, 9, 0));
+        verifyNoMoreInteractions(searchKeywordRollupBulkRepository);
+    }
+
+    @Test
+    void 마지막_집계_구간을_다시_집계해_늦게_도착한_로그_반영() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 4, 2, 10, 20);
+        LocalDateTime lastBucketHour = LocalDateTime.of(2025, 4, 2, 9, 0);
+
+        given(searchKeywordRollupRepository.findLastBucketHour()).willReturn(Optional.of(lastBucketHour));
+        // 9시 구간 집계 이후 9시 59분 로그가 늦게 저장됨
+        given(searchLogRepository.findFirstSearchedAtFrom(lastBucketHour))
+                .willReturn(Optional.of(LocalDateTime.of(2025, 4, 2, 9, 59)));
+        given(searchLogRepository.findFirstSearchedAtFrom(LocalDateTime.of(2025, 4, 2, 10, 0)))
+                .willReturn(Optional.of(LocalDateTime.of(2025, 4, 2, 10, 1)));
+
+        // when
+        int rolledHours = searchKeywordRollupService.rollupUntil(now);
+
+        // then
+        assertThat(rolledHours).isEqualTo(1);
+        verify(searchKeywordRollupBulkRepository).upsertHour(lastBucketHour);
+        verifyNoMoreInteractions(searchKeywordRollupBulkRepository);
+    }
+}
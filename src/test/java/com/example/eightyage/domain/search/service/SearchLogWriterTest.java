@@ -0,0 +1,125 @@
+package com.example.eightyage.domain.search.service;
+
+import com.example.eightyage.domain.search.entity.SearchLog;
+import com.example.eightyage.domain.search.repository.SearchLogBulkRepository;
+import com.example.eightyage.domain.search.service.SearchLogWriter.OverflowPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchLogWriterTest {
+
+    private static final long FLUSH_INTERVAL_MILLIS = 60_000;
+
+    @Mock
+    private SearchLogBulkRepository searchLogBulkRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SearchLogWriter searchLogWriter;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        searchLogWriter.shutdown();
+    }
+
+    private SearchLogWriter createWriter(int capacity, int batchSize, OverflowPolicy overflowPolicy) {
+        return new SearchLogWriter(searchLogBulkRepository, transactionManager, meterRegistry,
+                capacity, batchSize, FLUSH_INTERVAL_MILLIS, overflowPolicy);
+    }
+
+    @Test
+    void 시작_전에는_바로_저장() {
+        // given
+        searchLogWriter = createWriter(10, 10, OverflowPolicy.DROP);
+
+        // when
+        searchLogWriter.enqueue("스킨");
+
+        // then
+        verify(searchLogBulkRepository).bulkInsertSearchLogs(argThat(logs -> logs.size() == 1));
+        assertThat(searchLogWriter.bufferSize()).isZero();
+    }
+
+    @Test
+    void batch_크기가_차면_한번에_저장() {
+        // given
+        searchLogWriter = createWriter(10, 3, OverflowPolicy.DROP);
+        searchLogWriter.start();
+
+        // when
+        searchLogWriter.enqueue("스킨");
+        searchLogWriter.enqueue("토너");
+        searchLogWriter.enqueue("향수");
+
+        // then
+        verify(searchLogBulkRepository, timeout(1000)).bulkInsertSearchLogs(argThat(logs -> logs.size() == 3));
+    }
+
+    @Test
+    void 버퍼가_가득_차면_DROP_정책으로_버림() {
+        // given
+        searchLogWriter = createWriter(2, 10, OverflowPolicy.DROP);
+        searchLogWriter.start();
+
+        // when
+        searchLogWriter.enqueue("스킨");
+        searchLogWriter.enqueue("토너");
+        searchLogWriter.enqueue("향수");
+
+        // then
+        assertThat(searchLogWriter.bufferSize()).isEqualTo(2);
+        assertThat(meterRegistry.counter("search.log.dropped").count()).isEqualTo(1.0);
+        verify(searchLogBulkRepository, never()).bulkInsertSearchLogs(anyList());
+    }
+
+    @Test
+    void 버퍼가_가득_차면_CALLER_RUNS_정책으로_바로_저장() {
+        // given
+        searchLogWriter = createWriter(1, 10, OverflowPolicy.CALLER_RUNS);
+        searchLogWriter.start();
+
+        // when
+        searchLogWriter.enqueue("스킨");
+        searchLogWriter.enqueue("토너");
+
+        // then
+        assertThat(searchLogWriter.bufferSize()).isEqualTo(1);
+        verify(searchLogBulkRepository).bulkInsertSearchLogs(argThat(logs -> logs.size() == 1 && "토너".equals(logs.get(0).getKeyword())));
+    }
+
+    @Test
+    void 종료_시_남은_로그_저장() throws InterruptedException {
+        // given
+        searchLogWriter = createWriter(10, 10, OverflowPolicy.DROP);
+        searchLogWriter.start();
+        searchLogWriter.enqueue("스킨");
+        searchLogWriter.enqueue("토너");
+
+        // when
+        searchLogWriter.shutdown();
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<SearchLog>> captor = ArgumentCaptor.forClass(List.class);
+        verify(searchLogBulkRepository, atLeastOnce()).bulkInsertSearchLogs(captor.capture());
+        assertThat(captor.getAllValues().stream().mapToInt(List::size).sum()).isEqualTo(2);
+        assertThat(searchLogWriter.bufferSize()).isZero();
+    }
+}
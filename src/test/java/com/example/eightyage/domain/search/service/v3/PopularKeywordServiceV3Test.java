@@ -0,0 +1,86 @@
+package com.example.eightyage.domain.search.service.v3;
+
+import com.example.eightyage.domain.search.dto.PopularKeywordDto;
+import com.example.eightyage.global.exception.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PopularKeywordServiceV3Test {
+
+    @Mock
+    private RedisTemplate<String, String> redisTemplate;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @InjectMocks
+    private PopularKeywordServiceV3 popularKeywordServiceV3;
+
+    private static final long CURRENT_MINUTE = 1000L;
+
+    @Test
+    void 합산_결과가_없으면_최근_N분_버킷을_합산() {
+        // given
+        String windowKey = KeywordRankingBuckets.windowKey(3);
+        Set<ZSetOperations.TypedTuple<String>> ranking = new LinkedHashSet<>();
+        ranking.add(new DefaultTypedTuple<>("스킨", 5.0));
+        ranking.add(new DefaultTypedTuple<>("토너", 2.0));
+
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRangeWithScores(windowKey, 0, 9)).willReturn(Set.of(), ranking);
+
+        // when
+        List<PopularKeywordDto> result = popularKeywordServiceV3.searchPopularKeywords(10, 3, CURRENT_MINUTE);
+
+        // then
+        verify(zSetOperations).unionAndStore(
+                KeywordRankingBuckets.bucketKey(1000L),
+                List.of(KeywordRankingBuckets.bucketKey(999L), KeywordRankingBuckets.bucketKey(998L)),
+                windowKey);
+        verify(redisTemplate).expire(eq(windowKey), any());
+        assertThat(result).extracting(PopularKeywordDto::getKeyword).containsExactly("스킨", "토너");
+        assertThat(result).extracting(PopularKeywordDto::getCount).containsExactly(5L, 2L);
+    }
+
+    @Test
+    void 합산_결과가_있으면_재사용() {
+        // given
+        String windowKey = KeywordRankingBuckets.windowKey(5);
+
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRangeWithScores(windowKey, 0, 9))
+                .willReturn(Set.of(new DefaultTypedTuple<>("스킨", 1.0)));
+
+        // when
+        List<PopularKeywordDto> result = popularKeywordServiceV3.searchPopularKeywords(10, 5, CURRENT_MINUTE);
+
+        // then
+        verify(zSetOperations, never()).unionAndStore(anyString(), anyList(), anyString());
+        assertThat(result).extracting(PopularKeywordDto::getKeyword).containsExactly("스킨");
+    }
+
+    @Test
+    void 조회_구간이_범위를_벗어나면_실패() {
+        // when & then
+        assertThatThrownBy(() -> popularKeywordServiceV3.searchPopularKeywords(10, 61, CURRENT_MINUTE))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
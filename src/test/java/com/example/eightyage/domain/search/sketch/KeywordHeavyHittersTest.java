@@ -0,0 +1,149 @@
+package com.example.eightyage.domain.search.sketch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordHeavyHittersTest {
+
+    private static final int TOTAL_SEARCHES = 200_000;
+    private static final int DISTINCT_KEYWORDS = 10_000;
+    private static final double ZIPF_EXPONENT = 1.1;
+
+    private static final double EPSILON = 0.0005;
+    private static final double DELTA = 0.01;
+    private static final int CAPACITY = 200;
+    private static final int STRIPES = 8;
+
+    private KeywordHeavyHitters keywordHeavyHitters;
+    private Map<String, Long> exactCounts;
+
+    @BeforeEach
+    void setUp() {
+        keywordHeavyHitters = new KeywordHeavyHitters(EPSILON, DELTA, CAPACITY, STRIPES);
+        exactCounts = new HashMap<>();
+
+        // Zipf 분포 검색어 생성 (고정 seed)
+        double[] cumulative = zipfCumulative(DISTINCT_KEYWORDS, ZIPF_EXPONENT);
+        Random random = new Random(42);
+        for (int i = 0; i < TOTAL_SEARCHES; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble());
+            String keyword = "keyword-" + (rank < 0 ? -rank - 1 : rank);
+
+            keywordHeavyHitters.add(keyword);
+            exactCounts.merge(keyword, 1L, Long::sum);
+        }
+    }
+
+    @Test
+    void 상위_10개_검색어가_실제_상위_10개와_일치() {
+        // when
+        List<String> estimatedTop = keywordHeavyHitters.topK(10).stream()
+                .map(SpaceSavingTopK.Entry::getItem)
+                .collect(Collectors.toList());
+
+        // then
+        List<String> exactTop = exactCounts.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .limit(10)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+        assertThat(estimatedTop).containsExactlyElementsOf(exactTop);
+    }
+
+    @Test
+    void 추정_횟수는_실제_이상이고_오차_한도_이내() {
+        // given
+        long maxError = (long) Math.ceil(EPSILON * TOTAL_SEARCHES);
+
+        // when
+        List<SpaceSavingTopK.Entry> topK = keywordHeavyHitters.topK(50);
+
+        // then
+        assertThat(topK).hasSize(50);
+        for (SpaceSavingTopK.Entry entry : topK) {
+            long exact = exactCounts.get(entry.getItem());
+            assertThat(entry.getCount()).isGreaterThanOrEqualTo(exact);
+            assertThat(entry.getCount() - exact).isLessThanOrEqualTo(maxError);
+            assertThat(entry.getCount() - entry.getError()).isLessThanOrEqualTo(exact);
+        }
+    }
+
+    @Test
+    void 전체의_1_capacity보다_많이_나온_검색어는_모두_후보에_포함() {
+        // given
+        long threshold = TOTAL_SEARCHES / CAPACITY;
+
+        // when
+        Set<String> candidates = keywordHeavyHitters.topK(CAPACITY).stream()
+                .map(SpaceSavingTopK.Entry::getItem)
+                .collect(Collectors.toSet());
+
+        // then
+        exactCounts.forEach((keyword, count) -> {
+            if (count > threshold) {
+                assertThat(candidates).contains(keyword);
+            }
+        });
+    }
+
+    @Test
+    void close_전에_받아들인_검색어는_모두_집계되고_이후_검색어는_거절() throws Exception {
+        // given
+        KeywordHeavyHitters interval = new KeywordHeavyHitters(EPSILON, DELTA, CAPACITY, STRIPES);
+        int threads = 4;
+        AtomicLong accepted = new AtomicLong();
+        AtomicBoolean rejected = new AtomicBoolean(false);
+        CountDownLatch started = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            int thread = t;
+            executor.submit(() -> {
+                started.countDown();
+                for (int i = 0; !rejected.get(); i++) {
+                    if (interval.add("keyword-" + (thread * 10 + i % 10))) {
+                        accepted.incrementAndGet();
+                    } else {
+                        rejected.set(true);
+                    }
+                }
+            });
+        }
+        started.await();
+        Thread.sleep(50);
+
+        // when
+        interval.close();
+        List<SpaceSavingTopK.Entry> topK = interval.topK(CAPACITY);
+        executor.shutdown();
+        executor.awaitTermination(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(interval.add("keyword-0")).isFalse();
+        assertThat(topK.stream().mapToLong(SpaceSavingTopK.Entry::getCount).sum()).isEqualTo(accepted.get());
+    }
+
+    private static double[] zipfCumulative(int size, double exponent) {
+        double[] cumulative = new double[size];
+        double sum = 0;
+        for (int rank = 0; rank < size; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+        for (int rank = 0; rank < size; rank++) {
+            cumulative[rank] /= sum;
+        }
+        return cumulative;
+    }
+}
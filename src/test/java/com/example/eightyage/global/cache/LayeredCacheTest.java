@@ -0,0 +1,106 @@
+package com.example.eightyage.global.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class LayeredCacheTest {
+
+    @Mock
+    Cache remoteCache;
+
+    @Mock
+    StringRedisTemplate stringRedisTemplate;
+
+    SimpleMeterRegistry meterRegistry;
+
+    LayeredCache layeredCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        layeredCache = new LayeredCache("test", Caffeine.newBuilder().maximumSize(10).build(), remoteCache, stringRedisTemplate, meterRegistry);
+    }
+
+    @Test
+    void L2_적중시_L1에_저장되어_두번째_조회는_L2를_거치지_않음() {
+        // given
+        given(remoteCache.get("key")).willReturn(new SimpleValueWrapper("value"));
+
+        // when
+        layeredCache.get("key");
+        Cache.ValueWrapper second = layeredCache.get("key");
+
+        // then
+        assertThat(second.get()).isEqualTo("value");
+        verify(remoteCache, times(1)).get("key");
+        assertThat(meterRegistry.get("cache.tier.gets").tags("tier", "l1", "result", "hit").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.tier.gets").tags("tier", "l2", "result", "hit").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void 적중률은_L1과_L2_적중을_합한_비율() {
+        // given
+        layeredCache.put("key", "value");
+
+        // when
+        layeredCache.get("key");
+        layeredCache.get("other");
+
+        // then
+        assertThat(meterRegistry.get("cache.hit.ratio").tags("cache", "test").gauge().value()).isEqualTo(0.5);
+    }
+
+    @Test
+    void 모두_미스면_로더_결과를_양쪽에_저장() {
+        // when
+        String value = layeredCache.get("key", () -> "loaded");
+
+        // then
+        assertThat(value).isEqualTo("loaded");
+        verify(remoteCache, times(1)).put("key", "loaded");
+        assertThat(layeredCache.get("key").get()).isEqualTo("loaded");
+    }
+
+    @Test
+    void 전체_무효화시_다른_인스턴스에_알림() {
+        // given
+        layeredCache.put("key", "value");
+
+        // when
+        layeredCache.clear();
+
+        // then
+        verify(remoteCache, times(1)).clear();
+        verify(stringRedisTemplate, times(1)).convertAndSend(LayeredCache.INVALIDATION_CHANNEL, "test|");
+    }
+
+    @Test
+    void 무효화_메시지_수신시_L1만_비움() {
+        // given
+        layeredCache.put("key", "value");
+        LayeredCacheInvalidationListener listener = new LayeredCacheInvalidationListener(List.of(layeredCache));
+
+        // when
+        listener.onMessage(new DefaultMessage("cache:invalidation".getBytes(), "test|key".getBytes()), null);
+
+        // then
+        assertThat(layeredCache.get("key")).isNull();
+        verify(remoteCache, never()).evict(any());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.eightyage.global.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DriftTrackerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final DriftTracker<Long> driftTracker = new DriftTracker<>(meterRegistry, "test");
+
+    @Test
+    void 직전_보정에서_표시한_대상만_차이가_있던_대상으로_판단() {
+        // given
+        driftTracker.start();
+        driftTracker.markDrifted(1L);
+        driftTracker.recordDrift(3);
+        driftTracker.finish();
+
+        // when
+        driftTracker.start();
+        boolean drifted = driftTracker.wasDrifted(1L);
+        driftTracker.finish();
+
+        // then
+        assertThat(drifted).isTrue();
+        assertThat(driftTracker.wasDrifted(1L)).isFalse();
+        assertThat(meterRegistry.get("test.drift").gauge().value()).isZero();
+    }
+
+    @Test
+    void 끝나지_않은_보정의_기록은_다음_보정에_남지_않음() {
+        // given
+        driftTracker.start();
+        driftTracker.markDrifted(1L);
+        driftTracker.recordDrift(3);
+
+        // when
+        driftTracker.start();
+        driftTracker.recordDrift(2);
+        driftTracker.finish();
+
+        // then
+        assertThat(driftTracker.wasDrifted(1L)).isFalse();
+        assertThat(meterRegistry.get("test.drift").gauge().value()).isEqualTo(2);
+    }
+}
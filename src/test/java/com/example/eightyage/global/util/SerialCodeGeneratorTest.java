@@ -0,0 +1,113 @@
+package com.example.eightyage.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SerialCodeGeneratorTest {
+
+    @Test
+    void 여러_스레드에서_생성해도_시리얼_코드_중복_없음() throws InterruptedException {
+        // given
+        AtomicLong sequence = new AtomicLong(1);
+        SerialCodeGenerator generator = new SerialCodeGenerator(size -> sequence.getAndAdd(size), 100);
+        Set<String> codes = ConcurrentHashMap.newKeySet();
+        int threads = 8;
+        int perThread = 50_000;
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                for (int j = 0; j < perThread; j++) {
+                    codes.add(generator.generate());
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+
+        // then
+        assertEquals(threads * perThread, codes.size());
+    }
+
+    @Test
+    void 재시작해도_영속_시퀀스에서_이어서_받아_이전_시리얼_코드와_겹치지_않음() {
+        // given
+        AtomicLong persistedSequence = new AtomicLong(1);
+        SerialCodeGenerator beforeRestart = new SerialCodeGenerator(size -> persistedSequence.getAndAdd(size), 100);
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < 150; i++) {
+            codes.add(beforeRestart.generate());
+        }
+
+        // when
+        SerialCodeGenerator afterRestart = new SerialCodeGenerator(size -> persistedSequence.getAndAdd(size), 100);
+        for (int i = 0; i < 150; i++) {
+            // then
+            assertTrue(codes.add(afterRestart.generate()));
+        }
+    }
+
+    @Test
+    void 일괄_생성은_시퀀스_구간을_한_번만_받고_개별_생성과_겹치지_않음() {
+        // given
+        AtomicLong sequence = new AtomicLong(1);
+        AtomicLong allocations = new AtomicLong();
+        SerialCodeGenerator generator = new SerialCodeGenerator(size -> {
+            allocations.incrementAndGet();
+            return sequence.getAndAdd(size);
+        }, 100);
+        Set<String> codes = new HashSet<>();
+
+        // when
+        codes.addAll(generator.generate(5_000));
+        codes.add(generator.generate());
+
+        // then
+        assertEquals(5_001, codes.size());
+        assertEquals(2, allocations.get());
+    }
+
+    @Test
+    void 시리얼_코드는_10자리_영문_대문자와_숫자() {
+        // when
+        String code = SerialCodeGenerator.encode(123_456_789L);
+
+        // then
+        assertEquals(SerialCodeGenerator.CODE_LENGTH, code.length());
+        assertTrue(code.matches("[0-9A-Z]{10}"));
+        assertTrue(SerialCodeGenerator.isValid(code));
+    }
+
+    @Test
+    void 한_글자가_바뀐_시리얼_코드는_검증_실패() {
+        // given
+        String code = SerialCodeGenerator.encode(42L);
+
+        // when & then
+        for (int i = 0; i < code.length(); i++) {
+            char replaced = code.charAt(i) == 'A' ? 'B' : 'A';
+            String typo = code.substring(0, i) + replaced + code.substring(i + 1);
+            assertFalse(SerialCodeGenerator.isValid(typo), typo);
+        }
+    }
+
+    @Test
+    void 연속된_시퀀스도_서로_다른_코드로_흩어짐() {
+        // when
+        String first = SerialCodeGenerator.encode(1L);
+        String second = SerialCodeGenerator.encode(2L);
+
+        // then
+        assertNotEquals(first.substring(0, 5), second.substring(0, 5));
+    }
+}